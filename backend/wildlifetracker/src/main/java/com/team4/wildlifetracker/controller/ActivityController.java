@@ -0,0 +1,79 @@
+package com.team4.wildlifetracker.controller;
+
+import com.team4.wildlifetracker.dto.LocationActivity;
+import com.team4.wildlifetracker.dto.SpeciesActivity;
+import com.team4.wildlifetracker.service.SpeciesActivityService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/activity")
+@CrossOrigin(origins = "*")
+public class ActivityController {
+
+    // Default windows when no from date is given
+    private static final int DEFAULT_DAYS = 30;
+    private static final int DEFAULT_WEEKS = 12;
+
+    private final SpeciesActivityService activityService;
+
+    public ActivityController(SpeciesActivityService activityService) {
+        this.activityService = activityService;
+    }
+
+    // GET /api/activity/daily?species=...&from=...&to=... - Sightings per species per day
+    // from/to are ISO dates, both inclusive; defaults to the last 30 days
+    @GetMapping("/daily")
+    public ResponseEntity<List<SpeciesActivity>> getDaily(
+            @RequestParam(required = false) String species,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(activityService.getDailyActivity(species, start, end));
+    }
+
+    // GET /api/activity/weekly?species=...&from=...&to=... - Sightings per species per week (Monday start)
+    // Defaults to the last 12 weeks
+    @GetMapping("/weekly")
+    public ResponseEntity<List<SpeciesActivity>> getWeekly(
+            @RequestParam(required = false) String species,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusWeeks(DEFAULT_WEEKS - 1);
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(activityService.getWeeklyActivity(species, start, end));
+    }
+
+    // GET /api/activity/locations?species=...&from=...&to=... - Sightings per location, most active first
+    // Defaults to the last 30 days
+    @GetMapping("/locations")
+    public ResponseEntity<List<LocationActivity>> getLocations(
+            @RequestParam(required = false) String species,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(activityService.getLocationActivity(species, start, end));
+    }
+
+    // POST /api/activity/backfill - Recompute all rollups from the sightings table
+    @PostMapping("/backfill")
+    public ResponseEntity<Map<String, Integer>> backfill() {
+        return ResponseEntity.ok(Map.of("rows", activityService.rebuild()));
+    }
+}
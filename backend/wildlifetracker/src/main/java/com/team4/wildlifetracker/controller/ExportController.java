@@ -0,0 +1,68 @@
+package com.team4.wildlifetracker.controller;
+
+import com.team4.wildlifetracker.service.SightingExportService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/sightings/export")
+@CrossOrigin(origins = "*")
+public class ExportController {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final SightingExportService exportService;
+
+    public ExportController(SightingExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    // GET /api/sightings/export?format=csv|ndjson|geojson&species=...&userId=...&from=...&to=...&gzip=true
+    // Streams the matching sightings as a download; from/to are ISO date-times, to is exclusive
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportSightings(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String species,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        SightingExportService.Format exportFormat;
+        try {
+            exportFormat = SightingExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String filename = "sightings." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                exportService.export(exportFormat, species, userId, from, to, compressed);
+                compressed.finish();
+            } else {
+                exportService.export(exportFormat, species, userId, from, to, out);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,26 @@
+package com.team4.wildlifetracker.controller;
+
+import com.team4.wildlifetracker.service.LiveUpdateService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/live")
+@CrossOrigin(origins = "*")
+public class LiveUpdateController {
+
+    private final LiveUpdateService liveUpdateService;
+
+    public LiveUpdateController(LiveUpdateService liveUpdateService) {
+        this.liveUpdateService = liveUpdateService;
+    }
+
+    // GET /api/live?userId=... - Server-Sent Events stream of sighting changes and the user's notifications
+    // Events: sighting.created, sighting.updated, sighting.deleted, notification, and resync when the
+    // client fell too far behind and should reload
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestParam(required = false) Long userId) {
+        return liveUpdateService.subscribe(userId);
+    }
+}
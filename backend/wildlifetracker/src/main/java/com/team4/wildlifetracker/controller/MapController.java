@@ -1,15 +1,53 @@
 package com.team4.wildlifetracker.controller;
 
+import com.team4.wildlifetracker.dto.MapCluster;
+import com.team4.wildlifetracker.service.HeatmapTileService;
+import com.team4.wildlifetracker.service.MapClusterService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/map")
 public class MapController {
 
+    private final MapClusterService mapClusterService;
+    private final HeatmapTileService heatmapTileService;
+
+    public MapController(MapClusterService mapClusterService, HeatmapTileService heatmapTileService) {
+        this.mapClusterService = mapClusterService;
+        this.heatmapTileService = heatmapTileService;
+    }
+
     // TODO: Add mapping/geo endpoints if needed later
     @GetMapping
     public ResponseEntity<?> mapPlaceholder() {
         return ResponseEntity.ok("Map endpoint placeholder, ready for future integration.");
     }
+
+    // GET /api/map/clusters?zoom=2 - one aggregated marker per grid cell
+    @GetMapping("/clusters")
+    public ResponseEntity<List<MapCluster>> getClusters(@RequestParam(defaultValue = "0") int zoom) {
+        if (zoom < 0 || zoom > MapClusterService.MAX_ZOOM) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(mapClusterService.getClusters(zoom));
+    }
+
+    // GET /api/map/heatmap/{zoom}/{x}/{y}.png - one 256px heatmap tile; zoom z has 2^z tiles per side
+    // Tiles change as sightings arrive, so clients revalidate with the ETag; unchanged tiles answer 304
+    @GetMapping(value = "/heatmap/{zoom}/{x}/{y}.png", produces = MediaType.IMAGE_PNG_VALUE)
+    public ResponseEntity<byte[]> getHeatmapTile(@PathVariable int zoom, @PathVariable int x, @PathVariable int y) {
+        if (!HeatmapTileService.isValidTile(zoom, x, y)) {
+            return ResponseEntity.badRequest().build();
+        }
+        HeatmapTileService.Tile tile = heatmapTileService.getTile(zoom, x, y);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(tile.getEtag())
+                .body(tile.getPng());
+    }
 }
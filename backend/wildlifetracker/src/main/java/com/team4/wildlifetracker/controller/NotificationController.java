@@ -1,6 +1,7 @@
 package com.team4.wildlifetracker.controller;
 
 import com.team4.wildlifetracker.dto.NotificationResponse;
+import com.team4.wildlifetracker.dto.PageResponse;
 import com.team4.wildlifetracker.model.User;
 import com.team4.wildlifetracker.service.NotificationService;
 import com.team4.wildlifetracker.service.UserService;
@@ -9,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -16,6 +18,8 @@ import java.util.Optional;
 @CrossOrigin(origins = "*")
 public class NotificationController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private NotificationService notificationService;
 
@@ -32,6 +36,35 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    // GET /api/notifications?userId=...&limit=20&cursor=...&unreadOnly=false - one inbox page, newest first
+    @GetMapping(params = "limit")
+    public ResponseEntity<PageResponse<NotificationResponse>> getInboxPage(
+            @RequestParam Long userId,
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean unreadOnly) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(notificationService.getInbox(userId, cursor, limit, unreadOnly));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // GET /api/notifications/unread-count?userId=... - badge count without loading the inbox
+    @GetMapping("/unread-count")
+    public ResponseEntity<Map<String, Long>> getUnreadCount(@RequestParam Long userId) {
+        return ResponseEntity.ok(Map.of("unread", notificationService.getUnreadCount(userId)));
+    }
+
+    // POST /api/notifications/read-all?userId=... - mark the whole inbox as read
+    @PostMapping("/read-all")
+    public ResponseEntity<Map<String, Integer>> markAllAsRead(@RequestParam Long userId) {
+        return ResponseEntity.ok(Map.of("updated", notificationService.markAllAsRead(userId)));
+    }
+
     @PostMapping("/{id}/read")
     public ResponseEntity<?> markAsRead(@PathVariable Long id) {
         notificationService.markAsRead(id);
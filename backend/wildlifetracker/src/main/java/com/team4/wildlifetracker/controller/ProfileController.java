@@ -121,18 +121,6 @@ public class ProfileController {
         return ResponseEntity.ok().build();
     }
 
-    /**
-     * Increment animals logged counter.
-     * POST /api/profiles/{userId}/increment-animals
-     */
-    @PostMapping("/{userId}/increment-animals")
-    public ResponseEntity<Void> incrementAnimalsLogged(@PathVariable Long userId) {
-        logger.info("POST request to increment animals logged for user: {}", userId);
-        
-        profileService.incrementAnimalsLogged(userId);
-        return ResponseEntity.ok().build();
-    }
-
     /**
      * Increment assists counter.
      * POST /api/profiles/{userId}/increment-assists
@@ -165,8 +153,8 @@ public class ProfileController {
                 profile.getId(),
                 profile.getUser().getId(),
                 profile.getUser().getUsername(),
-                profile.getAnimalsLogged(),
-                profile.getSpeciesSeen(),
+                profile.getUser().getTotalAnimalsLogged().longValue(),
+                profile.getUser().getUniqueSpeciesCount().longValue(),
                 profile.getAssists(),
                 profile.getMostFrequentArea()
         );
@@ -1,5 +1,7 @@
 package com.team4.wildlifetracker.controller;
 
+import com.team4.wildlifetracker.dto.ModerationQueueEntry;
+import com.team4.wildlifetracker.dto.PageResponse;
 import com.team4.wildlifetracker.dto.ReportRequest;
 import com.team4.wildlifetracker.dto.ReportResponse;
 import com.team4.wildlifetracker.model.Report;
@@ -12,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -24,6 +27,9 @@ import java.util.stream.Collectors;
 public class ReportController {
 
     private static final Logger logger = LoggerFactory.getLogger(ReportController.class);
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_RESOLVE_SIZE = 1000;
     
     private final ReportService reportService;
 
@@ -143,14 +149,64 @@ public class ReportController {
 
     /**
      * Get most reported sightings.
-     * GET /api/reports/most-reported
+     * GET /api/reports/most-reported?limit={limit}
      */
     @GetMapping("/most-reported")
-    public ResponseEntity<List<Object[]>> getMostReportedSightings() {
+    public ResponseEntity<List<ModerationQueueEntry>> getMostReportedSightings(
+            @RequestParam(defaultValue = "20") int limit) {
         logger.info("GET request to retrieve most reported sightings");
         
-        List<Object[]> results = reportService.getMostReportedSightings();
-        return ResponseEntity.ok(results);
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(reportService.getMostReportedSightings(limit));
+    }
+
+    /**
+     * Get one page of the moderation queue, most reported first.
+     * GET /api/reports/queue?limit={limit}&cursor={cursor}&hiddenOnly={hiddenOnly}
+     */
+    @GetMapping("/queue")
+    public ResponseEntity<PageResponse<ModerationQueueEntry>> getModerationQueue(
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean hiddenOnly) {
+        logger.info("GET request to retrieve moderation queue");
+
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(reportService.getModerationQueue(cursor, limit, hiddenOnly));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Hide a sighting from the public listings.
+     * POST /api/reports/queue/{sightingId}/hide
+     */
+    @PostMapping("/queue/{sightingId}/hide")
+    public ResponseEntity<Void> hideSighting(@PathVariable Long sightingId) {
+        logger.info("POST request to hide sighting: {}", sightingId);
+
+        return reportService.setSightingHidden(sightingId, true)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Restore a hidden sighting to the public listings.
+     * POST /api/reports/queue/{sightingId}/restore
+     */
+    @PostMapping("/queue/{sightingId}/restore")
+    public ResponseEntity<Void> restoreSighting(@PathVariable Long sightingId) {
+        logger.info("POST request to restore sighting: {}", sightingId);
+
+        return reportService.setSightingHidden(sightingId, false)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
     }
 
     /**
@@ -170,11 +226,35 @@ public class ReportController {
      * DELETE /api/reports/sighting/{sightingId}
      */
     @DeleteMapping("/sighting/{sightingId}")
-    public ResponseEntity<Void> deleteReportsBySightingId(@PathVariable Long sightingId) {
+    public ResponseEntity<Map<String, Integer>> deleteReportsBySightingId(@PathVariable Long sightingId) {
         logger.info("DELETE request for all reports of sighting: {}", sightingId);
         
-        reportService.deleteReportsBySightingId(sightingId);
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.ok(Map.of("deleted", reportService.deleteReportsBySightingId(sightingId)));
+    }
+
+    /**
+     * Delete all reports filed by a user.
+     * DELETE /api/reports/user/{userId}
+     */
+    @DeleteMapping("/user/{userId}")
+    public ResponseEntity<Map<String, Integer>> deleteReportsByUserId(@PathVariable Long userId) {
+        logger.info("DELETE request for all reports by user: {}", userId);
+
+        return ResponseEntity.ok(Map.of("deleted", reportService.deleteReportsByUserId(userId)));
+    }
+
+    /**
+     * Resolve many reports at once by deleting them.
+     * POST /api/reports/resolve with a JSON array of report IDs
+     */
+    @PostMapping("/resolve")
+    public ResponseEntity<Map<String, Integer>> resolveReports(@RequestBody List<Long> reportIds) {
+        logger.info("POST request to resolve {} reports", reportIds.size());
+
+        if (reportIds.isEmpty() || reportIds.size() > MAX_RESOLVE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(Map.of("deleted", reportService.resolveReports(reportIds)));
     }
 
     /**
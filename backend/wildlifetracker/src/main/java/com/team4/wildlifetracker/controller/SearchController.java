@@ -1,29 +1,23 @@
 package com.team4.wildlifetracker.controller;
 
+import com.team4.wildlifetracker.dto.PageResponse;
 import com.team4.wildlifetracker.dto.SightingResponse;
-import com.team4.wildlifetracker.model.Sighting;
-import com.team4.wildlifetracker.repository.SightingRepository;
-import com.team4.wildlifetracker.service.SightingService;
+import com.team4.wildlifetracker.service.SightingSearchService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/search")
 @CrossOrigin(origins = "*")
 public class SearchController {
 
+    private static final int MAX_RESULTS = 500;
+
     @Autowired
-    private SightingRepository sightingRepository;
-    
-    @Autowired
-    private SightingService sightingService;
+    private SightingSearchService sightingSearchService;
 
     @GetMapping
     public ResponseEntity<List<SightingResponse>> searchSightings(@RequestParam String query) {
@@ -31,18 +25,32 @@ public class SearchController {
             return ResponseEntity.badRequest().build();
         }
 
-        List<Sighting> speciesMatches = sightingRepository.findBySpeciesContainingIgnoreCase(query);
-        List<Sighting> locationMatches = sightingRepository.findByLocationContainingIgnoreCase(query);
+        // Best matches first, capped at MAX_RESULTS; use the paged form below for more
+        return ResponseEntity.ok(sightingSearchService.search(query, 0, MAX_RESULTS).getItems());
+    }
 
-        Set<Sighting> combinedResults = new HashSet<>();
-        combinedResults.addAll(speciesMatches);
-        combinedResults.addAll(locationMatches);
-        
-        // Convert to DTOs
-        List<SightingResponse> responseList = combinedResults.stream()
-                .map(sightingService::toSightingResponse)
-                .collect(Collectors.toList());
+    // GET /api/search?query=wolf&limit=20&cursor=20
+    @GetMapping(params = "limit")
+    public ResponseEntity<PageResponse<SightingResponse>> searchSightingsPage(
+            @RequestParam String query,
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor) {
+        if (query == null || query.trim().isEmpty() || limit <= 0 || limit > MAX_RESULTS) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        int offset = 0;
+        if (cursor != null && !cursor.isEmpty()) {
+            try {
+                offset = Integer.parseInt(cursor);
+            } catch (NumberFormatException e) {
+                return ResponseEntity.badRequest().build();
+            }
+            if (offset < 0) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
 
-        return ResponseEntity.ok(responseList);
+        return ResponseEntity.ok(sightingSearchService.search(query, offset, limit));
     }
 }
@@ -1,10 +1,17 @@
 package com.team4.wildlifetracker.controller;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,19 +25,38 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team4.wildlifetracker.dto.PageResponse;
+import com.team4.wildlifetracker.dto.SightingFilter;
 import com.team4.wildlifetracker.dto.SightingRequest;
 import com.team4.wildlifetracker.dto.SightingResponse;
+import com.team4.wildlifetracker.model.Sighting;
+import com.team4.wildlifetracker.service.ImageVariantService;
 import com.team4.wildlifetracker.service.SightingService;
+import com.team4.wildlifetracker.service.SightingSpatialIndex;
 
 @RestController
 @RequestMapping("/api/sightings")
 @CrossOrigin(origins = "*")
 public class SightingController {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_VIEWPORT_MARKERS = 2000;
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final SightingService sightingService;
+    private final SightingSpatialIndex spatialIndex;
+    private final ObjectMapper objectMapper;
 
-    public SightingController(SightingService sightingService) {
+    public SightingController(SightingService sightingService, SightingSpatialIndex spatialIndex,
+                              ObjectMapper objectMapper) {
         this.sightingService = sightingService;
+        this.spatialIndex = spatialIndex;
+        this.objectMapper = objectMapper;
     }
 
     // CREATE
@@ -44,6 +70,44 @@ public class SightingController {
         }
     }
 
+    // CREATE (batch) - POST /api/sightings/batch with a JSON array
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> createSightings(@RequestBody List<SightingRequest> requests) {
+        return createInBatches(requests.iterator());
+    }
+
+    // CREATE (batch) - POST /api/sightings/batch with one JSON object per line, read as it arrives
+    @PostMapping(value = "/batch", consumes = "application/x-ndjson")
+    public ResponseEntity<Map<String, Object>> createSightingsFromStream(HttpServletRequest request) throws IOException {
+        try (MappingIterator<SightingRequest> requests =
+                     objectMapper.readerFor(SightingRequest.class).readValues(request.getInputStream())) {
+            return createInBatches(requests);
+        }
+    }
+
+    // Each batch is inserted and committed on its own; on failure the response reports how many were created
+    private ResponseEntity<Map<String, Object>> createInBatches(Iterator<SightingRequest> requests) {
+        List<Long> ids = new ArrayList<>();
+        List<SightingRequest> batch = new ArrayList<>(SightingService.MAX_BATCH_SIZE);
+        Map<String, Object> response = new HashMap<>();
+        response.put("ids", ids);
+        try {
+            while (requests.hasNext()) {
+                batch.add(requests.next());
+                if (batch.size() == SightingService.MAX_BATCH_SIZE || !requests.hasNext()) {
+                    sightingService.createSightings(batch).forEach(sighting -> ids.add(sighting.getId()));
+                    batch.clear();
+                }
+            }
+        } catch (RuntimeException e) {
+            response.put("created", ids.size());
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+        response.put("created", ids.size());
+        return ResponseEntity.ok(response);
+    }
+
     // READ (single)
     @GetMapping("/{id}")
     public ResponseEntity<SightingResponse> getSighting(@PathVariable Long id) {
@@ -62,6 +126,69 @@ public class SightingController {
         return ResponseEntity.ok(sightings);
     }
     
+    // READ (page) - GET /api/sightings?limit=100&cursor=...
+    @GetMapping(params = "limit")
+    public ResponseEntity<PageResponse<SightingResponse>> getSightingsPage(
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        Long afterId;
+        try {
+            afterId = cursor != null ? Long.parseLong(cursor) : null;
+        } catch (NumberFormatException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(sightingService.findPageAsDto(afterId, limit));
+    }
+
+    // READ (filtered page) - GET /api/sightings/query?species=...&userId=...&from=...&to=...&location=...
+    //   &minX=...&minY=...&maxX=...&maxY=...&limit=50&cursor=...  (newest first)
+    @GetMapping("/query")
+    public ResponseEntity<PageResponse<SightingResponse>> querySightings(
+            SightingFilter filter,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String cursor) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(sightingService.query(filter, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // READ (all, streamed) - one JSON object per line, written as rows are read
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamSightings() {
+        StreamingResponseBody body = out -> sightingService.streamAllAsDto(sighting -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(sighting));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+    
+    // READ (map viewport) - GET /api/sightings/viewport?minX=0&minY=0&maxX=100&maxY=100&zoom=2
+    @GetMapping("/viewport")
+    public ResponseEntity<List<SightingResponse>> getSightingsInViewport(
+            @RequestParam int minX,
+            @RequestParam int minY,
+            @RequestParam int maxX,
+            @RequestParam int maxY,
+            @RequestParam(defaultValue = "" + SightingSpatialIndex.MAX_ZOOM) int zoom,
+            @RequestParam(defaultValue = "500") int limit) {
+        if (minX > maxX || minY > maxY || limit <= 0 || limit > MAX_VIEWPORT_MARKERS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(spatialIndex.findVisible(minX, minY, maxX, maxY, zoom, limit));
+    }
+    
     // READ (by user)
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<SightingResponse>> getSightingsByUser(@PathVariable Long userId) {
@@ -69,6 +196,28 @@ public class SightingController {
         return ResponseEntity.ok(sightings);
     }
 
+    // READ image - GET /api/sightings/{id}/image?size=thumbnail|web|original
+    // Redirects to the requested variant, or to the original while variants are still being generated
+    @GetMapping("/{id}/image")
+    public ResponseEntity<Void> getSightingImage(@PathVariable Long id,
+                                                 @RequestParam(defaultValue = "original") String size) {
+        ImageVariantService.Size imageSize;
+        try {
+            imageSize = ImageVariantService.Size.valueOf(size.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            String imageUrl = sightingService.findImageUrl(id, imageSize);
+            if (imageUrl == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.status(HttpStatus.FOUND).location(URI.create(imageUrl)).build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     // UPLOAD sighting image
     @PostMapping("/upload-image")
     public ResponseEntity<?> uploadSightingImage(@RequestParam("file") MultipartFile file) {
@@ -93,13 +242,14 @@ public class SightingController {
         try {
             // For now, we'll use the entity-based update and convert the result
             // This would ideally be refactored to accept SightingRequest in the service
+            // Copy into a new object: editing the loaded entity in place would hide the previous
+            // species and location from the update's statistics and rollup adjustments
             var existing = sightingService.findById(id);
-            existing.setSpecies(request.getSpecies());
-            existing.setLocation(request.getLocation());
-            existing.setDescription(request.getDescription());
-            existing.setImageUrl(request.getImageUrl());
+            var changes = new Sighting(request.getSpecies(), request.getLocation(), request.getDescription(),
+                    request.getImageUrl(), existing.getUser());
+            changes.setTimestamp(existing.getTimestamp());
             
-            var updated = sightingService.update(id, existing);
+            var updated = sightingService.update(id, changes);
             SightingResponse response = sightingService.toSightingResponse(updated);
             return ResponseEntity.ok(response);
         } catch (RuntimeException e) {
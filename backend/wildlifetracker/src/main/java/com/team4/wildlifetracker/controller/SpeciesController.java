@@ -0,0 +1,31 @@
+package com.team4.wildlifetracker.controller;
+
+import com.team4.wildlifetracker.dto.SpeciesSuggestion;
+import com.team4.wildlifetracker.service.SpeciesAutocompleteService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/species")
+@CrossOrigin(origins = "*")
+public class SpeciesController {
+
+    private final SpeciesAutocompleteService autocompleteService;
+
+    public SpeciesController(SpeciesAutocompleteService autocompleteService) {
+        this.autocompleteService = autocompleteService;
+    }
+
+    // GET /api/species/autocomplete?prefix=gr&limit=10
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<SpeciesSuggestion>> autocomplete(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (prefix.isBlank() || limit <= 0 || limit > SpeciesAutocompleteService.MAX_SUGGESTIONS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(autocompleteService.suggest(prefix, limit));
+    }
+}
@@ -0,0 +1,171 @@
+package com.team4.wildlifetracker.controller;
+
+import com.team4.wildlifetracker.storage.ContentAddressedImageStorage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves uploaded files from the uploads directory.
+ * Upload URLs are never reused for different content (content-addressed blobs, UUID-named legacy files
+ * and variants derived from them), so responses are cacheable for a year as immutable.
+ * Supports conditional requests (ETag / Last-Modified) and single byte ranges; bodies are sent with
+ * Tomcat sendfile when the connector offers it, otherwise with FileChannel.transferTo.
+ */
+@RestController
+@CrossOrigin(origins = "*")
+public class UploadController {
+
+    private static final Path UPLOAD_ROOT = Paths.get("uploads").toAbsolutePath().normalize();
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    // Tomcat hands files at least this large to the kernel instead of copying them through the JVM
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    @GetMapping("/uploads/**")
+    public void serveUpload(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = resolve(urlPathHelper.getPathWithinApplication(request));
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long length = Files.size(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        String etag = etagFor(file, length, lastModified);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL.getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // Sets ETag and Last-Modified, and answers 304 when the client's copy is current
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        MediaType mediaType = MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+        response.setContentType(mediaType.toString());
+
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && ifRangeMatches(request, etag, lastModified)) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            // Multipart responses aren't worth it for images, so only a single range is honored
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                try {
+                    start = range.getRangeStart(length);
+                    end = range.getRangeEnd(length);
+                } catch (IllegalArgumentException e) {
+                    start = length;
+                }
+                if (start >= length || start > end) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = length == 0 ? 0 : end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+        send(file, start, count, request, response);
+    }
+
+    // Maps a request path onto a regular file under the uploads directory, rejecting anything outside it
+    private Path resolve(String requestPath) {
+        String relative = requestPath.startsWith("/uploads/") ? requestPath.substring("/uploads/".length()) : null;
+        if (relative == null || relative.isEmpty()) {
+            return null;
+        }
+        Path file = UPLOAD_ROOT.resolve(relative).normalize();
+        if (!file.startsWith(UPLOAD_ROOT) || !Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS)) {
+            return null;
+        }
+        return file;
+    }
+
+    private String etagFor(Path file, long length, long lastModified) {
+        String hash = ContentAddressedImageStorage.hashOf("/uploads/" + UPLOAD_ROOT.relativize(file).toString().replace('\\', '/'));
+        if (hash != null) {
+            return "\"" + hash + "\"";
+        }
+        return "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(length) + "\"";
+    }
+
+    // A Range request with a stale If-Range validator gets the whole file instead
+    private boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private void send(Path file, long start, long count, HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        if (count >= SENDFILE_THRESHOLD && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, out);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.team4.wildlifetracker.controller;
 
 import com.team4.wildlifetracker.dto.ProfileUpdateRequest;
+import com.team4.wildlifetracker.dto.ProfileView;
 import com.team4.wildlifetracker.dto.UserResponse;
 import com.team4.wildlifetracker.service.LeaderboardService;
+import com.team4.wildlifetracker.service.ProfileViewService;
 import com.team4.wildlifetracker.service.UserService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,10 +22,13 @@ public class UserProfileController {
 
     private final UserService userService;
     private final LeaderboardService leaderboardService;
+    private final ProfileViewService profileViewService;
 
-    public UserProfileController(UserService userService, LeaderboardService leaderboardService) {
+    public UserProfileController(UserService userService, LeaderboardService leaderboardService,
+                                 ProfileViewService profileViewService) {
         this.userService = userService;
         this.leaderboardService = leaderboardService;
+        this.profileViewService = profileViewService;
     }
 
     // GET user profile by ID
@@ -54,6 +59,14 @@ public class UserProfileController {
         return ResponseEntity.ok(profile);
     }
 
+    // GET everything the profile page shows - user, rank, species counts, recent sightings - in one request
+    @GetMapping("/{userId}/view")
+    public ResponseEntity<ProfileView> getProfileView(@PathVariable Long userId) {
+        return profileViewService.getProfileView(userId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     // UPDATE user profile
     @PutMapping("/{userId}")
     public ResponseEntity<?> updateProfile(
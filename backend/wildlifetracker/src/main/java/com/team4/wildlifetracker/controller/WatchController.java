@@ -0,0 +1,56 @@
+package com.team4.wildlifetracker.controller;
+
+import com.team4.wildlifetracker.dto.WatchRequest;
+import com.team4.wildlifetracker.dto.WatchResponse;
+import com.team4.wildlifetracker.service.WatchService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for watches: subscriptions to new sightings of a species or inside a map area.
+ */
+@RestController
+@RequestMapping("/api/watches")
+@CrossOrigin(origins = "*")
+public class WatchController {
+
+    private static final Logger logger = LoggerFactory.getLogger(WatchController.class);
+
+    private final WatchService watchService;
+
+    public WatchController(WatchService watchService) {
+        this.watchService = watchService;
+    }
+
+    // GET /api/watches?userId=... - a user's watches, newest first
+    @GetMapping
+    public ResponseEntity<List<WatchResponse>> getWatches(@RequestParam Long userId) {
+        return ResponseEntity.ok(watchService.getWatches(userId));
+    }
+
+    // POST /api/watches - watch a species, an area, or a species within an area
+    @PostMapping
+    public ResponseEntity<?> createWatch(@Valid @RequestBody WatchRequest request) {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(watchService.createWatch(request));
+        } catch (IllegalArgumentException e) {
+            logger.error("Error creating watch: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // DELETE /api/watches/{id} - stop watching
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteWatch(@PathVariable Long id) {
+        if (!watchService.deleteWatch(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
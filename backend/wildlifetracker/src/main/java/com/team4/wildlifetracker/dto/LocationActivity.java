@@ -0,0 +1,33 @@
+package com.team4.wildlifetracker.dto;
+
+/**
+ * DTO for the number of sightings at one location over a date range.
+ */
+public class LocationActivity {
+    private String location;
+    private long count;
+
+    public LocationActivity() {}
+
+    public LocationActivity(String location, long count) {
+        this.location = location;
+        this.count = count;
+    }
+
+    // Getters and setters
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
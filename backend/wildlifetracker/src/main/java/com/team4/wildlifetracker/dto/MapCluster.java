@@ -0,0 +1,54 @@
+package com.team4.wildlifetracker.dto;
+
+/**
+ * DTO for a group of nearby sightings drawn as a single map marker.
+ * Coordinates are percentages of the campus map image, like Sighting.pixelX/pixelY.
+ */
+public class MapCluster {
+    private double x;
+    private double y;
+    private long count;
+    private String dominantSpecies;
+
+    public MapCluster() {}
+
+    public MapCluster(double x, double y, long count, String dominantSpecies) {
+        this.x = x;
+        this.y = y;
+        this.count = count;
+        this.dominantSpecies = dominantSpecies;
+    }
+
+    // Getters and setters
+    public double getX() {
+        return x;
+    }
+
+    public void setX(double x) {
+        this.x = x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public void setY(double y) {
+        this.y = y;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public String getDominantSpecies() {
+        return dominantSpecies;
+    }
+
+    public void setDominantSpecies(String dominantSpecies) {
+        this.dominantSpecies = dominantSpecies;
+    }
+}
@@ -0,0 +1,86 @@
+package com.team4.wildlifetracker.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one sighting in the moderation queue, with its report counter.
+ */
+public class ModerationQueueEntry {
+    private Long sightingId;
+    private String species;
+    private String location;
+    private String username;
+    private int reportCount;
+    private LocalDateTime lastReportedAt;
+    private boolean hidden;
+
+    public ModerationQueueEntry() {}
+
+    public ModerationQueueEntry(Long sightingId, String species, String location, String username,
+                                int reportCount, LocalDateTime lastReportedAt, boolean hidden) {
+        this.sightingId = sightingId;
+        this.species = species;
+        this.location = location;
+        this.username = username;
+        this.reportCount = reportCount;
+        this.lastReportedAt = lastReportedAt;
+        this.hidden = hidden;
+    }
+
+    // Getters and setters
+    public Long getSightingId() {
+        return sightingId;
+    }
+
+    public void setSightingId(Long sightingId) {
+        this.sightingId = sightingId;
+    }
+
+    public String getSpecies() {
+        return species;
+    }
+
+    public void setSpecies(String species) {
+        this.species = species;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public int getReportCount() {
+        return reportCount;
+    }
+
+    public void setReportCount(int reportCount) {
+        this.reportCount = reportCount;
+    }
+
+    public LocalDateTime getLastReportedAt() {
+        return lastReportedAt;
+    }
+
+    public void setLastReportedAt(LocalDateTime lastReportedAt) {
+        this.lastReportedAt = lastReportedAt;
+    }
+
+    public boolean isHidden() {
+        return hidden;
+    }
+
+    public void setHidden(boolean hidden) {
+        this.hidden = hidden;
+    }
+}
@@ -0,0 +1,46 @@
+package com.team4.wildlifetracker.dto;
+
+import java.util.List;
+
+/**
+ * DTO for one page of a cursor-paginated listing.
+ * Pass nextCursor back as the cursor parameter to fetch the following page.
+ */
+public class PageResponse<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+
+    public PageResponse() {}
+
+    public PageResponse(List<T> items, String nextCursor, boolean hasMore) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    // Getters and setters
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,80 @@
+package com.team4.wildlifetracker.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for everything a profile page shows: the user, their rank, per-species counts
+ * and their most recent sightings.
+ */
+public class ProfileView {
+    private UserResponse user;
+    private Integer rank;
+    private String favoriteSpecies;
+    private long favoriteSpeciesCount;
+    // Sightings per species, most sighted first
+    private Map<String, Long> speciesCounts;
+    // Newest first
+    private List<SightingResponse> recentSightings;
+
+    public ProfileView() {}
+
+    public ProfileView(UserResponse user, Integer rank, String favoriteSpecies, long favoriteSpeciesCount,
+                       Map<String, Long> speciesCounts, List<SightingResponse> recentSightings) {
+        this.user = user;
+        this.rank = rank;
+        this.favoriteSpecies = favoriteSpecies;
+        this.favoriteSpeciesCount = favoriteSpeciesCount;
+        this.speciesCounts = speciesCounts;
+        this.recentSightings = recentSightings;
+    }
+
+    // Getters and setters
+    public UserResponse getUser() {
+        return user;
+    }
+
+    public void setUser(UserResponse user) {
+        this.user = user;
+    }
+
+    public Integer getRank() {
+        return rank;
+    }
+
+    public void setRank(Integer rank) {
+        this.rank = rank;
+    }
+
+    public String getFavoriteSpecies() {
+        return favoriteSpecies;
+    }
+
+    public void setFavoriteSpecies(String favoriteSpecies) {
+        this.favoriteSpecies = favoriteSpecies;
+    }
+
+    public long getFavoriteSpeciesCount() {
+        return favoriteSpeciesCount;
+    }
+
+    public void setFavoriteSpeciesCount(long favoriteSpeciesCount) {
+        this.favoriteSpeciesCount = favoriteSpeciesCount;
+    }
+
+    public Map<String, Long> getSpeciesCounts() {
+        return speciesCounts;
+    }
+
+    public void setSpeciesCounts(Map<String, Long> speciesCounts) {
+        this.speciesCounts = speciesCounts;
+    }
+
+    public List<SightingResponse> getRecentSightings() {
+        return recentSightings;
+    }
+
+    public void setRecentSightings(List<SightingResponse> recentSightings) {
+        this.recentSightings = recentSightings;
+    }
+}
@@ -0,0 +1,101 @@
+package com.team4.wildlifetracker.dto;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for filtering sightings, bound from query parameters.
+ * Unset fields match everything; set fields must all match.
+ */
+public class SightingFilter {
+    private String species;
+    private Long userId;
+    // Time window: from is inclusive, to is exclusive
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+    // Case-insensitive substring of the location
+    private String location;
+    // Map bounding box in map percent, inclusive; each bound is optional
+    private Integer minX;
+    private Integer minY;
+    private Integer maxX;
+    private Integer maxY;
+
+    public SightingFilter() {}
+
+    // Getters and setters
+    public String getSpecies() {
+        return species;
+    }
+
+    public void setSpecies(String species) {
+        this.species = species;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public Integer getMinX() {
+        return minX;
+    }
+
+    public void setMinX(Integer minX) {
+        this.minX = minX;
+    }
+
+    public Integer getMinY() {
+        return minY;
+    }
+
+    public void setMinY(Integer minY) {
+        this.minY = minY;
+    }
+
+    public Integer getMaxX() {
+        return maxX;
+    }
+
+    public void setMaxX(Integer maxX) {
+        this.maxX = maxX;
+    }
+
+    public Integer getMaxY() {
+        return maxY;
+    }
+
+    public void setMaxY(Integer maxY) {
+        this.maxY = maxY;
+    }
+}
@@ -2,6 +2,8 @@ package com.team4.wildlifetracker.dto;
 
 import java.time.LocalDateTime;
 
+import com.team4.wildlifetracker.model.Sighting;
+
 /**
  * DTO for Sighting responses.
  * Includes basic user info without exposing full user entity.
@@ -12,6 +14,8 @@ public class SightingResponse {
     private String location;
     private String description;
     private String imageUrl;
+    private String thumbnailUrl;
+    private String webImageUrl;
     private LocalDateTime timestamp;
     private Integer pixelX;
     private Integer pixelY;
@@ -24,11 +28,20 @@ public class SightingResponse {
     public SightingResponse(Long id, String species, String location, String description,
                            String imageUrl, LocalDateTime timestamp, Integer pixelX, Integer pixelY,
                            Long userId, String username, String displayName) {
+        this(id, species, location, description, imageUrl, null, null, timestamp, pixelX, pixelY,
+                userId, username, displayName);
+    }
+
+    public SightingResponse(Long id, String species, String location, String description,
+                           String imageUrl, String thumbnailUrl, String webImageUrl, LocalDateTime timestamp,
+                           Integer pixelX, Integer pixelY, Long userId, String username, String displayName) {
         this.id = id;
         this.species = species;
         this.location = location;
         this.description = description;
         this.imageUrl = imageUrl;
+        this.thumbnailUrl = thumbnailUrl;
+        this.webImageUrl = webImageUrl;
         this.timestamp = timestamp;
         this.pixelX = pixelX;
         this.pixelY = pixelY;
@@ -37,6 +50,29 @@ public class SightingResponse {
         this.displayName = displayName;
     }
 
+    public static SightingResponse fromEntity(Sighting s) {
+        return fromEntity(s, s.getId());
+    }
+
+    // For rows written outside JPA, whose generated ID never reaches the entity
+    public static SightingResponse fromEntity(Sighting s, Long id) {
+        return new SightingResponse(
+                id,
+                s.getSpecies(),
+                s.getLocation(),
+                s.getDescription(),
+                s.getImageUrl(),
+                s.getThumbnailUrl(),
+                s.getWebImageUrl(),
+                s.getTimestamp(),
+                s.getPixelX(),
+                s.getPixelY(),
+                s.getUser() != null ? s.getUser().getId() : null,
+                s.getUser() != null ? s.getUser().getUsername() : null,
+                s.getUser() != null ? s.getUser().getDisplayName() : null
+        );
+    }
+
     // Getters and setters
     public Long getId() {
         return id;
@@ -78,6 +114,22 @@ public class SightingResponse {
         this.imageUrl = imageUrl;
     }
 
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    public void setThumbnailUrl(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
+    public String getWebImageUrl() {
+        return webImageUrl;
+    }
+
+    public void setWebImageUrl(String webImageUrl) {
+        this.webImageUrl = webImageUrl;
+    }
+
     public LocalDateTime getTimestamp() {
         return timestamp;
     }
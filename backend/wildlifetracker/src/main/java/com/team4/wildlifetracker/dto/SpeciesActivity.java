@@ -0,0 +1,46 @@
+package com.team4.wildlifetracker.dto;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for one point of a species activity chart: sightings of a species in a day or week.
+ * For weekly activity, date is the Monday the week starts on.
+ */
+public class SpeciesActivity {
+    private String species;
+    private LocalDate date;
+    private long count;
+
+    public SpeciesActivity() {}
+
+    public SpeciesActivity(String species, LocalDate date, long count) {
+        this.species = species;
+        this.date = date;
+        this.count = count;
+    }
+
+    // Getters and setters
+    public String getSpecies() {
+        return species;
+    }
+
+    public void setSpecies(String species) {
+        this.species = species;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
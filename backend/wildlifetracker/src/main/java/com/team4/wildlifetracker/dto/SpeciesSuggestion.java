@@ -0,0 +1,33 @@
+package com.team4.wildlifetracker.dto;
+
+/**
+ * DTO for one species autocomplete suggestion.
+ */
+public class SpeciesSuggestion {
+    private String name;
+    private long sightingCount;
+
+    public SpeciesSuggestion() {}
+
+    public SpeciesSuggestion(String name, long sightingCount) {
+        this.name = name;
+        this.sightingCount = sightingCount;
+    }
+
+    // Getters and setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getSightingCount() {
+        return sightingCount;
+    }
+
+    public void setSightingCount(long sightingCount) {
+        this.sightingCount = sightingCount;
+    }
+}
@@ -0,0 +1,71 @@
+package com.team4.wildlifetracker.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO for creating watches.
+ * Give a species, an area (all four bounds, as map percentages), or both.
+ */
+public class WatchRequest {
+
+    @NotNull(message = "User ID is required")
+    private Long userId;
+
+    private String species;
+    private Integer minX;
+    private Integer minY;
+    private Integer maxX;
+    private Integer maxY;
+
+    public WatchRequest() {
+    }
+
+    // Getters and setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getSpecies() {
+        return species;
+    }
+
+    public void setSpecies(String species) {
+        this.species = species;
+    }
+
+    public Integer getMinX() {
+        return minX;
+    }
+
+    public void setMinX(Integer minX) {
+        this.minX = minX;
+    }
+
+    public Integer getMinY() {
+        return minY;
+    }
+
+    public void setMinY(Integer minY) {
+        this.minY = minY;
+    }
+
+    public Integer getMaxX() {
+        return maxX;
+    }
+
+    public void setMaxX(Integer maxX) {
+        this.maxX = maxX;
+    }
+
+    public Integer getMaxY() {
+        return maxY;
+    }
+
+    public void setMaxY(Integer maxY) {
+        this.maxY = maxY;
+    }
+}
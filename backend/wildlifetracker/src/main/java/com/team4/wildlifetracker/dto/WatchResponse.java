@@ -0,0 +1,100 @@
+package com.team4.wildlifetracker.dto;
+
+import com.team4.wildlifetracker.model.Watch;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for Watch responses.
+ */
+public class WatchResponse {
+    private Long id;
+    private Long userId;
+    private String species;
+    private Integer minX;
+    private Integer minY;
+    private Integer maxX;
+    private Integer maxY;
+    private LocalDateTime createdAt;
+
+    public WatchResponse() {
+    }
+
+    public static WatchResponse fromEntity(Watch watch) {
+        WatchResponse response = new WatchResponse();
+        response.id = watch.getId();
+        response.userId = watch.getUser().getId();
+        response.species = watch.getSpecies();
+        response.minX = watch.getMinX();
+        response.minY = watch.getMinY();
+        response.maxX = watch.getMaxX();
+        response.maxY = watch.getMaxY();
+        response.createdAt = watch.getCreatedAt();
+        return response;
+    }
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getSpecies() {
+        return species;
+    }
+
+    public void setSpecies(String species) {
+        this.species = species;
+    }
+
+    public Integer getMinX() {
+        return minX;
+    }
+
+    public void setMinX(Integer minX) {
+        this.minX = minX;
+    }
+
+    public Integer getMinY() {
+        return minY;
+    }
+
+    public void setMinY(Integer minY) {
+        this.minY = minY;
+    }
+
+    public Integer getMaxX() {
+        return maxX;
+    }
+
+    public void setMaxX(Integer maxX) {
+        this.maxX = maxX;
+    }
+
+    public Integer getMaxY() {
+        return maxY;
+    }
+
+    public void setMaxY(Integer maxY) {
+        this.maxY = maxY;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
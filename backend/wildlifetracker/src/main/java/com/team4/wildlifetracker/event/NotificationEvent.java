@@ -0,0 +1,24 @@
+package com.team4.wildlifetracker.event;
+
+import com.team4.wildlifetracker.dto.NotificationResponse;
+
+/**
+ * Published whenever a notification is created for a user.
+ * Carries a snapshot of the notification as it was written.
+ */
+public class NotificationEvent {
+
+    private final NotificationResponse notification;
+
+    public NotificationEvent(NotificationResponse notification) {
+        this.notification = notification;
+    }
+
+    public Long getUserId() {
+        return notification.getUserId();
+    }
+
+    public NotificationResponse getNotification() {
+        return notification;
+    }
+}
@@ -0,0 +1,49 @@
+package com.team4.wildlifetracker.event;
+
+import com.team4.wildlifetracker.dto.SightingResponse;
+import com.team4.wildlifetracker.model.Sighting;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that turns Sighting writes into SightingEvents.
+ * Listeners that keep in-memory state should use @TransactionalEventListener
+ * so they only see changes that were committed.
+ */
+@Component
+public class SightingEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SightingEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostLoad
+    public void onLoaded(Sighting sighting) {
+        sighting.setPersistedSpecies(sighting.getSpecies());
+    }
+
+    @PostPersist
+    public void onCreated(Sighting sighting) {
+        sighting.setPersistedSpecies(sighting.getSpecies());
+        eventPublisher.publishEvent(new SightingEvent(SightingEvent.Type.CREATED, SightingResponse.fromEntity(sighting)));
+    }
+
+    @PostUpdate
+    public void onUpdated(Sighting sighting) {
+        eventPublisher.publishEvent(new SightingEvent(SightingEvent.Type.UPDATED, SightingResponse.fromEntity(sighting),
+                sighting.getPersistedSpecies(), sighting.isHidden()));
+        sighting.setPersistedSpecies(sighting.getSpecies());
+    }
+
+    @PostRemove
+    public void onRemoved(Sighting sighting) {
+        eventPublisher.publishEvent(new SightingEvent(SightingEvent.Type.DELETED, SightingResponse.fromEntity(sighting),
+                sighting.getSpecies(), sighting.isHidden()));
+    }
+}
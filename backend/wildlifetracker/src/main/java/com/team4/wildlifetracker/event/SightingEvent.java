@@ -0,0 +1,84 @@
+package com.team4.wildlifetracker.event;
+
+import com.team4.wildlifetracker.dto.SightingResponse;
+
+/**
+ * Published whenever a sighting row is inserted, updated or deleted, and when moderation hides or restores it.
+ * Carries a snapshot of the sighting as it was written, whether it is hidden from the public listings,
+ * and whether it came from a bulk import of historical records rather than a user reporting it now.
+ */
+public class SightingEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+    private final SightingResponse sighting;
+    private final boolean imported;
+    private final String previousSpecies;
+    private final boolean hidden;
+
+    public SightingEvent(Type type, SightingResponse sighting) {
+        this(type, sighting, false, sighting.getSpecies(), false);
+    }
+
+    public SightingEvent(Type type, SightingResponse sighting, boolean imported) {
+        this(type, sighting, imported, sighting.getSpecies(), false);
+    }
+
+    /**
+     * An update, with the species the sighting had before it.
+     */
+    public SightingEvent(Type type, SightingResponse sighting, String previousSpecies) {
+        this(type, sighting, false, previousSpecies, false);
+    }
+
+    /**
+     * An update or delete, with the species the sighting had before it and whether moderation has hidden it.
+     */
+    public SightingEvent(Type type, SightingResponse sighting, String previousSpecies, boolean hidden) {
+        this(type, sighting, false, previousSpecies, hidden);
+    }
+
+    private SightingEvent(Type type, SightingResponse sighting, boolean imported, String previousSpecies,
+                          boolean hidden) {
+        this.type = type;
+        this.sighting = sighting;
+        this.imported = imported;
+        this.previousSpecies = previousSpecies;
+        this.hidden = hidden;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getSightingId() {
+        return sighting.getId();
+    }
+
+    public SightingResponse getSighting() {
+        return sighting;
+    }
+
+    public boolean isImported() {
+        return imported;
+    }
+
+    /**
+     * Species the sighting had before this change; the same as its current species unless an update changed it.
+     */
+    public String getPreviousSpecies() {
+        return previousSpecies;
+    }
+
+    public boolean isHidden() {
+        return hidden;
+    }
+
+    /**
+     * Whether the sighting belongs in the public listings after this change: not deleted and not hidden.
+     */
+    public boolean isVisible() {
+        return type != Type.DELETED && !hidden;
+    }
+}
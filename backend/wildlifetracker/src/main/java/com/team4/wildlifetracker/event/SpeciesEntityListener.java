@@ -0,0 +1,36 @@
+package com.team4.wildlifetracker.event;
+
+import com.team4.wildlifetracker.model.Species;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that turns Species writes into SpeciesEvents.
+ */
+@Component
+public class SpeciesEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SpeciesEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void onCreated(Species species) {
+        eventPublisher.publishEvent(new SpeciesEvent(SpeciesEvent.Type.CREATED, species.getId(), species.getName()));
+    }
+
+    @PostUpdate
+    public void onUpdated(Species species) {
+        eventPublisher.publishEvent(new SpeciesEvent(SpeciesEvent.Type.UPDATED, species.getId(), species.getName()));
+    }
+
+    @PostRemove
+    public void onRemoved(Species species) {
+        eventPublisher.publishEvent(new SpeciesEvent(SpeciesEvent.Type.DELETED, species.getId(), species.getName()));
+    }
+}
@@ -0,0 +1,32 @@
+package com.team4.wildlifetracker.event;
+
+/**
+ * Published whenever a species row is inserted, updated or deleted.
+ * Carries the species name as it was written.
+ */
+public class SpeciesEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+    private final Long speciesId;
+    private final String name;
+
+    public SpeciesEvent(Type type, Long speciesId, String name) {
+        this.type = type;
+        this.speciesId = speciesId;
+        this.name = name;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getSpeciesId() {
+        return speciesId;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
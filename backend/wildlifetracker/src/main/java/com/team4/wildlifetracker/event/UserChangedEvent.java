@@ -0,0 +1,45 @@
+package com.team4.wildlifetracker.event;
+
+import com.team4.wildlifetracker.dto.UserResponse;
+
+/**
+ * Published whenever a user row is inserted, updated or deleted.
+ * Carries a snapshot of the user so listeners do not need to reload it.
+ * Entity updates never write the statistics columns, so their snapshot's statistics may be stale;
+ * see {@link #hasCurrentStatistics()}.
+ */
+public class UserChangedEvent {
+
+    public enum Type { SAVED, DELETED }
+
+    private final Type type;
+    private final UserResponse user;
+    private final boolean currentStatistics;
+
+    public UserChangedEvent(Type type, UserResponse user) {
+        this(type, user, true);
+    }
+
+    public UserChangedEvent(Type type, UserResponse user, boolean currentStatistics) {
+        this.type = type;
+        this.user = user;
+        this.currentStatistics = currentStatistics;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getUserId() {
+        return user.getId();
+    }
+
+    public UserResponse getUser() {
+        return user;
+    }
+
+    // False when the snapshot's totals, species count and last activity may lag the database
+    public boolean hasCurrentStatistics() {
+        return currentStatistics;
+    }
+}
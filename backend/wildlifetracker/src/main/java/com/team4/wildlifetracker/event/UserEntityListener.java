@@ -0,0 +1,41 @@
+package com.team4.wildlifetracker.event;
+
+import com.team4.wildlifetracker.dto.UserResponse;
+import com.team4.wildlifetracker.model.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that turns User writes into UserChangedEvents.
+ * Listeners that keep in-memory state should use @TransactionalEventListener
+ * so they only see changes that were committed.
+ */
+@Component
+public class UserEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void onPersisted(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.SAVED, UserResponse.fromEntity(user)));
+    }
+
+    // Statistics are updatable = false and maintained by UserStatisticsService, so this copy of them may be stale
+    @PostUpdate
+    public void onUpdated(User user) {
+        eventPublisher.publishEvent(
+                new UserChangedEvent(UserChangedEvent.Type.SAVED, UserResponse.fromEntity(user), false));
+    }
+
+    @PostRemove
+    public void onRemoved(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.DELETED, UserResponse.fromEntity(user)));
+    }
+}
@@ -0,0 +1,33 @@
+package com.team4.wildlifetracker.event;
+
+import com.team4.wildlifetracker.dto.WatchResponse;
+import com.team4.wildlifetracker.model.Watch;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that turns Watch writes into WatchEvents.
+ * Listeners that keep in-memory state should use @TransactionalEventListener
+ * so they only see changes that were committed.
+ */
+@Component
+public class WatchEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public WatchEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void onCreated(Watch watch) {
+        eventPublisher.publishEvent(new WatchEvent(WatchEvent.Type.CREATED, WatchResponse.fromEntity(watch)));
+    }
+
+    @PostRemove
+    public void onRemoved(Watch watch) {
+        eventPublisher.publishEvent(new WatchEvent(WatchEvent.Type.DELETED, WatchResponse.fromEntity(watch)));
+    }
+}
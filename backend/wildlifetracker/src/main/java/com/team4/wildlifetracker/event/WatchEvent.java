@@ -0,0 +1,32 @@
+package com.team4.wildlifetracker.event;
+
+import com.team4.wildlifetracker.dto.WatchResponse;
+
+/**
+ * Published whenever a watch row is inserted or deleted.
+ * Carries a snapshot of the watch as it was written.
+ */
+public class WatchEvent {
+
+    public enum Type { CREATED, DELETED }
+
+    private final Type type;
+    private final WatchResponse watch;
+
+    public WatchEvent(Type type, WatchResponse watch) {
+        this.type = type;
+        this.watch = watch;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getWatchId() {
+        return watch.getId();
+    }
+
+    public WatchResponse getWatch() {
+        return watch;
+    }
+}
@@ -0,0 +1,117 @@
+package com.team4.wildlifetracker.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming CSV reader (RFC 4180: quoted fields, doubled quotes, line breaks inside quotes).
+ * The first record is the header; empty lines are skipped. A byte order mark on the header
+ * needs no special handling, since normalizing the field names drops it.
+ */
+class CsvImportReader implements ImportReader {
+
+    private final BufferedReader reader;
+    private final List<String> header;
+    private long line = 1;
+    private long recordLine;
+
+    CsvImportReader(Path file) throws IOException {
+        this(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+    }
+
+    CsvImportReader(Reader source) throws IOException {
+        this.reader = source instanceof BufferedReader buffered ? buffered : new BufferedReader(source);
+        List<String> names = readRecord();
+        if (names == null) {
+            throw new ImportFormatException("CSV file has no header row");
+        }
+        this.header = names.stream().map(ImportReader::normalize).toList();
+    }
+
+    @Override
+    public Map<String, String> next() throws IOException {
+        List<String> values;
+        do {
+            values = readRecord();
+            if (values == null) {
+                return null;
+            }
+        } while (values.size() == 1 && values.get(0).isEmpty());
+
+        Map<String, String> row = new HashMap<>();
+        for (int i = 0; i < header.size() && i < values.size(); i++) {
+            row.put(header.get(i), values.get(i));
+        }
+        return row;
+    }
+
+    @Override
+    public String position() {
+        return "line " + recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // Reads one record, which may span several lines when a quoted field contains line breaks
+    private List<String> readRecord() throws IOException {
+        recordLine = line;
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new ImportFormatException("Unterminated quoted field starting on line " + recordLine);
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                if (c == '\n') {
+                    line++;
+                }
+                int last = field.length() - 1;
+                if (last >= 0 && field.charAt(last) == '\r') {
+                    field.setLength(last);
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+}
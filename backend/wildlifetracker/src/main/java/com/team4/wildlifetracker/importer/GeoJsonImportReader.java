@@ -0,0 +1,94 @@
+package com.team4.wildlifetracker.importer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Streaming GeoJSON FeatureCollection reader.
+ * Only one feature is held in memory at a time. Feature properties become fields, and a Point
+ * geometry's coordinates become pixelx/pixely: the campus map has no geographic reference,
+ * so coordinates are taken to be map positions in percent, like Sighting.pixelX/pixelY.
+ */
+class GeoJsonImportReader implements ImportReader {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final JsonParser parser;
+    private long feature;
+
+    GeoJsonImportReader(Path file) throws IOException {
+        this(Files.newInputStream(file));
+    }
+
+    GeoJsonImportReader(InputStream source) throws IOException {
+        this.parser = new JsonFactory(MAPPER).createParser(source);
+        seekFeatures();
+    }
+
+    @Override
+    public Map<String, String> next() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY || token == null) {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new ImportFormatException("Expected a feature object at feature " + (feature + 1));
+        }
+        feature++;
+        JsonNode node = parser.readValueAsTree();
+
+        Map<String, String> row = new HashMap<>();
+        JsonNode properties = node.path("properties");
+        for (Map.Entry<String, JsonNode> property : properties.properties()) {
+            if (!property.getValue().isNull()) {
+                row.put(ImportReader.normalize(property.getKey()), property.getValue().asText());
+            }
+        }
+
+        JsonNode geometry = node.path("geometry");
+        if ("Point".equals(geometry.path("type").asText())) {
+            JsonNode coordinates = geometry.path("coordinates");
+            if (coordinates.size() >= 2) {
+                row.put("pixelx", coordinates.get(0).asText());
+                row.put("pixely", coordinates.get(1).asText());
+            }
+        }
+        return row;
+    }
+
+    @Override
+    public String position() {
+        return "feature " + feature;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    // Advances the parser to just inside the top-level "features" array
+    private void seekFeatures() throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new ImportFormatException("GeoJSON file must contain a FeatureCollection object");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("features".equals(name) && value == JsonToken.START_ARRAY) {
+                return;
+            }
+            parser.skipChildren();
+        }
+        throw new ImportFormatException("GeoJSON file has no features array");
+    }
+}
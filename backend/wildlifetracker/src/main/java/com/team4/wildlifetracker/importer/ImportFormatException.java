@@ -0,0 +1,12 @@
+package com.team4.wildlifetracker.importer;
+
+/**
+ * Thrown when an import file is structurally broken and no further rows can be read from it.
+ * Problems confined to a single row are skipped and counted instead.
+ */
+public class ImportFormatException extends RuntimeException {
+
+    public ImportFormatException(String message) {
+        super(message);
+    }
+}
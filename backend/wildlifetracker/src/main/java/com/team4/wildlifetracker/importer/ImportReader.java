@@ -0,0 +1,45 @@
+package com.team4.wildlifetracker.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads an import file one row at a time, so memory use does not grow with the file size.
+ * Field names are normalized (see normalize), so "pixel_x", "Pixel X" and "pixelX" are the same field.
+ */
+interface ImportReader extends Closeable {
+
+    /**
+     * Read the next row.
+     * @return Field name to raw value, or null at the end of the input
+     * @throws ImportFormatException if the file itself is malformed and reading cannot continue
+     */
+    Map<String, String> next() throws IOException;
+
+    /**
+     * Where the last row came from (line or feature number), for error messages.
+     */
+    String position();
+
+    /**
+     * Open a reader for a file, choosing the format from its extension.
+     * @param file A .csv, .geojson or .json file
+     */
+    static ImportReader open(Path file) throws IOException {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return new CsvImportReader(file);
+        }
+        if (name.endsWith(".geojson") || name.endsWith(".json")) {
+            return new GeoJsonImportReader(file);
+        }
+        throw new IllegalArgumentException("Unsupported import file type: " + file.getFileName());
+    }
+
+    static String normalize(String fieldName) {
+        return fieldName.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+    }
+}
@@ -0,0 +1,50 @@
+package com.team4.wildlifetracker.importer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Runs the sighting importer for each --import=<file> argument at startup.
+ * For a one-off offline load, start the app without the web server; it then exits once the files are imported:
+ *
+ *   java -jar wildlifetracker.jar --spring.main.web-application-type=none --import=survey-2019.csv
+ */
+@Component
+public class SightingImportRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SightingImportRunner.class);
+
+    private final SightingImporter importer;
+    private final ConfigurableApplicationContext context;
+
+    public SightingImportRunner(SightingImporter importer, ConfigurableApplicationContext context) {
+        this.importer = importer;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        List<String> files = args.getOptionValues("import");
+        if (files == null) {
+            return;
+        }
+        for (String file : files) {
+            Path path = Paths.get(file);
+            logger.info("Importing sightings from {}", path.toAbsolutePath());
+            importer.importFile(path);
+        }
+        if (!(context instanceof WebServerApplicationContext)) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+}
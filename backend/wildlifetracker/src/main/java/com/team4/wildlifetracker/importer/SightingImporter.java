@@ -0,0 +1,261 @@
+package com.team4.wildlifetracker.importer;
+
+import com.team4.wildlifetracker.dto.SightingResponse;
+import com.team4.wildlifetracker.event.SightingEvent;
+import com.team4.wildlifetracker.model.Sighting;
+import com.team4.wildlifetracker.model.User;
+import com.team4.wildlifetracker.repository.SightingBatchRepository;
+import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.service.SpeciesActivityService;
+import com.team4.wildlifetracker.service.SpeciesService;
+import com.team4.wildlifetracker.service.UserStatisticsService;
+import com.team4.wildlifetracker.storage.ImageStorage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Bulk importer for historical sightings from CSV or GeoJSON files.
+ * Rows are streamed from the file and written in JDBC batches, each in its own transaction.
+ * Species and users are cached for the whole import, and user statistics are rebuilt
+ * once at the end instead of being adjusted row by row. Rows whose image_url points at a stored image
+ * (e.g. a re-imported export) take their own reference to it, like any other sighting.
+ *
+ * Recognized fields (case, spaces and underscores ignored): species (required), category,
+ * location, description, image_url, timestamp (ISO date or date-time), pixel_x, pixel_y
+ * (map percent, 0-100), user_id, username.
+ */
+@Service
+public class SightingImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SightingImporter.class);
+
+    static final int BATCH_SIZE = 1000;
+    static final String DEFAULT_CATEGORY = "Uncategorized";
+
+    // Only the first few bad rows are logged individually; the rest are just counted
+    private static final int MAX_LOGGED_ERRORS = 20;
+    private static final DateTimeFormatter SPACED_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm[:ss]");
+
+    private final SightingBatchRepository sightingBatchRepository;
+    private final UserRepository userRepository;
+    private final SpeciesService speciesService;
+    private final UserStatisticsService userStatisticsService;
+    private final SpeciesActivityService speciesActivityService;
+    private final ImageStorage imageStorage;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public SightingImporter(SightingBatchRepository sightingBatchRepository, UserRepository userRepository,
+                            SpeciesService speciesService, UserStatisticsService userStatisticsService,
+                            SpeciesActivityService speciesActivityService, ImageStorage imageStorage,
+                            ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager) {
+        this.sightingBatchRepository = sightingBatchRepository;
+        this.userRepository = userRepository;
+        this.speciesService = speciesService;
+        this.userStatisticsService = userStatisticsService;
+        this.speciesActivityService = speciesActivityService;
+        this.imageStorage = imageStorage;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Import every row of a file.
+     * Rows that cannot be parsed are skipped and counted; rows already written stay written
+     * if the import fails partway through.
+     * @param file A .csv, .geojson or .json file
+     * @return Counts and throughput of the import
+     */
+    public ImportResult importFile(Path file) throws IOException {
+        long started = System.nanoTime();
+        Map<String, String> speciesCache = new HashMap<>();
+        Map<String, Optional<User>> userCache = new HashMap<>();
+        Set<Long> touchedUsers = new HashSet<>();
+        List<Sighting> batch = new ArrayList<>(BATCH_SIZE);
+        long imported = 0;
+        long skipped = 0;
+
+        try (ImportReader reader = ImportReader.open(file)) {
+            Map<String, String> row;
+            while ((row = reader.next()) != null) {
+                Sighting sighting;
+                try {
+                    sighting = toSighting(row, speciesCache, userCache);
+                } catch (IllegalArgumentException | DateTimeParseException e) {
+                    if (skipped++ < MAX_LOGGED_ERRORS) {
+                        logger.warn("Skipping {} of {}: {}", reader.position(), file.getFileName(), e.getMessage());
+                    }
+                    continue;
+                }
+                if (sighting.getUser() != null) {
+                    touchedUsers.add(sighting.getUser().getId());
+                }
+                batch.add(sighting);
+                if (batch.size() == BATCH_SIZE) {
+                    imported += writeBatch(batch);
+                }
+            }
+            imported += writeBatch(batch);
+        }
+
+        for (Long userId : touchedUsers) {
+            userStatisticsService.reconcileUser(userId);
+        }
+
+        ImportResult result = new ImportResult(imported, skipped, System.nanoTime() - started);
+        logger.info("Imported {} sightings from {} ({} skipped) in {} ms, {} rows/s",
+                result.getImported(), file.getFileName(), result.getSkipped(),
+                result.getElapsedMillis(), Math.round(result.getRowsPerSecond()));
+        return result;
+    }
+
+    private int writeBatch(List<Sighting> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int written = transactionTemplate.execute(status -> {
+            List<Long> ids = sightingBatchRepository.insertAll(batch);
+            batch.forEach(sighting -> imageStorage.acquire(sighting.getImageUrl()));
+            speciesActivityService.recordSightings(batch);
+            // The batch insert bypasses the entity listener, so announce the new rows here
+            for (int i = 0; i < batch.size(); i++) {
+                eventPublisher.publishEvent(new SightingEvent(SightingEvent.Type.CREATED,
+                        SightingResponse.fromEntity(batch.get(i), ids.get(i)), true));
+            }
+            return ids.size();
+        });
+        batch.clear();
+        return written;
+    }
+
+    private Sighting toSighting(Map<String, String> row, Map<String, String> speciesCache,
+                                Map<String, Optional<User>> userCache) {
+        String speciesName = text(row, "species");
+        if (speciesName == null) {
+            throw new IllegalArgumentException("missing species");
+        }
+        String category = Optional.ofNullable(text(row, "category")).orElse(DEFAULT_CATEGORY);
+        String species = speciesCache.computeIfAbsent(speciesName,
+                name -> speciesService.getOrCreateSpecies(name, category).getName());
+
+        Sighting sighting = new Sighting(
+                species,
+                text(row, "location"),
+                text(row, "description"),
+                text(row, "imageurl"),
+                coordinate(row, "pixelx"),
+                coordinate(row, "pixely"),
+                findUser(row, userCache));
+        LocalDateTime timestamp = timestamp(text(row, "timestamp"));
+        sighting.setTimestamp(timestamp != null ? timestamp : LocalDateTime.now());
+        return sighting;
+    }
+
+    // Rows name their observer by user_id or username; unknown observers are imported unattributed
+    private User findUser(Map<String, String> row, Map<String, Optional<User>> userCache) {
+        String userId = text(row, "userid");
+        if (userId != null) {
+            long id;
+            try {
+                id = Long.parseLong(userId);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("invalid user_id '" + userId + "'");
+            }
+            return userCache.computeIfAbsent("#" + id, key -> userRepository.findById(id)).orElse(null);
+        }
+        String username = text(row, "username");
+        if (username != null) {
+            return userCache.computeIfAbsent(username, userRepository::findByUsername).orElse(null);
+        }
+        return null;
+    }
+
+    private static Integer coordinate(Map<String, String> row, String field) {
+        String value = text(row, field);
+        if (value == null) {
+            return null;
+        }
+        double parsed;
+        try {
+            parsed = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid " + field + " '" + value + "'");
+        }
+        if (!(parsed >= 0 && parsed <= 100)) {
+            throw new IllegalArgumentException(field + " " + value + " is outside the map (0-100)");
+        }
+        return (int) Math.round(parsed);
+    }
+
+    private static LocalDateTime timestamp(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.length() <= 10) {
+            return LocalDate.parse(value).atStartOfDay();
+        }
+        if (value.charAt(10) == ' ') {
+            return LocalDateTime.parse(value, SPACED_DATE_TIME);
+        }
+        return LocalDateTime.parse(value);
+    }
+
+    private static String text(Map<String, String> row, String field) {
+        String value = row.get(field);
+        if (value == null) {
+            return null;
+        }
+        value = value.trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Outcome of one import run.
+     */
+    public static class ImportResult {
+
+        private final long imported;
+        private final long skipped;
+        private final long elapsedNanos;
+
+        public ImportResult(long imported, long skipped, long elapsedNanos) {
+            this.imported = imported;
+            this.skipped = skipped;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long getImported() {
+            return imported;
+        }
+
+        public long getSkipped() {
+            return skipped;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedNanos / 1_000_000;
+        }
+
+        public double getRowsPerSecond() {
+            return elapsedNanos == 0 ? 0 : imported * 1_000_000_000.0 / elapsedNanos;
+        }
+    }
+}
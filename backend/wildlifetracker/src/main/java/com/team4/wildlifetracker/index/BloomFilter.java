@@ -0,0 +1,82 @@
+package com.team4.wildlifetracker.index;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over pairs of longs (e.g. sighting ID and user ID).
+ * mightContain never returns false for a pair that was added; it returns true for a pair that
+ * wasn't added with roughly the configured probability, as long as no more pairs than expected
+ * have been added. Pairs can't be removed.
+ * Thread-safe: bits are set with atomic updates, so adds and lookups need no locking.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions Number of pairs the filter is sized for
+     * @param falsePositiveRate Target false positive probability at that size, between 0 and 1
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE, (bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(long a, long b) {
+        long h1 = mix(a * 0x9E3779B97F4A7C15L + b);
+        long h2 = mix(h1 ^ b) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    public boolean mightContain(long a, long b) {
+        long h1 = mix(a * 0x9E3779B97F4A7C15L + b);
+        long h2 = mix(h1 ^ b) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void clear() {
+        for (int i = 0; i < words.length(); i++) {
+            words.set(i, 0L);
+        }
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    // SplitMix64 finalizer: spreads sequential IDs across the whole bit array
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
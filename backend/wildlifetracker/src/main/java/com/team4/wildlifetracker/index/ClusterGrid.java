@@ -0,0 +1,107 @@
+package com.team4.wildlifetracker.index;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Aggregates map points into square grid cells, one cluster per occupied cell.
+ * Each cluster keeps a running count, coordinate sums and per-species counts,
+ * so adding or removing a point is O(1) and centroids never need a rescan.
+ * Not thread-safe; callers are responsible for synchronization.
+ */
+public class ClusterGrid {
+
+    public static final class Cluster {
+        private long count;
+        private long sumX;
+        private long sumY;
+        private final Map<String, Integer> speciesCounts = new HashMap<>();
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getCentroidX() {
+            return (double) sumX / count;
+        }
+
+        public double getCentroidY() {
+            return (double) sumY / count;
+        }
+
+        /**
+         * Most frequently seen species in the cluster; ties go to the alphabetically first name.
+         */
+        public String getDominantSpecies() {
+            String dominant = null;
+            int best = 0;
+            for (Map.Entry<String, Integer> entry : speciesCounts.entrySet()) {
+                int n = entry.getValue();
+                if (n > best || (n == best && entry.getKey().compareTo(dominant) < 0)) {
+                    dominant = entry.getKey();
+                    best = n;
+                }
+            }
+            return dominant;
+        }
+    }
+
+    private final int cellSize;
+    private final Map<Long, Cluster> cells = new HashMap<>();
+
+    public ClusterGrid(int cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.cellSize = cellSize;
+    }
+
+    public void add(MapPoint point) {
+        Cluster cluster = cells.computeIfAbsent(cellKey(point), k -> new Cluster());
+        cluster.count++;
+        cluster.sumX += point.getX();
+        cluster.sumY += point.getY();
+        if (point.getSpecies() != null) {
+            cluster.speciesCounts.merge(point.getSpecies(), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Remove a point previously added with the same coordinates and species.
+     */
+    public void remove(MapPoint point) {
+        long key = cellKey(point);
+        Cluster cluster = cells.get(key);
+        if (cluster == null) {
+            return;
+        }
+        if (--cluster.count == 0) {
+            cells.remove(key);
+            return;
+        }
+        cluster.sumX -= point.getX();
+        cluster.sumY -= point.getY();
+        if (point.getSpecies() != null) {
+            cluster.speciesCounts.computeIfPresent(point.getSpecies(), (species, n) -> n > 1 ? n - 1 : null);
+        }
+    }
+
+    public Collection<Cluster> clusters() {
+        return cells.values();
+    }
+
+    public int size() {
+        return cells.size();
+    }
+
+    public void clear() {
+        cells.clear();
+    }
+
+    private long cellKey(MapPoint point) {
+        int cx = Math.floorDiv(point.getX(), cellSize);
+        int cy = Math.floorDiv(point.getY(), cellSize);
+        return ((long) cx << 32) | (cy & 0xffffffffL);
+    }
+}
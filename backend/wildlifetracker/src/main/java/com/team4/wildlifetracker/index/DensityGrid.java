@@ -0,0 +1,88 @@
+package com.team4.wildlifetracker.index;
+
+import java.util.Arrays;
+
+/**
+ * Counts map points per cell of a square grid laid over the whole map (0-100 percent on each axis).
+ * Keeps the largest cell count up to date so densities can be normalized without a scan,
+ * except when a fullest cell shrinks, which triggers a rescan.
+ * Not thread-safe; callers are responsible for synchronization.
+ */
+public class DensityGrid {
+
+    private final int side;
+    private final int[] counts;
+    private int max;
+
+    public DensityGrid(int side) {
+        if (side <= 0) {
+            throw new IllegalArgumentException("Side must be positive");
+        }
+        this.side = side;
+        this.counts = new int[side * side];
+    }
+
+    /**
+     * Count a point.
+     * @return true if this raised the largest cell count
+     */
+    public boolean add(MapPoint point) {
+        int n = ++counts[index(point)];
+        if (n > max) {
+            max = n;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Remove a point previously added with the same coordinates.
+     * @return true if this lowered the largest cell count
+     */
+    public boolean remove(MapPoint point) {
+        int i = index(point);
+        if (counts[i] == 0) {
+            return false;
+        }
+        if (counts[i]-- < max) {
+            return false;
+        }
+        int previous = max;
+        max = 0;
+        for (int n : counts) {
+            if (n > max) {
+                max = n;
+            }
+        }
+        return max != previous;
+    }
+
+    public int get(int cellX, int cellY) {
+        return counts[cellY * side + cellX];
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    public int getSide() {
+        return side;
+    }
+
+    /**
+     * Column or row of the cell holding a map coordinate; 100 falls into the last cell.
+     */
+    public int cellOf(int coordinate) {
+        int clamped = Math.max(0, Math.min(coordinate, 100));
+        return Math.min(clamped * side / 100, side - 1);
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0);
+        max = 0;
+    }
+
+    private int index(MapPoint point) {
+        return cellOf(point.getY()) * side + cellOf(point.getX());
+    }
+}
@@ -0,0 +1,135 @@
+package com.team4.wildlifetracker.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Weighted inverted index from lower-cased word tokens to document IDs.
+ * Query tokens match indexed tokens by prefix, so "wol" finds "Gray Wolf".
+ * Not thread-safe; callers are responsible for synchronization.
+ */
+public class InvertedIndex {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // token -> (document ID -> weight), sorted so prefix lookups are a range scan
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    // document ID -> its tokens, so a document can be removed without rescanning postings
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+
+    /**
+     * Split text into lower-cased word tokens.
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Index a document, replacing any previous version.
+     * @param fields text of each field mapped to the field's weight; a token found in
+     *               several fields keeps the highest weight
+     */
+    public void put(long id, Map<String, Integer> fields) {
+        remove(id);
+        Map<String, Integer> tokens = new HashMap<>();
+        fields.forEach((text, weight) -> {
+            for (String token : tokenize(text)) {
+                tokens.merge(token, weight, Math::max);
+            }
+        });
+        if (tokens.isEmpty()) {
+            return;
+        }
+        documents.put(id, tokens);
+        tokens.forEach((token, weight) -> postings.computeIfAbsent(token, t -> new HashMap<>()).put(id, weight));
+    }
+
+    public void remove(long id) {
+        Map<String, Integer> tokens = documents.remove(id);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens.keySet()) {
+            Map<Long, Integer> ids = postings.get(token);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Find documents containing every query token (as a token prefix).
+     * Each query token scores the best weight among the tokens it matches, doubled for an exact match.
+     * @return matching document IDs, highest score first and newest (highest ID) first on ties
+     */
+    public List<Long> search(String query) {
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Integer> scores = null;
+        for (String queryToken : queryTokens) {
+            Map<Long, Integer> tokenScores = new HashMap<>();
+            for (Map.Entry<String, Map<Long, Integer>> posting : prefixRange(queryToken).entrySet()) {
+                int multiplier = posting.getKey().equals(queryToken) ? 2 : 1;
+                posting.getValue().forEach((id, weight) -> tokenScores.merge(id, weight * multiplier, Math::max));
+            }
+            if (scores == null) {
+                scores = tokenScores;
+            } else {
+                // Keep only documents matched by every query token
+                Map<Long, Integer> previous = scores;
+                scores = new HashMap<>();
+                for (Map.Entry<Long, Integer> entry : tokenScores.entrySet()) {
+                    Integer score = previous.get(entry.getKey());
+                    if (score != null) {
+                        scores.put(entry.getKey(), score + entry.getValue());
+                    }
+                }
+            }
+            if (scores.isEmpty()) {
+                return Collections.emptyList();
+            }
+        }
+
+        List<Map.Entry<Long, Integer>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.<Long, Integer>comparingByKey().reversed()));
+        List<Long> ids = new ArrayList<>(ranked.size());
+        for (Map.Entry<Long, Integer> entry : ranked) {
+            ids.add(entry.getKey());
+        }
+        return ids;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public void clear() {
+        postings.clear();
+        documents.clear();
+    }
+
+    private NavigableMap<String, Map<Long, Integer>> prefixRange(String prefix) {
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+}
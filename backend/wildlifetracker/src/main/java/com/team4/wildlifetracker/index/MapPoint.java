@@ -0,0 +1,35 @@
+package com.team4.wildlifetracker.index;
+
+/**
+ * A sighting's position on the campus map, as held by the in-memory map indexes.
+ */
+public final class MapPoint {
+
+    private final long id;
+    private final int x;
+    private final int y;
+    private final String species;
+
+    public MapPoint(Long id, Integer x, Integer y, String species) {
+        this.id = id;
+        this.x = x;
+        this.y = y;
+        this.species = species;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public String getSpecies() {
+        return species;
+    }
+}
@@ -0,0 +1,186 @@
+package com.team4.wildlifetracker.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sorted set with order statistics, implemented as a treap whose nodes track subtree sizes.
+ * Insert, remove, rank lookup and positional access all run in O(log n) expected time.
+ * Not thread-safe; callers are responsible for synchronization.
+ *
+ * @param <T> element type, ordered by the supplied comparator
+ */
+public class RankedTree<T> {
+
+    private static final class Node<T> {
+        private final T value;
+        private final int priority;
+        private int size = 1;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(T value) {
+            this.value = value;
+            this.priority = ThreadLocalRandom.current().nextInt();
+        }
+    }
+
+    private final Comparator<? super T> comparator;
+    private Node<T> root;
+
+    public RankedTree(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Add an element.
+     * @return true if the element was added, false if an equal element was already present
+     */
+    public boolean add(T value) {
+        if (rankOf(value) >= 0) {
+            return false;
+        }
+        Node<T>[] parts = split(root, value, false);
+        root = merge(merge(parts[0], new Node<>(value)), parts[1]);
+        return true;
+    }
+
+    /**
+     * Remove an element.
+     * @return true if the element was present
+     */
+    public boolean remove(T value) {
+        Node<T>[] lower = split(root, value, false);
+        Node<T>[] upper = split(lower[1], value, true);
+        root = merge(lower[0], upper[1]);
+        return upper[0] != null;
+    }
+
+    /**
+     * Zero-based position of an element in sort order.
+     * @return the position, or -1 if the element is not present
+     */
+    public int rankOf(T value) {
+        int rank = 0;
+        Node<T> node = root;
+        while (node != null) {
+            int cmp = comparator.compare(value, node.value);
+            if (cmp < 0) {
+                node = node.left;
+            } else if (cmp > 0) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Element at a zero-based position in sort order.
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+        }
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * The first n elements in sort order.
+     */
+    public List<T> first(int n) {
+        List<T> result = new ArrayList<>(Math.max(0, Math.min(n, size())));
+        Deque<Node<T>> stack = new ArrayDeque<>();
+        Node<T> node = root;
+        while ((node != null || !stack.isEmpty()) && result.size() < n) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+            node = stack.pop();
+            result.add(node.value);
+            node = node.right;
+        }
+        return result;
+    }
+
+    /**
+     * All elements in sort order.
+     */
+    public List<T> toList() {
+        return first(size());
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public void clear() {
+        root = null;
+    }
+
+    // Splits a subtree into elements ordered before value (and equal to it when inclusive) and the rest
+    @SuppressWarnings("unchecked")
+    private Node<T>[] split(Node<T> node, T value, boolean inclusive) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        int cmp = comparator.compare(node.value, value);
+        if (cmp < 0 || (inclusive && cmp == 0)) {
+            Node<T>[] parts = split(node.right, value, inclusive);
+            node.right = parts[0];
+            update(node);
+            parts[0] = node;
+            return parts;
+        }
+        Node<T>[] parts = split(node.left, value, inclusive);
+        node.left = parts[1];
+        update(node);
+        parts[1] = node;
+        return parts;
+    }
+
+    // Joins two subtrees where every element of left is ordered before every element of right
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private void update(Node<T> node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+}
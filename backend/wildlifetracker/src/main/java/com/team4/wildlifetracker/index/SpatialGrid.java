@@ -0,0 +1,131 @@
+package com.team4.wildlifetracker.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Uniform grid over map pixel coordinates.
+ * Points are bucketed into square cells so a bounding-box query only visits the cells it overlaps.
+ * Not thread-safe; callers are responsible for synchronization.
+ */
+public class SpatialGrid {
+
+    private final int cellSize;
+    private final Map<Long, Map<Long, MapPoint>> cells = new HashMap<>();
+    private final Map<Long, MapPoint> points = new HashMap<>();
+
+    public SpatialGrid(int cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Add a point, replacing any point previously stored under the same ID.
+     */
+    public void put(MapPoint point) {
+        remove(point.getId());
+        points.put(point.getId(), point);
+        cells.computeIfAbsent(cellKey(cell(point.getX()), cell(point.getY())), k -> new HashMap<>())
+                .put(point.getId(), point);
+    }
+
+    /**
+     * Remove the point stored under an ID.
+     * @return the removed point, or null if there was none
+     */
+    public MapPoint remove(long id) {
+        MapPoint point = points.remove(id);
+        if (point != null) {
+            long key = cellKey(cell(point.getX()), cell(point.getY()));
+            Map<Long, MapPoint> bucket = cells.get(key);
+            bucket.remove(id);
+            if (bucket.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+        return point;
+    }
+
+    public MapPoint get(long id) {
+        return points.get(id);
+    }
+
+    /**
+     * Points inside a bounding box (inclusive).
+     * @param minSpacing when positive, keep at most one point per minSpacing x minSpacing square,
+     *                   so dense areas are thinned out at low zoom levels
+     * @param limit maximum number of points to return
+     */
+    public List<MapPoint> query(int minX, int minY, int maxX, int maxY, int minSpacing, int limit) {
+        List<MapPoint> result = new ArrayList<>();
+        Set<Long> occupied = minSpacing > 0 ? new HashSet<>() : null;
+
+        // Visit the overlapped cells, or just the occupied ones when the box covers more cells than exist
+        long overlapped = ((long) cell(maxX) - cell(minX) + 1) * ((long) cell(maxY) - cell(minY) + 1);
+        if (overlapped > cells.size()) {
+            for (Map<Long, MapPoint> bucket : cells.values()) {
+                if (collect(bucket, minX, minY, maxX, maxY, minSpacing, occupied, result, limit)) {
+                    return result;
+                }
+            }
+            return result;
+        }
+
+        for (int cx = cell(minX); cx <= cell(maxX); cx++) {
+            for (int cy = cell(minY); cy <= cell(maxY); cy++) {
+                Map<Long, MapPoint> bucket = cells.get(cellKey(cx, cy));
+                if (bucket != null && collect(bucket, minX, minY, maxX, maxY, minSpacing, occupied, result, limit)) {
+                    return result;
+                }
+            }
+        }
+        return result;
+    }
+
+    // Adds the bucket's points that fall inside the box; returns true once the limit is reached
+    private boolean collect(Map<Long, MapPoint> bucket, int minX, int minY, int maxX, int maxY,
+                            int minSpacing, Set<Long> occupied, List<MapPoint> result, int limit) {
+        for (MapPoint point : bucket.values()) {
+            if (point.getX() < minX || point.getX() > maxX || point.getY() < minY || point.getY() > maxY) {
+                continue;
+            }
+            if (occupied != null && !occupied.add(cellKey(
+                    Math.floorDiv(point.getX(), minSpacing), Math.floorDiv(point.getY(), minSpacing)))) {
+                continue;
+            }
+            result.add(point);
+            if (result.size() >= limit) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Collection<MapPoint> points() {
+        return points.values();
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    public void clear() {
+        points.clear();
+        cells.clear();
+    }
+
+    private int cell(int coordinate) {
+        return Math.floorDiv(coordinate, cellSize);
+    }
+
+    private static long cellKey(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xffffffffL);
+    }
+}
@@ -0,0 +1,171 @@
+package com.team4.wildlifetracker.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Case-insensitive prefix trie over species names, weighted by sighting frequency.
+ * Every node caches the top suggestions of its subtree, so a lookup costs one walk down
+ * the prefix; writes refresh the cached lists along the path to the changed name.
+ * Not thread-safe; callers are responsible for synchronization.
+ */
+public class SpeciesTrie {
+
+    public static final class Suggestion {
+        private final String name;
+        private final long weight;
+
+        private Suggestion(String name, long weight) {
+            this.name = name;
+            this.weight = weight;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getWeight() {
+            return weight;
+        }
+    }
+
+    private static final Comparator<Suggestion> RANK_ORDER = Comparator
+            .comparingLong(Suggestion::getWeight).reversed()
+            .thenComparing(Suggestion::getName, String.CASE_INSENSITIVE_ORDER);
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Suggestion entry;
+        private List<Suggestion> top = List.of();
+    }
+
+    private final int maxSuggestions;
+    private final Node root = new Node();
+    private int size;
+
+    /**
+     * @param maxSuggestions how many suggestions each node caches, and so the most a lookup can return
+     */
+    public SpeciesTrie(int maxSuggestions) {
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    /**
+     * Add a name, or replace the weight of a name already present (keeping its original spelling).
+     */
+    public void put(String name, long weight) {
+        Deque<Node> path = walk(name, true);
+        Node node = path.peek();
+        if (node.entry == null) {
+            size++;
+            node.entry = new Suggestion(name, weight);
+        } else {
+            node.entry = new Suggestion(node.entry.getName(), weight);
+        }
+        refresh(path);
+    }
+
+    /**
+     * Adjust a name's weight, adding the name first if it is not present.
+     * Weights never drop below zero.
+     */
+    public void addWeight(String name, long delta) {
+        Suggestion current = find(name);
+        put(current != null ? current.getName() : name, Math.max(0, (current != null ? current.getWeight() : 0) + delta));
+    }
+
+    /**
+     * Remove a name.
+     * @return true if the name was present
+     */
+    public boolean remove(String name) {
+        Deque<Node> path = walk(name, false);
+        if (path == null || path.peek().entry == null) {
+            return false;
+        }
+        path.peek().entry = null;
+        size--;
+        refresh(path);
+        prune(name, path);
+        return true;
+    }
+
+    /**
+     * Names starting with a prefix (case-insensitive), highest weight first.
+     * @param limit maximum number of suggestions; capped at the configured maxSuggestions
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        Deque<Node> path = walk(prefix, false);
+        if (path == null) {
+            return List.of();
+        }
+        List<Suggestion> top = path.peek().top;
+        return top.subList(0, Math.min(Math.max(limit, 0), top.size()));
+    }
+
+    public Suggestion find(String name) {
+        Deque<Node> path = walk(name, false);
+        return path == null ? null : path.peek().entry;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Nodes from the root to the node for key, deepest first; null if absent and create is false
+    private Deque<Node> walk(String key, boolean create) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        path.push(node);
+        String normalized = key.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            Node child = node.children.get(c);
+            if (child == null) {
+                if (!create) {
+                    return null;
+                }
+                child = new Node();
+                node.children.put(c, child);
+            }
+            node = child;
+            path.push(node);
+        }
+        return path;
+    }
+
+    // Rebuild the cached top lists bottom-up from each node's own entry and its children's lists
+    private void refresh(Deque<Node> path) {
+        for (Node node : path) {
+            List<Suggestion> candidates = new ArrayList<>();
+            if (node.entry != null) {
+                candidates.add(node.entry);
+            }
+            for (Node child : node.children.values()) {
+                candidates.addAll(child.top);
+            }
+            candidates.sort(RANK_ORDER);
+            node.top = List.copyOf(candidates.subList(0, Math.min(maxSuggestions, candidates.size())));
+        }
+    }
+
+    // Detach nodes left with neither an entry nor children
+    private void prune(String name, Deque<Node> path) {
+        String normalized = name.toLowerCase(Locale.ROOT);
+        Node node = path.pop();
+        for (int i = normalized.length() - 1; i >= 0; i--) {
+            Node parent = path.pop();
+            if (node.entry != null || !node.children.isEmpty()) {
+                return;
+            }
+            parent.children.remove(normalized.charAt(i));
+            node = parent;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.team4.wildlifetracker.index;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Watches bucketed by species, so matching a sighting only visits the watches on its species
+ * plus those on every species, and checks their areas.
+ * Not thread-safe; callers are responsible for synchronization.
+ */
+public class WatchIndex {
+
+    private final Map<Long, Entry> watches = new HashMap<>();
+    private final Map<String, Map<Long, Entry>> bySpecies = new HashMap<>();
+    private final Map<Long, Entry> anySpecies = new LinkedHashMap<>();
+
+    /**
+     * Add a watch, replacing any watch previously stored under the same ID.
+     * @param species Species to match, or null for every species
+     * @param minX Area bounds, inclusive; all null for anywhere
+     */
+    public void put(long watchId, long userId, String species, Integer minX, Integer minY, Integer maxX, Integer maxY) {
+        remove(watchId);
+        Entry entry = new Entry(watchId, userId, species, minX, minY, maxX, maxY);
+        watches.put(watchId, entry);
+        bucket(species).put(watchId, entry);
+    }
+
+    /**
+     * Remove the watch stored under an ID.
+     */
+    public void remove(long watchId) {
+        Entry entry = watches.remove(watchId);
+        if (entry == null) {
+            return;
+        }
+        Map<Long, Entry> bucket = bucket(entry.species);
+        bucket.remove(watchId);
+        if (bucket.isEmpty() && entry.species != null) {
+            bySpecies.remove(entry.species);
+        }
+    }
+
+    /**
+     * Remove every watch belonging to a user.
+     */
+    public void removeUser(long userId) {
+        Iterator<Entry> it = watches.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.userId == userId) {
+                it.remove();
+                Map<Long, Entry> bucket = bucket(entry.species);
+                bucket.remove(entry.watchId);
+                if (bucket.isEmpty() && entry.species != null) {
+                    bySpecies.remove(entry.species);
+                }
+            }
+        }
+    }
+
+    /**
+     * Users with a watch matching a sighting.
+     * A sighting without a map position only matches watches without an area.
+     * @param x Map position, or null if the sighting isn't on the map
+     * @return Distinct user IDs
+     */
+    public Set<Long> findWatchers(String species, Integer x, Integer y) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        if (species != null) {
+            Map<Long, Entry> bucket = bySpecies.get(species);
+            if (bucket != null) {
+                collect(bucket, x, y, userIds);
+            }
+        }
+        collect(anySpecies, x, y, userIds);
+        return userIds;
+    }
+
+    public int size() {
+        return watches.size();
+    }
+
+    public void clear() {
+        watches.clear();
+        bySpecies.clear();
+        anySpecies.clear();
+    }
+
+    private static void collect(Map<Long, Entry> bucket, Integer x, Integer y, Set<Long> userIds) {
+        for (Entry entry : bucket.values()) {
+            if (entry.contains(x, y)) {
+                userIds.add(entry.userId);
+            }
+        }
+    }
+
+    private Map<Long, Entry> bucket(String species) {
+        return species == null ? anySpecies : bySpecies.computeIfAbsent(species, k -> new LinkedHashMap<>());
+    }
+
+    private static final class Entry {
+
+        private final long watchId;
+        private final long userId;
+        private final String species;
+        private final Integer minX;
+        private final Integer minY;
+        private final Integer maxX;
+        private final Integer maxY;
+
+        private Entry(long watchId, long userId, String species, Integer minX, Integer minY, Integer maxX, Integer maxY) {
+            this.watchId = watchId;
+            this.userId = userId;
+            this.species = species;
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+        }
+
+        boolean contains(Integer x, Integer y) {
+            if (minX == null) {
+                return true;
+            }
+            return x != null && y != null && x >= minX && x <= maxX && y >= minY && y <= maxY;
+        }
+    }
+}
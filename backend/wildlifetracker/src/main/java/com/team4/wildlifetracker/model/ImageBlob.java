@@ -0,0 +1,103 @@
+package com.team4.wildlifetracker.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+import java.time.LocalDateTime;
+
+/**
+ * A stored image file, identified by the SHA-256 of its content.
+ * Identical uploads share one blob; refCount tracks how many sightings and profiles point at it,
+ * plus uploads not yet attached to one, so the file can be deleted once the last one is released.
+ * unclaimedUploads counts those pending uploads: the first referrer of an upload takes over its reference.
+ * Maps to the image_blobs table in the database.
+ */
+@Entity
+@Table(name = "image_blobs",
+        uniqueConstraints = @UniqueConstraint(name = "uk_image_blob_sha256", columnNames = "sha256"))
+public class ImageBlob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(nullable = false, length = 255)
+    private String url;
+
+    @Column(name = "size_bytes", nullable = false)
+    private Long sizeBytes;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount = 1;
+
+    @ColumnDefault("0")
+    @Column(name = "unclaimed_uploads", nullable = false)
+    private Integer unclaimedUploads = 1;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public ImageBlob() {
+    }
+
+    public ImageBlob(String sha256, String url, Long sizeBytes) {
+        this.sha256 = sha256;
+        this.url = url;
+        this.sizeBytes = sizeBytes;
+    }
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public Long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public void setSizeBytes(Long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+
+    public Integer getRefCount() {
+        return refCount;
+    }
+
+    public void setRefCount(Integer refCount) {
+        this.refCount = refCount;
+    }
+
+    public Integer getUnclaimedUploads() {
+        return unclaimedUploads;
+    }
+
+    public void setUnclaimedUploads(Integer unclaimedUploads) {
+        this.unclaimedUploads = unclaimedUploads;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        // Inbox pages and unread counts for one user, newest first
+        @Index(name = "idx_notification_inbox", columnList = "user_id, is_read, timestamp")
+})
 public class Notification {
 
     @Id
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 
 /**
  * Profile entity representing user statistics and achievements.
+ * Sighting statistics live on the user (see UserStatisticsService); this holds the rest.
  * Maps to the profiles table in the database.
  */
 @Entity
@@ -19,13 +20,8 @@ public class Profile {
     @JoinColumn(name = "user_id", nullable = false, unique = true)
     private User user;
 
-    @Column(name = "animals_logged", nullable = false)
-    private Long animalsLogged = 0L;
-
-    @Column(name = "species_seen", nullable = false)
-    private Long speciesSeen = 0L;
-
-    @Column(nullable = false)
+    // Only changed by ProfileRepository.incrementAssists, so saving a profile can't overwrite it
+    @Column(nullable = false, updatable = false)
     private Long assists = 0L;
 
     @Column(name = "most_frequent_area", length = 255)
@@ -36,8 +32,6 @@ public class Profile {
 
     public Profile(User user) {
         this.user = user;
-        this.animalsLogged = 0L;
-        this.speciesSeen = 0L;
         this.assists = 0L;
     }
 
@@ -58,22 +52,6 @@ public class Profile {
         this.user = user;
     }
 
-    public Long getAnimalsLogged() {
-        return animalsLogged;
-    }
-
-    public void setAnimalsLogged(Long animalsLogged) {
-        this.animalsLogged = animalsLogged;
-    }
-
-    public Long getSpeciesSeen() {
-        return speciesSeen;
-    }
-
-    public void setSpeciesSeen(Long speciesSeen) {
-        this.speciesSeen = speciesSeen;
-    }
-
     public Long getAssists() {
         return assists;
     }
@@ -89,18 +67,4 @@ public class Profile {
     public void setMostFrequentArea(String mostFrequentArea) {
         this.mostFrequentArea = mostFrequentArea;
     }
-
-    /**
-     * Increment the animals logged counter.
-     */
-    public void incrementAnimalsLogged() {
-        this.animalsLogged++;
-    }
-
-    /**
-     * Increment the assists counter.
-     */
-    public void incrementAssists() {
-        this.assists++;
-    }
 }
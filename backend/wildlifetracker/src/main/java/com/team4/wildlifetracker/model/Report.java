@@ -6,9 +6,12 @@ import java.time.LocalDateTime;
 /**
  * Report entity representing user reports of sightings.
  * Maps to the reports table in the database.
+ * A user can report a sighting once; the unique constraint enforces this, with
+ * ReportService's in-memory check only as a fast path in front of it.
  */
 @Entity
-@Table(name = "reports")
+@Table(name = "reports",
+        uniqueConstraints = @UniqueConstraint(name = "uk_report_sighting_user", columnNames = {"sighting_id", "user_id"}))
 public class Report {
 
     @Id
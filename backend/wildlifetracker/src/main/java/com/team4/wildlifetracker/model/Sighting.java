@@ -1,10 +1,21 @@
 package com.team4.wildlifetracker.model;
 
+import com.team4.wildlifetracker.event.SightingEntityListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "sightings")
+// Composite indexes serve the filtered, newest-first listings in SightingQueryRepository
+@Table(name = "sightings", indexes = {
+        @Index(name = "idx_species_timestamp", columnList = "species, timestamp"),
+        @Index(name = "idx_user_timestamp", columnList = "user_id, timestamp"),
+        @Index(name = "idx_timestamp", columnList = "timestamp"),
+        @Index(name = "idx_map_position", columnList = "pixel_x, pixel_y"),
+        @Index(name = "idx_moderation_queue", columnList = "report_count, last_reported_at, id")
+})
+@EntityListeners(SightingEntityListener.class)
 public class Sighting {
 
     @Id
@@ -19,6 +30,13 @@ public class Sighting {
 
     private String imageUrl;
 
+    // Downscaled copies of the image, filled in once background processing finishes
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    @Column(name = "web_image_url")
+    private String webImageUrl;
+
     private LocalDateTime timestamp = LocalDateTime.now();
 
     // Pixel coordinates on the campus map image
@@ -28,6 +46,23 @@ public class Sighting {
     @Column(name = "pixel_y")
     private Integer pixelY;
 
+    // Moderation state, written only by ReportService's bulk updates so saving a sighting never overwrites it
+    @ColumnDefault("0")
+    @Column(name = "report_count", nullable = false, updatable = false)
+    private int reportCount;
+
+    @Column(name = "last_reported_at", updatable = false)
+    private LocalDateTime lastReportedAt;
+
+    // Hidden sightings are left out of the public listings until a moderator restores them
+    @ColumnDefault("false")
+    @Column(nullable = false, updatable = false)
+    private boolean hidden;
+
+    // Species as last read from or written to the database, so update events can say what it was
+    @Transient
+    private String persistedSpecies;
+
     // Link to the user who created this sighting
     @ManyToOne
     @JoinColumn(name = "user_id")
@@ -58,6 +93,9 @@ public class Sighting {
     public String getSpecies() { return species; }
     public void setSpecies(String species) { this.species = species; }
 
+    public String getPersistedSpecies() { return persistedSpecies; }
+    public void setPersistedSpecies(String persistedSpecies) { this.persistedSpecies = persistedSpecies; }
+
     public String getLocation() { return location; }
     public void setLocation(String location) { this.location = location; }
 
@@ -67,6 +105,12 @@ public class Sighting {
     public String getImageUrl() { return imageUrl; }
     public void setImageUrl(String imageUrl) { this.imageUrl = imageUrl; }
 
+    public String getThumbnailUrl() { return thumbnailUrl; }
+    public void setThumbnailUrl(String thumbnailUrl) { this.thumbnailUrl = thumbnailUrl; }
+
+    public String getWebImageUrl() { return webImageUrl; }
+    public void setWebImageUrl(String webImageUrl) { this.webImageUrl = webImageUrl; }
+
     public LocalDateTime getTimestamp() { return timestamp; }
     public void setTimestamp(LocalDateTime timestamp) { this.timestamp = timestamp; }
 
@@ -78,4 +122,10 @@ public class Sighting {
 
     public Integer getPixelY() { return pixelY; }
     public void setPixelY(Integer pixelY) { this.pixelY = pixelY; }
+
+    public int getReportCount() { return reportCount; }
+
+    public LocalDateTime getLastReportedAt() { return lastReportedAt; }
+
+    public boolean isHidden() { return hidden; }
 }
@@ -1,5 +1,6 @@
 package com.team4.wildlifetracker.model;
 
+import com.team4.wildlifetracker.event.SpeciesEntityListener;
 import jakarta.persistence.*;
 
 /**
@@ -8,6 +9,7 @@ import jakarta.persistence.*;
  */
 @Entity
 @Table(name = "species")
+@EntityListeners(SpeciesEntityListener.class)
 public class Species {
 
     @Id
@@ -0,0 +1,82 @@
+package com.team4.wildlifetracker.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * Number of sightings of one species on one day at one location.
+ * Maintained incrementally as sightings are written, so activity charts read these
+ * rollup rows instead of scanning sightings. Per-species daily totals are the sum over locations.
+ * Maps to the species_daily_activity table in the database.
+ */
+@Entity
+@Table(name = "species_daily_activity",
+        uniqueConstraints = @UniqueConstraint(name = "uk_species_daily_activity",
+                columnNames = {"species", "activity_date", "location"}),
+        indexes = @Index(name = "idx_activity_date", columnList = "activity_date"))
+public class SpeciesDailyActivity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Sightings without a species or location are counted under an empty key
+    @Column(nullable = false, length = 255)
+    private String species;
+
+    @Column(name = "activity_date", nullable = false)
+    private LocalDate activityDate;
+
+    @Column(nullable = false, length = 255)
+    private String location;
+
+    @Column(name = "sighting_count", nullable = false)
+    private Long sightingCount = 0L;
+
+    public SpeciesDailyActivity() {
+    }
+
+    public SpeciesDailyActivity(String species, LocalDate activityDate, String location, Long sightingCount) {
+        this.species = species;
+        this.activityDate = activityDate;
+        this.location = location;
+        this.sightingCount = sightingCount;
+    }
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public String getSpecies() {
+        return species;
+    }
+
+    public void setSpecies(String species) {
+        this.species = species;
+    }
+
+    public LocalDate getActivityDate() {
+        return activityDate;
+    }
+
+    public void setActivityDate(LocalDate activityDate) {
+        this.activityDate = activityDate;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public Long getSightingCount() {
+        return sightingCount;
+    }
+
+    public void setSightingCount(Long sightingCount) {
+        this.sightingCount = sightingCount;
+    }
+}
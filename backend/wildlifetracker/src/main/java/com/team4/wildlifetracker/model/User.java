@@ -1,10 +1,12 @@
 package com.team4.wildlifetracker.model;
 
+import com.team4.wildlifetracker.event.UserEntityListener;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserEntityListener.class)
 public class User {
 
     @Id
@@ -27,13 +29,14 @@ public class User {
     @Column(length = 500)
     private String profilePictureUrl;
     
-    @Column(nullable = false)
+    // Statistics are maintained with UPDATE statements by UserStatisticsService, never by saving the entity
+    @Column(nullable = false, updatable = false)
     private Integer totalAnimalsLogged = 0;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Integer uniqueSpeciesCount = 0;
 
-    @Column
+    @Column(updatable = false)
     private LocalDateTime lastActivityDate;
 
     public User() {}
@@ -0,0 +1,66 @@
+package com.team4.wildlifetracker.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Per-user sighting counter for a single species.
+ * Lets user statistics be adjusted incrementally instead of rescanning sightings.
+ * Maps to the user_species_counts table in the database.
+ */
+@Entity
+@Table(name = "user_species_counts",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_species", columnNames = {"user_id", "species"}))
+public class UserSpeciesCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false, length = 255)
+    private String species;
+
+    @Column(name = "sighting_count", nullable = false)
+    private Long sightingCount = 0L;
+
+    public UserSpeciesCount() {
+    }
+
+    public UserSpeciesCount(User user, String species, Long sightingCount) {
+        this.user = user;
+        this.species = species;
+        this.sightingCount = sightingCount;
+    }
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public String getSpecies() {
+        return species;
+    }
+
+    public void setSpecies(String species) {
+        this.species = species;
+    }
+
+    public Long getSightingCount() {
+        return sightingCount;
+    }
+
+    public void setSightingCount(Long sightingCount) {
+        this.sightingCount = sightingCount;
+    }
+}
@@ -0,0 +1,120 @@
+package com.team4.wildlifetracker.model;
+
+import com.team4.wildlifetracker.event.WatchEntityListener;
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * A user's subscription to new sightings of a species, inside a map area, or both.
+ * A null species matches every species; null bounds match everywhere, including sightings
+ * without a map position. Bounds are map percentages (0-100), inclusive.
+ * Maps to the watches table in the database.
+ */
+@Entity
+@Table(name = "watches", indexes = @Index(name = "idx_watch_user", columnList = "user_id"))
+@EntityListeners(WatchEntityListener.class)
+public class Watch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @Column(length = 255)
+    private String species;
+
+    @Column(name = "min_x")
+    private Integer minX;
+
+    @Column(name = "min_y")
+    private Integer minY;
+
+    @Column(name = "max_x")
+    private Integer maxX;
+
+    @Column(name = "max_y")
+    private Integer maxY;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public Watch() {
+    }
+
+    public Watch(User user, String species, Integer minX, Integer minY, Integer maxX, Integer maxY) {
+        this.user = user;
+        this.species = species;
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+    }
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public String getSpecies() {
+        return species;
+    }
+
+    public void setSpecies(String species) {
+        this.species = species;
+    }
+
+    public Integer getMinX() {
+        return minX;
+    }
+
+    public void setMinX(Integer minX) {
+        this.minX = minX;
+    }
+
+    public Integer getMinY() {
+        return minY;
+    }
+
+    public void setMinY(Integer minY) {
+        this.minY = minY;
+    }
+
+    public Integer getMaxX() {
+        return maxX;
+    }
+
+    public void setMaxX(Integer maxX) {
+        this.maxX = maxX;
+    }
+
+    public Integer getMaxY() {
+        return maxY;
+    }
+
+    public void setMaxY(Integer maxY) {
+        this.maxY = maxY;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,62 @@
+package com.team4.wildlifetracker.repository;
+
+import com.team4.wildlifetracker.model.ImageBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for ImageBlob entity operations.
+ */
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, Long> {
+
+    /**
+     * Find the blob holding content with the given hash.
+     */
+    Optional<ImageBlob> findBySha256(String sha256);
+
+    /**
+     * Add a reference to a blob.
+     * @return number of rows updated (0 if the blob does not exist)
+     */
+    @Modifying
+    @Query("UPDATE ImageBlob b SET b.refCount = b.refCount + 1 WHERE b.sha256 = :sha256")
+    int incrementRefCount(@Param("sha256") String sha256);
+
+    /**
+     * Add the reference held by a new upload of a blob's content, until a sighting or profile claims it.
+     * @return number of rows updated (0 if the blob does not exist)
+     */
+    @Modifying
+    @Query("UPDATE ImageBlob b SET b.refCount = b.refCount + 1, b.unclaimedUploads = b.unclaimedUploads + 1 " +
+           "WHERE b.sha256 = :sha256")
+    int addUpload(@Param("sha256") String sha256);
+
+    /**
+     * Hand the reference of a pending upload to its first referrer.
+     * @return number of rows updated (0 if the blob does not exist or has no pending uploads)
+     */
+    @Modifying
+    @Query("UPDATE ImageBlob b SET b.unclaimedUploads = b.unclaimedUploads - 1 " +
+           "WHERE b.sha256 = :sha256 AND b.unclaimedUploads > 0")
+    int claimUpload(@Param("sha256") String sha256);
+
+    /**
+     * Drop a reference to a blob.
+     * @return number of rows updated (0 if the blob does not exist or has no references left)
+     */
+    @Modifying
+    @Query("UPDATE ImageBlob b SET b.refCount = b.refCount - 1 WHERE b.sha256 = :sha256 AND b.refCount > 0")
+    int decrementRefCount(@Param("sha256") String sha256);
+
+    /**
+     * Remove a blob once its last reference is gone.
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM ImageBlob b WHERE b.sha256 = :sha256 AND b.refCount <= 0")
+    int deleteIfUnreferenced(@Param("sha256") String sha256);
+}
@@ -0,0 +1,69 @@
+package com.team4.wildlifetracker.repository;
+
+import com.team4.wildlifetracker.model.Notification;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Multi-row inserts for notifications, used when one sighting notifies many watchers.
+ * Like SightingBatchRepository, this sidesteps IDENTITY ids disabling Hibernate batching.
+ * Callers publish the NotificationEvents themselves.
+ */
+@Repository
+public class NotificationBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notifications (message, timestamp, is_read, user_id) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insert notifications in one JDBC batch.
+     * @param notifications Unsaved notifications; each must have a user
+     * @return Generated IDs, in the same order as the notifications
+     */
+    public List<Long> insertAll(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Notification notification = notifications.get(i);
+                        ps.setString(1, notification.getMessage());
+                        ps.setTimestamp(2, Timestamp.valueOf(notification.getTimestamp()));
+                        ps.setBoolean(3, notification.isRead());
+                        ps.setLong(4, notification.getUser().getId());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return notifications.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = new ArrayList<>(notifications.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+}
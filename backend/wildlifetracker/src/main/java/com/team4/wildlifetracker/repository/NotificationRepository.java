@@ -1,9 +1,49 @@
 package com.team4.wildlifetracker.repository;
 
+import com.team4.wildlifetracker.dto.NotificationResponse;
 import com.team4.wildlifetracker.model.Notification;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findByUserIdOrderByTimestampDesc(Long userId);
+
+    String SELECT_RESPONSE =
+            "SELECT new com.team4.wildlifetracker.dto.NotificationResponse(n.id, n.message, n.timestamp, n.isRead, n.user.id) " +
+            "FROM Notification n ";
+
+    // First page of a user's inbox, newest first; readStates is [false] for unread only, [false, true] for all.
+    // Served by idx_notification_inbox (user_id, is_read, timestamp)
+    @Query(SELECT_RESPONSE + "WHERE n.user.id = :userId AND n.isRead IN :readStates " +
+           "ORDER BY n.timestamp DESC, n.id DESC")
+    List<NotificationResponse> findInbox(@Param("userId") Long userId,
+                                         @Param("readStates") Collection<Boolean> readStates,
+                                         Limit limit);
+
+    // Keyset pagination: the next notifications after the last one on the previous page
+    @Query(SELECT_RESPONSE + "WHERE n.user.id = :userId AND n.isRead IN :readStates " +
+           "AND (n.timestamp < :beforeTimestamp OR (n.timestamp = :beforeTimestamp AND n.id < :beforeId)) " +
+           "ORDER BY n.timestamp DESC, n.id DESC")
+    List<NotificationResponse> findInboxBefore(@Param("userId") Long userId,
+                                               @Param("readStates") Collection<Boolean> readStates,
+                                               @Param("beforeTimestamp") LocalDateTime beforeTimestamp,
+                                               @Param("beforeId") Long beforeId,
+                                               Limit limit);
+
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false")
+    long countUnread(@Param("userId") Long userId);
+
+    // Mark every unread notification of a user as read in one statement
+    @Modifying
+    @Transactional
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllRead(@Param("userId") Long userId);
 }
@@ -3,7 +3,9 @@ package com.team4.wildlifetracker.repository;
 import com.team4.wildlifetracker.model.Profile;
 import com.team4.wildlifetracker.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -26,18 +28,26 @@ public interface ProfileRepository extends JpaRepository<Profile, Long> {
     /**
      * Find top profiles ordered by animals logged.
      */
-    @Query("SELECT p FROM Profile p ORDER BY p.animalsLogged DESC")
+    @Query("SELECT p FROM Profile p JOIN FETCH p.user u ORDER BY u.totalAnimalsLogged DESC")
     List<Profile> findTopByAnimalsLogged();
     
     /**
      * Find top profiles ordered by species seen.
      */
-    @Query("SELECT p FROM Profile p ORDER BY p.speciesSeen DESC")
+    @Query("SELECT p FROM Profile p JOIN FETCH p.user u ORDER BY u.uniqueSpeciesCount DESC")
     List<Profile> findTopBySpeciesSeen();
     
     /**
      * Find top profiles ordered by assists.
      */
-    @Query("SELECT p FROM Profile p ORDER BY p.assists DESC")
+    @Query("SELECT p FROM Profile p JOIN FETCH p.user ORDER BY p.assists DESC")
     List<Profile> findTopByAssists();
+
+    /**
+     * Increment the assists counter in place.
+     * @return number of rows updated (0 if the user has no profile)
+     */
+    @Modifying
+    @Query("UPDATE Profile p SET p.assists = p.assists + 1 WHERE p.user.id = :userId")
+    int incrementAssists(@Param("userId") Long userId);
 }
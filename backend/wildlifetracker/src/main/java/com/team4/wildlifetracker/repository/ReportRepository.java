@@ -3,10 +3,17 @@ package com.team4.wildlifetracker.repository;
 import com.team4.wildlifetracker.model.Report;
 import com.team4.wildlifetracker.model.Sighting;
 import com.team4.wildlifetracker.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Report entity operations.
@@ -42,10 +49,48 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
      * Check if a user has already reported a sighting.
      */
     boolean existsBySightingIdAndUserId(Long sightingId, Long userId);
-    
+
+    /**
+     * Forward-only stream of every (sighting ID, user ID) pair, used to warm the duplicate-report filter.
+     * Must be consumed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT r.sighting.id, r.user.id FROM Report r")
+    Stream<Object[]> streamSightingAndUserIds();
+
+    /**
+     * Sightings reported by a user, i.e. those whose counters change if the user's reports go.
+     */
+    @Query("SELECT DISTINCT r.sighting.id FROM Report r WHERE r.user.id = :userId")
+    List<Long> findReportedSightingIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Sightings the given reports are about.
+     */
+    @Query("SELECT DISTINCT r.sighting.id FROM Report r WHERE r.id IN :ids")
+    List<Long> findSightingIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Delete every report on a sighting in one statement.
+     * @return number of reports deleted
+     */
+    @Modifying
+    @Query("DELETE FROM Report r WHERE r.sighting.id = :sightingId")
+    int deleteAllBySightingId(@Param("sightingId") Long sightingId);
+
+    /**
+     * Delete every report filed by a user in one statement.
+     * @return number of reports deleted
+     */
+    @Modifying
+    @Query("DELETE FROM Report r WHERE r.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
     /**
-     * Find most reported sightings.
+     * Delete a set of reports in one statement.
+     * @return number of reports deleted
      */
-    @Query("SELECT r.sighting, COUNT(r) as reportCount FROM Report r GROUP BY r.sighting ORDER BY reportCount DESC")
-    List<Object[]> findMostReportedSightings();
+    @Modifying
+    @Query("DELETE FROM Report r WHERE r.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
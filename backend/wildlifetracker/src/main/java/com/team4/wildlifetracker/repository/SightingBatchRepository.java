@@ -0,0 +1,89 @@
+package com.team4.wildlifetracker.repository;
+
+import com.team4.wildlifetracker.model.Sighting;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Multi-row inserts for sightings.
+ * Sighting IDs are IDENTITY columns, which stops Hibernate from batching inserts,
+ * so bulk writes go through a single JDBC batch instead of one statement per entity.
+ * Rows written here bypass the JPA entity listeners; callers publish the SightingEvents themselves.
+ */
+@Repository
+public class SightingBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO sightings (species, location, description, image_url, timestamp, pixel_x, pixel_y, user_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SightingBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insert sightings in one JDBC batch.
+     * Must run inside the caller's transaction so the rows commit or roll back together.
+     * @param sightings Unsaved sightings; their timestamp and user must already be set
+     * @return Generated IDs, in the same order as the sightings
+     */
+    public List<Long> insertAll(List<Sighting> sightings) {
+        if (sightings.isEmpty()) {
+            return List.of();
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Sighting sighting = sightings.get(i);
+                        ps.setString(1, sighting.getSpecies());
+                        ps.setString(2, sighting.getLocation());
+                        ps.setString(3, sighting.getDescription());
+                        ps.setString(4, sighting.getImageUrl());
+                        ps.setTimestamp(5, Timestamp.valueOf(sighting.getTimestamp()));
+                        setInteger(ps, 6, sighting.getPixelX());
+                        setInteger(ps, 7, sighting.getPixelY());
+                        if (sighting.getUser() != null) {
+                            ps.setLong(8, sighting.getUser().getId());
+                        } else {
+                            ps.setNull(8, Types.BIGINT);
+                        }
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return sightings.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = new ArrayList<>(sightings.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.team4.wildlifetracker.repository;
+
+import com.team4.wildlifetracker.dto.SightingFilter;
+import com.team4.wildlifetracker.dto.SightingResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Filtered sighting queries, newest first.
+ * The JPQL is built from only the filters that are set, so the database sees plain
+ * equality and range predicates it can match against the composite indexes on sightings
+ * (species/user + timestamp, map position) instead of "param IS NULL OR ..." clauses.
+ * Sightings hidden by moderation are never returned.
+ */
+@Repository
+public class SightingQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Find one page of sightings matching a filter, ordered by timestamp then ID, both descending.
+     * @param beforeTimestamp Keyset cursor: timestamp of the last row of the previous page, or null for the first page
+     * @param beforeId Keyset cursor: ID of the last row of the previous page
+     * @param limit Maximum number of rows
+     */
+    public List<SightingResponse> find(SightingFilter filter, LocalDateTime beforeTimestamp, Long beforeId, int limit) {
+        StringBuilder jpql = new StringBuilder(SightingRepository.SELECT_RESPONSE).append("WHERE s.hidden = false");
+        Map<String, Object> params = new HashMap<>();
+
+        if (filter.getSpecies() != null) {
+            jpql.append(" AND s.species = :species");
+            params.put("species", filter.getSpecies());
+        }
+        if (filter.getUserId() != null) {
+            jpql.append(" AND u.id = :userId");
+            params.put("userId", filter.getUserId());
+        }
+        if (filter.getFrom() != null) {
+            jpql.append(" AND s.timestamp >= :from");
+            params.put("from", filter.getFrom());
+        }
+        if (filter.getTo() != null) {
+            jpql.append(" AND s.timestamp < :to");
+            params.put("to", filter.getTo());
+        }
+        if (filter.getMinX() != null) {
+            jpql.append(" AND s.pixelX >= :minX");
+            params.put("minX", filter.getMinX());
+        }
+        if (filter.getMaxX() != null) {
+            jpql.append(" AND s.pixelX <= :maxX");
+            params.put("maxX", filter.getMaxX());
+        }
+        if (filter.getMinY() != null) {
+            jpql.append(" AND s.pixelY >= :minY");
+            params.put("minY", filter.getMinY());
+        }
+        if (filter.getMaxY() != null) {
+            jpql.append(" AND s.pixelY <= :maxY");
+            params.put("maxY", filter.getMaxY());
+        }
+        if (filter.getLocation() != null) {
+            // Substring matches can't use an index, so this only narrows rows the other predicates select
+            jpql.append(" AND LOWER(s.location) LIKE :location ESCAPE '\\'");
+            params.put("location", "%" + escapeLike(filter.getLocation().toLowerCase(Locale.ROOT)) + "%");
+        }
+        if (beforeTimestamp != null) {
+            jpql.append(" AND (s.timestamp < :beforeTimestamp OR (s.timestamp = :beforeTimestamp AND s.id < :beforeId))");
+            params.put("beforeTimestamp", beforeTimestamp);
+            params.put("beforeId", beforeId);
+        }
+        jpql.append(" ORDER BY s.timestamp DESC, s.id DESC");
+
+        TypedQuery<SightingResponse> query = entityManager.createQuery(jpql.toString(), SightingResponse.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
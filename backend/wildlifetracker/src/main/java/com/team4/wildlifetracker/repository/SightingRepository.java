@@ -1,16 +1,194 @@
 package com.team4.wildlifetracker.repository;
 
+import com.team4.wildlifetracker.dto.ModerationQueueEntry;
+import com.team4.wildlifetracker.dto.SightingResponse;
+import com.team4.wildlifetracker.index.MapPoint;
 import com.team4.wildlifetracker.model.Sighting;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface SightingRepository extends JpaRepository<Sighting, Long> {
+
+    // Selects sightings directly into SightingResponse DTOs, joining the user in the same statement
+    String SELECT_RESPONSE = "SELECT new com.team4.wildlifetracker.dto.SightingResponse(" +
+            "s.id, s.species, s.location, s.description, s.imageUrl, s.thumbnailUrl, s.webImageUrl, " +
+            "s.timestamp, s.pixelX, s.pixelY, " +
+            "u.id, u.username, u.displayName) FROM Sighting s LEFT JOIN s.user u ";
+
+    // Selects reported sightings as moderation queue entries
+    String SELECT_MODERATION = "SELECT new com.team4.wildlifetracker.dto.ModerationQueueEntry(" +
+            "s.id, s.species, s.location, u.username, s.reportCount, s.lastReportedAt, s.hidden) " +
+            "FROM Sighting s LEFT JOIN s.user u WHERE s.reportCount > 0 " +
+            "AND (:hiddenOnly = false OR s.hidden = true) ";
+
+    // Moderation queue order: most reports first, then most recently reported
+    String MODERATION_ORDER = "ORDER BY s.reportCount DESC, s.lastReportedAt DESC, s.id DESC";
+
+    // Entity loads fetch the eager user in the same statement instead of one select per user
+    @Override
+    @EntityGraph(attributePaths = "user")
+    List<Sighting> findAll();
+
     List<Sighting> findBySpecies(String species);
 
+    @EntityGraph(attributePaths = "user")
     List<Sighting> findByUserId(Long userId);
 
     // Search methods
     List<Sighting> findBySpeciesContainingIgnoreCase(String species);
 
     List<Sighting> findByLocationContainingIgnoreCase(String location);
+
+    // Per-species sighting counts for a user, used to verify user statistics
+    @Query("SELECT s.species, COUNT(s) FROM Sighting s WHERE s.user.id = :userId GROUP BY s.species")
+    List<Object[]> countSpeciesByUserId(@Param("userId") Long userId);
+
+    // Sighting counts per species name, used to rank species autocomplete suggestions
+    @Query("SELECT s.species, COUNT(s) FROM Sighting s WHERE s.species IS NOT NULL GROUP BY s.species")
+    List<Object[]> countBySpecies();
+
+    // Sighting counts per species, day and location, used to rebuild the activity rollups
+    @Query("SELECT s.species, CAST(s.timestamp AS LocalDate), s.location, COUNT(s) FROM Sighting s " +
+           "WHERE s.timestamp IS NOT NULL GROUP BY s.species, CAST(s.timestamp AS LocalDate), s.location")
+    List<Object[]> countBySpeciesDayAndLocation();
+
+    // Public lookups below leave out sightings hidden by moderation
+    @Query(SELECT_RESPONSE + "WHERE s.id = :id AND s.hidden = false")
+    Optional<SightingResponse> findResponseById(@Param("id") Long id);
+
+    @Query(SELECT_RESPONSE + "WHERE u.id = :userId AND s.hidden = false ORDER BY s.id")
+    List<SightingResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+    // A user's newest sightings, served by idx_user_timestamp
+    @Query(SELECT_RESPONSE + "WHERE u.id = :userId AND s.hidden = false ORDER BY s.timestamp DESC, s.id DESC")
+    List<SightingResponse> findRecentResponsesByUserId(@Param("userId") Long userId, Limit limit);
+
+    // Sightings that haven't been hidden by moderation, for the public listings
+    @Query(SELECT_RESPONSE + "WHERE s.hidden = false ORDER BY s.id")
+    List<SightingResponse> findVisibleResponses();
+
+    // Keyset pagination: the next visible sightings after the given ID, in ID order
+    @Query(SELECT_RESPONSE + "WHERE s.hidden = false AND s.id > :afterId ORDER BY s.id")
+    List<SightingResponse> findVisibleResponsesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // Fetch DTOs for a set of sightings, e.g. the IDs returned by an in-memory index;
+    // a sighting hidden between the index lookup and the fetch is left out
+    @Query(SELECT_RESPONSE + "WHERE s.id IN :ids AND s.hidden = false ORDER BY s.id")
+    List<SightingResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Map coordinates of every visible sighting placed on the map, used to build the spatial index
+    @Query("SELECT new com.team4.wildlifetracker.index.MapPoint(s.id, s.pixelX, s.pixelY, s.species) " +
+           "FROM Sighting s WHERE s.pixelX IS NOT NULL AND s.pixelY IS NOT NULL AND s.hidden = false")
+    List<MapPoint> findAllMapPoints();
+
+    // Record generated image variants on every sighting that uses the original image
+    @Modifying
+    @Transactional
+    @Query("UPDATE Sighting s SET s.thumbnailUrl = :thumbnailUrl, s.webImageUrl = :webImageUrl " +
+           "WHERE s.imageUrl = :imageUrl")
+    int setImageVariants(@Param("imageUrl") String imageUrl,
+                         @Param("thumbnailUrl") String thumbnailUrl,
+                         @Param("webImageUrl") String webImageUrl);
+
+    // Same, for one sighting; only applies if the sighting still uses that image
+    @Modifying
+    @Transactional
+    @Query("UPDATE Sighting s SET s.thumbnailUrl = :thumbnailUrl, s.webImageUrl = :webImageUrl " +
+           "WHERE s.id = :id AND s.imageUrl = :imageUrl")
+    int setImageVariantsById(@Param("id") Long id,
+                             @Param("imageUrl") String imageUrl,
+                             @Param("thumbnailUrl") String thumbnailUrl,
+                             @Param("webImageUrl") String webImageUrl);
+
+    // Forward-only stream of all visible sightings; must be consumed inside a transaction.
+    // On MySQL add useCursorFetch=true to the JDBC URL so the fetch size is honored.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_RESPONSE + "WHERE s.hidden = false ORDER BY s.id")
+    Stream<SightingResponse> streamAllResponses();
+
+    // Forward-only stream of the visible sightings matching a filter, in ID order; null filter values match everything.
+    // Same transaction and fetch size requirements as streamAllResponses.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_RESPONSE + "WHERE s.hidden = false " +
+           "AND (:species IS NULL OR s.species = :species) " +
+           "AND (:userId IS NULL OR u.id = :userId) " +
+           "AND (:from IS NULL OR s.timestamp >= :from) " +
+           "AND (:to IS NULL OR s.timestamp < :to) ORDER BY s.id")
+    Stream<SightingResponse> streamResponses(@Param("species") String species,
+                                             @Param("userId") Long userId,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to);
+
+    // First page of the moderation queue, served by idx_moderation_queue
+    @Query(SELECT_MODERATION + MODERATION_ORDER)
+    List<ModerationQueueEntry> findModerationQueue(@Param("hiddenOnly") boolean hiddenOnly, Limit limit);
+
+    // Keyset pagination: the queue entries after the last one of the previous page
+    @Query(SELECT_MODERATION +
+           "AND (s.reportCount < :reportCount OR (s.reportCount = :reportCount " +
+           "AND (s.lastReportedAt < :lastReportedAt OR (s.lastReportedAt = :lastReportedAt AND s.id < :id)))) " +
+           MODERATION_ORDER)
+    List<ModerationQueueEntry> findModerationQueueAfter(@Param("hiddenOnly") boolean hiddenOnly,
+                                                        @Param("reportCount") int reportCount,
+                                                        @Param("lastReportedAt") LocalDateTime lastReportedAt,
+                                                        @Param("id") Long id,
+                                                        Limit limit);
+
+    // Count a new report against a sighting
+    @Modifying
+    @Query("UPDATE Sighting s SET s.reportCount = s.reportCount + 1, s.lastReportedAt = :reportedAt WHERE s.id = :id")
+    int recordReport(@Param("id") Long id, @Param("reportedAt") LocalDateTime reportedAt);
+
+    // Uncount a deleted report; the last-reported time falls back to the newest remaining report
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Sighting s SET s.reportCount = s.reportCount - 1, " +
+           "s.lastReportedAt = (SELECT MAX(r.timestamp) FROM Report r WHERE r.sighting.id = :id) " +
+           "WHERE s.id = :id AND s.reportCount > 0")
+    int removeReport(@Param("id") Long id);
+
+    // Reset the counter once all of a sighting's reports are deleted
+    @Modifying
+    @Query("UPDATE Sighting s SET s.reportCount = 0, s.lastReportedAt = NULL WHERE s.id = :id")
+    int clearReports(@Param("id") Long id);
+
+    // Recount the reports on a set of sightings after a bulk report delete, one statement for all of them
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Sighting s SET " +
+           "s.reportCount = (SELECT COUNT(r) FROM Report r WHERE r.sighting.id = s.id), " +
+           "s.lastReportedAt = (SELECT MAX(r.timestamp) FROM Report r WHERE r.sighting.id = s.id) " +
+           "WHERE s.id IN :ids")
+    int recountReports(@Param("ids") Collection<Long> ids);
+
+    // Recount the reports on every reported sighting, to fill in counters for reports filed before they existed
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Sighting s SET " +
+           "s.reportCount = (SELECT COUNT(r) FROM Report r WHERE r.sighting.id = s.id), " +
+           "s.lastReportedAt = (SELECT MAX(r.timestamp) FROM Report r WHERE r.sighting.id = s.id) " +
+           "WHERE s.id IN (SELECT r.sighting.id FROM Report r)")
+    int recountAllReports();
+
+    boolean existsByReportCountGreaterThan(int reportCount);
+
+    // Hide a sighting whose report count has reached the threshold
+    @Modifying
+    @Query("UPDATE Sighting s SET s.hidden = true " +
+           "WHERE s.id = :id AND s.hidden = false AND s.reportCount >= :threshold")
+    int hideIfReported(@Param("id") Long id, @Param("threshold") int threshold);
+
+    @Modifying
+    @Query("UPDATE Sighting s SET s.hidden = :hidden WHERE s.id = :id")
+    int setHidden(@Param("id") Long id, @Param("hidden") boolean hidden);
 }
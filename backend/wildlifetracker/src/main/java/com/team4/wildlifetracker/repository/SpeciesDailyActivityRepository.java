@@ -0,0 +1,74 @@
+package com.team4.wildlifetracker.repository;
+
+import com.team4.wildlifetracker.dto.LocationActivity;
+import com.team4.wildlifetracker.dto.SpeciesActivity;
+import com.team4.wildlifetracker.model.SpeciesDailyActivity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for SpeciesDailyActivity rollup operations.
+ */
+public interface SpeciesDailyActivityRepository extends JpaRepository<SpeciesDailyActivity, Long> {
+
+    /**
+     * Adjust the counter for a species, day and location.
+     * @return number of rows updated (0 if the counter does not exist yet)
+     */
+    @Modifying
+    @Query("UPDATE SpeciesDailyActivity a SET a.sightingCount = a.sightingCount + :delta " +
+           "WHERE a.species = :species AND a.activityDate = :date AND a.location = :location")
+    int adjust(@Param("species") String species, @Param("date") LocalDate date,
+               @Param("location") String location, @Param("delta") long delta);
+
+    /**
+     * Add sightings to the counter for a species, day and location, creating the counter if it doesn't exist yet.
+     * A single upsert, so concurrent first sightings can't both try to insert the counter.
+     * @return number of rows affected
+     */
+    @Modifying
+    @Query(value = "INSERT INTO species_daily_activity (species, activity_date, location, sighting_count) " +
+                   "VALUES (:species, :date, :location, :amount) " +
+                   "ON DUPLICATE KEY UPDATE sighting_count = sighting_count + :amount",
+           nativeQuery = true)
+    int add(@Param("species") String species, @Param("date") LocalDate date,
+            @Param("location") String location, @Param("amount") long amount);
+
+    /**
+     * Remove the counter for a species, day and location once it has dropped to zero.
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM SpeciesDailyActivity a " +
+           "WHERE a.species = :species AND a.activityDate = :date AND a.location = :location " +
+           "AND a.sightingCount <= 0")
+    int deleteIfEmpty(@Param("species") String species, @Param("date") LocalDate date,
+                      @Param("location") String location);
+
+    /**
+     * Sightings per species per day in a date range (inclusive), summed over locations.
+     * @param species Only this species, or null for all
+     */
+    @Query("SELECT new com.team4.wildlifetracker.dto.SpeciesActivity(a.species, a.activityDate, SUM(a.sightingCount)) " +
+           "FROM SpeciesDailyActivity a " +
+           "WHERE a.activityDate BETWEEN :from AND :to AND (:species IS NULL OR a.species = :species) " +
+           "GROUP BY a.species, a.activityDate ORDER BY a.activityDate, a.species")
+    List<SpeciesActivity> findDaily(@Param("species") String species,
+                                    @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Sightings per location in a date range (inclusive), most active first.
+     * @param species Only this species, or null for all
+     */
+    @Query("SELECT new com.team4.wildlifetracker.dto.LocationActivity(a.location, SUM(a.sightingCount)) " +
+           "FROM SpeciesDailyActivity a " +
+           "WHERE a.activityDate BETWEEN :from AND :to AND (:species IS NULL OR a.species = :species) " +
+           "GROUP BY a.location ORDER BY SUM(a.sightingCount) DESC, a.location")
+    List<LocationActivity> findByLocation(@Param("species") String species,
+                                          @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -1,8 +1,12 @@
 package com.team4.wildlifetracker.repository;
 
+import com.team4.wildlifetracker.dto.UserResponse;
 import com.team4.wildlifetracker.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +16,30 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Get users ordered by leaderboard criteria
     @Query("SELECT u FROM User u ORDER BY u.totalAnimalsLogged DESC, u.uniqueSpeciesCount DESC, u.lastActivityDate DESC")
     List<User> findAllOrderedByLeaderboardRank();
+
+    @Query("SELECT u.id FROM User u ORDER BY u.id")
+    List<Long> findAllIds();
+
+    // Current row as a DTO; unlike findById it never returns a stale copy from the persistence context
+    @Query("SELECT new com.team4.wildlifetracker.dto.UserResponse(u.id, u.username, u.displayName, u.bio, " +
+           "u.profilePictureUrl, u.totalAnimalsLogged, u.uniqueSpeciesCount, u.lastActivityDate) " +
+           "FROM User u WHERE u.id = :id")
+    Optional<UserResponse> findResponseById(@Param("id") Long id);
+
+    // Statistics are only written by these statements, so concurrent sightings can't lose updates.
+    // The species count is recounted from user_species_counts, which must be adjusted first.
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET " +
+           "u.totalAnimalsLogged = CASE WHEN u.totalAnimalsLogged + :sightings < 0 THEN 0 " +
+           "ELSE u.totalAnimalsLogged + :sightings END, " +
+           "u.uniqueSpeciesCount = (SELECT CAST(COUNT(c) AS Integer) FROM UserSpeciesCount c WHERE c.user.id = :id), " +
+           "u.lastActivityDate = :activityAt " +
+           "WHERE u.id = :id")
+    int adjustStatistics(@Param("id") Long id,
+                         @Param("sightings") int sightings,
+                         @Param("activityAt") LocalDateTime activityAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.totalAnimalsLogged = :sightings, u.uniqueSpeciesCount = :species WHERE u.id = :id")
+    int setStatistics(@Param("id") Long id, @Param("sightings") int sightings, @Param("species") int species);
 }
@@ -0,0 +1,62 @@
+package com.team4.wildlifetracker.repository;
+
+import com.team4.wildlifetracker.model.UserSpeciesCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Repository interface for UserSpeciesCount entity operations.
+ */
+public interface UserSpeciesCountRepository extends JpaRepository<UserSpeciesCount, Long> {
+
+    /**
+     * Find all species counters for a user.
+     */
+    List<UserSpeciesCount> findByUserId(Long userId);
+
+    /**
+     * Find all species counters for a user, most sighted species first.
+     */
+    List<UserSpeciesCount> findByUserIdOrderBySightingCountDescSpeciesAsc(Long userId);
+
+    /**
+     * Add sightings to the counter for a user and species, creating the counter if it doesn't exist yet.
+     * A single upsert, so concurrent first sightings of a species can't both try to insert the counter.
+     * @return number of rows affected
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_species_counts (user_id, species, sighting_count) " +
+                   "VALUES (:userId, :species, :amount) " +
+                   "ON DUPLICATE KEY UPDATE sighting_count = sighting_count + :amount",
+           nativeQuery = true)
+    int add(@Param("userId") Long userId, @Param("species") String species, @Param("amount") long amount);
+
+    /**
+     * Decrement the counter for a user and species.
+     * @return number of rows updated (0 if the counter does not exist)
+     */
+    @Modifying
+    @Query("UPDATE UserSpeciesCount c SET c.sightingCount = c.sightingCount - 1 " +
+           "WHERE c.user.id = :userId AND c.species = :species AND c.sightingCount > 0")
+    int decrement(@Param("userId") Long userId, @Param("species") String species);
+
+    /**
+     * Remove the counter for a user and species once it has dropped to zero.
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM UserSpeciesCount c " +
+           "WHERE c.user.id = :userId AND c.species = :species AND c.sightingCount <= 0")
+    int deleteIfEmpty(@Param("userId") Long userId, @Param("species") String species);
+
+    /**
+     * Remove all counters for a user.
+     */
+    @Modifying
+    @Query("DELETE FROM UserSpeciesCount c WHERE c.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
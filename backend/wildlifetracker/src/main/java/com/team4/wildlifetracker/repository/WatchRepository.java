@@ -0,0 +1,14 @@
+package com.team4.wildlifetracker.repository;
+
+import com.team4.wildlifetracker.model.Watch;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * Repository interface for Watch operations.
+ */
+public interface WatchRepository extends JpaRepository<Watch, Long> {
+
+    List<Watch> findByUserIdOrderByCreatedAtDesc(Long userId);
+}
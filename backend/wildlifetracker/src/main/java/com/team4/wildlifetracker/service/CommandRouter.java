@@ -4,6 +4,7 @@ import com.team4.wildlifetracker.dto.Command;
 import com.team4.wildlifetracker.dto.CommandResponse;
 import com.team4.wildlifetracker.dto.LeaderboardEntry;
 import com.team4.wildlifetracker.dto.ProfileUpdateRequest;
+import com.team4.wildlifetracker.dto.SightingResponse;
 import com.team4.wildlifetracker.dto.UserResponse;
 import com.team4.wildlifetracker.model.Notification;
 import com.team4.wildlifetracker.model.Sighting;
@@ -110,11 +111,12 @@ public class CommandRouter {
                 if (id == null) {
                     yield CommandResponse.error("Sighting id is required");
                 }
-                Sighting sighting = sightingService.findById(id);
+                // Like GET /api/sightings/{id}, sightings hidden by moderation are not found
+                SightingResponse sighting = sightingService.findByIdAsDto(id);
                 yield CommandResponse.success("Sighting retrieved", sighting);
             }
             case "getall" -> {
-                List<Sighting> sightings = sightingService.findAll();
+                List<SightingResponse> sightings = sightingService.findAllAsDto();
                 yield CommandResponse.success("Sightings retrieved", sightings);
             }
             case "update" -> {
@@ -0,0 +1,322 @@
+package com.team4.wildlifetracker.service;
+
+import com.team4.wildlifetracker.dto.SightingResponse;
+import com.team4.wildlifetracker.event.SightingEvent;
+import com.team4.wildlifetracker.index.DensityGrid;
+import com.team4.wildlifetracker.index.MapPoint;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Server-side heatmap layer for the campus map, served as 256px PNG tiles.
+ * Zoom level z splits the map into 2^z by 2^z tiles. Each level keeps a density grid of
+ * CELLS_PER_TILE cells per tile side, and each occupied cell is drawn as a soft circle whose
+ * strength grows with the log of its count relative to the fullest cell.
+ * The grids are loaded on first use and updated incrementally from committed sighting events.
+ * Rendered tiles are cached; a change only evicts the tiles its circle reaches, unless it
+ * changes the fullest cell count, which rescales every tile on that level.
+ */
+@Service
+public class HeatmapTileService {
+
+    public static final int MAX_ZOOM = 3;
+    public static final int TILE_SIZE = 256;
+
+    private static final int CELLS_PER_TILE = 32;
+    private static final int CELL_PIXELS = TILE_SIZE / CELLS_PER_TILE;
+    // Radius of each cell's circle, in cells; tiles this close to a changed cell are evicted too
+    private static final int RADIUS_CELLS = 3;
+    private static final int RADIUS_PIXELS = RADIUS_CELLS * CELL_PIXELS;
+
+    private static final float[] KERNEL = kernel();
+    private static final int[] PALETTE = palette();
+
+    private final SightingRepository sightingRepository;
+    private final DensityGrid[] grids = new DensityGrid[MAX_ZOOM + 1];
+    private final Map<Long, Tile> cache = new ConcurrentHashMap<>();
+    private final Map<Long, MapPoint> points = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Tile emptyTile;
+    private volatile boolean loaded;
+
+    public HeatmapTileService(SightingRepository sightingRepository) {
+        this.sightingRepository = sightingRepository;
+        for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+            grids[zoom] = new DensityGrid(CELLS_PER_TILE << zoom);
+        }
+    }
+
+    /**
+     * A rendered tile and its entity tag.
+     */
+    public static final class Tile {
+        private final byte[] png;
+        private final String etag;
+
+        private Tile(byte[] png) {
+            this.png = png;
+            this.etag = "\"" + DigestUtils.md5DigestAsHex(png) + "\"";
+        }
+
+        public byte[] getPng() {
+            return png;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+
+    /**
+     * Whether a tile address exists.
+     */
+    public static boolean isValidTile(int zoom, int x, int y) {
+        return zoom >= 0 && zoom <= MAX_ZOOM && x >= 0 && y >= 0 && x < (1 << zoom) && y < (1 << zoom);
+    }
+
+    /**
+     * Get a heatmap tile, rendering it if it is not cached.
+     * Tiles without any density share one transparent image.
+     * @throws IllegalArgumentException if the tile address does not exist
+     */
+    public Tile getTile(int zoom, int x, int y) {
+        if (!isValidTile(zoom, x, y)) {
+            throw new IllegalArgumentException("No tile " + zoom + "/" + x + "/" + y);
+        }
+        ensureLoaded();
+        long key = tileKey(zoom, x, y);
+        Tile tile = cache.get(key);
+        if (tile != null) {
+            return tile;
+        }
+
+        // Render and cache under the read lock so an eviction can't slip in between the two
+        lock.readLock().lock();
+        try {
+            tile = render(grids[zoom], x, y);
+            cache.put(key, tile);
+            return tile;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a committed sighting change to the density grids and evict the tiles it affects.
+     * Changes seen before the grids are loaded are skipped; the initial load picks them up.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSightingChanged(SightingEvent event) {
+        if (!loaded) {
+            return;
+        }
+        SightingResponse sighting = event.getSighting();
+        MapPoint current = event.isVisible()
+                && sighting.getPixelX() != null && sighting.getPixelY() != null
+                ? new MapPoint(sighting.getId(), sighting.getPixelX(), sighting.getPixelY(), sighting.getSpecies())
+                : null;
+        lock.writeLock().lock();
+        try {
+            MapPoint previous = points.get(sighting.getId());
+            if (samePosition(previous, current)) {
+                return;
+            }
+            if (previous != null) {
+                points.remove(previous.getId());
+                for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+                    evict(zoom, previous, grids[zoom].remove(previous));
+                }
+            }
+            if (current != null) {
+                points.put(current.getId(), current);
+                for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+                    evict(zoom, current, grids[zoom].add(current));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                for (MapPoint point : sightingRepository.findAllMapPoints()) {
+                    points.put(point.getId(), point);
+                    for (DensityGrid grid : grids) {
+                        grid.add(point);
+                    }
+                }
+                loaded = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Drop the cached tiles a changed point can show up on, or the whole level if its scale changed
+    private void evict(int zoom, MapPoint point, boolean rescaled) {
+        int tiles = 1 << zoom;
+        if (rescaled) {
+            for (int x = 0; x < tiles; x++) {
+                for (int y = 0; y < tiles; y++) {
+                    cache.remove(tileKey(zoom, x, y));
+                }
+            }
+            return;
+        }
+        DensityGrid grid = grids[zoom];
+        int cellX = grid.cellOf(point.getX());
+        int cellY = grid.cellOf(point.getY());
+        int minX = Math.max(0, Math.floorDiv(cellX - RADIUS_CELLS, CELLS_PER_TILE));
+        int maxX = Math.min(tiles - 1, (cellX + RADIUS_CELLS) / CELLS_PER_TILE);
+        int minY = Math.max(0, Math.floorDiv(cellY - RADIUS_CELLS, CELLS_PER_TILE));
+        int maxY = Math.min(tiles - 1, (cellY + RADIUS_CELLS) / CELLS_PER_TILE);
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                cache.remove(tileKey(zoom, x, y));
+            }
+        }
+    }
+
+    private Tile render(DensityGrid grid, int tileX, int tileY) {
+        int max = grid.getMax();
+        if (max == 0) {
+            return emptyTile();
+        }
+        double scale = Math.log1p(max);
+        float[] heat = new float[TILE_SIZE * TILE_SIZE];
+        boolean any = false;
+
+        // Cells just outside the tile still spill their circles into it
+        int firstX = Math.max(0, tileX * CELLS_PER_TILE - RADIUS_CELLS);
+        int lastX = Math.min(grid.getSide() - 1, (tileX + 1) * CELLS_PER_TILE + RADIUS_CELLS - 1);
+        int firstY = Math.max(0, tileY * CELLS_PER_TILE - RADIUS_CELLS);
+        int lastY = Math.min(grid.getSide() - 1, (tileY + 1) * CELLS_PER_TILE + RADIUS_CELLS - 1);
+        for (int cy = firstY; cy <= lastY; cy++) {
+            for (int cx = firstX; cx <= lastX; cx++) {
+                int count = grid.get(cx, cy);
+                if (count == 0) {
+                    continue;
+                }
+                float weight = (float) (Math.log1p(count) / scale);
+                int centerX = (cx - tileX * CELLS_PER_TILE) * CELL_PIXELS + CELL_PIXELS / 2;
+                int centerY = (cy - tileY * CELLS_PER_TILE) * CELL_PIXELS + CELL_PIXELS / 2;
+                any |= splat(heat, centerX, centerY, weight);
+            }
+        }
+        if (!any) {
+            return emptyTile();
+        }
+
+        BufferedImage image = new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_ARGB);
+        int[] argb = new int[heat.length];
+        for (int i = 0; i < heat.length; i++) {
+            argb[i] = PALETTE[Math.min(PALETTE.length - 1, (int) (heat[i] * (PALETTE.length - 1)))];
+        }
+        image.setRGB(0, 0, TILE_SIZE, TILE_SIZE, argb, 0, TILE_SIZE);
+        return new Tile(encode(image));
+    }
+
+    // Adds one cell's circle to the heat buffer; returns false if it lies entirely outside the tile
+    private static boolean splat(float[] heat, int centerX, int centerY, float weight) {
+        int diameter = 2 * RADIUS_PIXELS + 1;
+        int fromX = Math.max(0, centerX - RADIUS_PIXELS);
+        int toX = Math.min(TILE_SIZE - 1, centerX + RADIUS_PIXELS);
+        int fromY = Math.max(0, centerY - RADIUS_PIXELS);
+        int toY = Math.min(TILE_SIZE - 1, centerY + RADIUS_PIXELS);
+        if (fromX > toX || fromY > toY) {
+            return false;
+        }
+        for (int py = fromY; py <= toY; py++) {
+            int kernelRow = (py - centerY + RADIUS_PIXELS) * diameter;
+            int row = py * TILE_SIZE;
+            for (int px = fromX; px <= toX; px++) {
+                float k = KERNEL[kernelRow + px - centerX + RADIUS_PIXELS];
+                if (k > 0) {
+                    heat[row + px] = Math.min(1f, heat[row + px] + weight * k);
+                }
+            }
+        }
+        return true;
+    }
+
+    private Tile emptyTile() {
+        Tile tile = emptyTile;
+        if (tile == null) {
+            tile = new Tile(encode(new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_ARGB)));
+            emptyTile = tile;
+        }
+        return tile;
+    }
+
+    private static byte[] encode(BufferedImage image) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // Smooth falloff from 1 at the center to 0 at RADIUS_PIXELS
+    private static float[] kernel() {
+        int diameter = 2 * RADIUS_PIXELS + 1;
+        float[] kernel = new float[diameter * diameter];
+        double r2 = (double) RADIUS_PIXELS * RADIUS_PIXELS;
+        for (int dy = -RADIUS_PIXELS; dy <= RADIUS_PIXELS; dy++) {
+            for (int dx = -RADIUS_PIXELS; dx <= RADIUS_PIXELS; dx++) {
+                double falloff = Math.max(0, 1 - (dx * dx + dy * dy) / r2);
+                kernel[(dy + RADIUS_PIXELS) * diameter + dx + RADIUS_PIXELS] = (float) (falloff * falloff);
+            }
+        }
+        return kernel;
+    }
+
+    // Transparent blue through cyan, green and yellow to opaque red
+    private static int[] palette() {
+        int[][] stops = {{0, 0, 255}, {0, 255, 255}, {0, 255, 0}, {255, 255, 0}, {255, 0, 0}};
+        int[] palette = new int[256];
+        for (int i = 1; i < palette.length; i++) {
+            double t = (double) i / (palette.length - 1);
+            double position = t * (stops.length - 1);
+            int stop = Math.min((int) position, stops.length - 2);
+            double f = position - stop;
+            int r = (int) Math.round(stops[stop][0] + f * (stops[stop + 1][0] - stops[stop][0]));
+            int g = (int) Math.round(stops[stop][1] + f * (stops[stop + 1][1] - stops[stop][1]));
+            int b = (int) Math.round(stops[stop][2] + f * (stops[stop + 1][2] - stops[stop][2]));
+            int alpha = (int) Math.round(Math.min(1.0, t * 4) * 200);
+            palette[i] = (alpha << 24) | (r << 16) | (g << 8) | b;
+        }
+        return palette;
+    }
+
+    private static long tileKey(int zoom, int x, int y) {
+        return ((long) zoom << 40) | ((long) x << 20) | y;
+    }
+
+    private static boolean samePosition(MapPoint a, MapPoint b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return a.getX() == b.getX() && a.getY() == b.getY();
+    }
+}
@@ -0,0 +1,222 @@
+package com.team4.wildlifetracker.service;
+
+import com.team4.wildlifetracker.dto.SightingResponse;
+import com.team4.wildlifetracker.event.SightingEvent;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import com.team4.wildlifetracker.storage.ContentAddressedImageStorage;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates downscaled variants of uploaded sighting images on a bounded background pool.
+ * Variants are written next to the original and their URLs recorded on every sighting that uses
+ * the image. Sightings saved after processing finished pick up existing variants when their write
+ * commits.
+ */
+@Service
+public class ImageVariantService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageVariantService.class);
+
+    // Uploads from before the content-addressed store, named by UUID
+    private static final String LEGACY_URL_PREFIX = "/uploads/sighting-images/";
+
+    /**
+     * Image sizes a client can ask for. Variants are bounded to maxDimension on their longer side.
+     */
+    public enum Size {
+        THUMBNAIL("thumb", 200),
+        WEB("web", 1024),
+        ORIGINAL(null, 0);
+
+        private final String directory;
+        private final int maxDimension;
+
+        Size(String directory, int maxDimension) {
+            this.directory = directory;
+            this.maxDimension = maxDimension;
+        }
+    }
+
+    private final SightingRepository sightingRepository;
+    private final ThreadPoolExecutor executor;
+
+    public ImageVariantService(SightingRepository sightingRepository,
+                               @Value("${wildlifetracker.images.worker-threads:2}") int workerThreads,
+                               @Value("${wildlifetracker.images.queue-capacity:100}") int queueCapacity) {
+        this.sightingRepository = sightingRepository;
+        AtomicInteger threadCount = new AtomicInteger();
+        // When the queue is full the uploading thread does the work itself, which throttles uploads
+        this.executor = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variants-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Queue variant generation for a freshly uploaded image.
+     * @param imageUrl URL of the original, as returned by the upload endpoint
+     */
+    public void submit(String imageUrl) {
+        executor.execute(() -> {
+            try {
+                // Identical content was uploaded before, so its variants already exist
+                Path thumbnail = toPath(variantUrl(imageUrl, Size.THUMBNAIL));
+                if ((thumbnail != null && Files.exists(thumbnail)) || generateVariants(imageUrl)) {
+                    sightingRepository.setImageVariants(imageUrl,
+                            variantUrl(imageUrl, Size.THUMBNAIL), variantUrl(imageUrl, Size.WEB));
+                }
+            } catch (RuntimeException | IOException e) {
+                logger.warn("Could not generate variants for {}", imageUrl, e);
+            }
+        });
+    }
+
+    /**
+     * Write the thumbnail and web variants of an uploaded image.
+     * @param imageUrl URL of the original
+     * @return false if the original is missing or not a format ImageIO can decode
+     */
+    public boolean generateVariants(String imageUrl) throws IOException {
+        Path original = toPath(imageUrl);
+        if (original == null || !Files.isRegularFile(original)) {
+            return false;
+        }
+        BufferedImage source = ImageIO.read(original.toFile());
+        if (source == null) {
+            logger.info("Skipping variants for {}: unsupported image format", imageUrl);
+            return false;
+        }
+        // Web first: a thumbnail on disk is what marks the variants as complete
+        writeVariant(source, toPath(variantUrl(imageUrl, Size.WEB)), Size.WEB.maxDimension);
+        writeVariant(source, toPath(variantUrl(imageUrl, Size.THUMBNAIL)), Size.THUMBNAIL.maxDimension);
+        return true;
+    }
+
+    /**
+     * URL of an image at the requested size.
+     * @return the variant URL, or the original URL for ORIGINAL or images not stored by this service
+     */
+    public String variantUrl(String imageUrl, Size size) {
+        if (size == Size.ORIGINAL || !isManaged(imageUrl)) {
+            return imageUrl;
+        }
+        int slash = imageUrl.lastIndexOf('/');
+        String directory = imageUrl.substring(0, slash + 1);
+        String filename = imageUrl.substring(slash + 1);
+        int dot = filename.lastIndexOf('.');
+        String base = dot > 0 ? filename.substring(0, dot) : filename;
+        if (ContentAddressedImageStorage.hashOf(imageUrl) != null) {
+            // Beside the blob, so variants are cached as immutably as the original
+            return directory + base + "." + size.directory + ".jpg";
+        }
+        return directory + size.directory + "/" + base + ".jpg";
+    }
+
+    /**
+     * Delete the variants of an image whose original has been removed.
+     */
+    public void deleteVariants(String imageUrl) {
+        for (Size size : new Size[]{Size.THUMBNAIL, Size.WEB}) {
+            Path variant = toPath(variantUrl(imageUrl, size));
+            try {
+                if (variant != null) {
+                    Files.deleteIfExists(variant);
+                }
+            } catch (IOException e) {
+                logger.warn("Could not delete image variant {}", variant, e);
+            }
+        }
+    }
+
+    /**
+     * Attach already generated variants to a sighting once its write commits.
+     * Covers sightings saved after processing finished, which the bulk update in submit() missed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSightingChanged(SightingEvent event) {
+        SightingResponse sighting = event.getSighting();
+        String imageUrl = sighting.getImageUrl();
+        if (event.getType() == SightingEvent.Type.DELETED || sighting.getThumbnailUrl() != null
+                || !isManaged(imageUrl)) {
+            return;
+        }
+        executor.execute(() -> {
+            Path thumbnail = toPath(variantUrl(imageUrl, Size.THUMBNAIL));
+            if (thumbnail != null && Files.exists(thumbnail)) {
+                sightingRepository.setImageVariantsById(sighting.getId(), imageUrl,
+                        variantUrl(imageUrl, Size.THUMBNAIL), variantUrl(imageUrl, Size.WEB));
+            }
+        });
+    }
+
+    private boolean isManaged(String imageUrl) {
+        return imageUrl != null && (ContentAddressedImageStorage.hashOf(imageUrl) != null
+                || (imageUrl.startsWith(LEGACY_URL_PREFIX) && !imageUrl.contains("..")));
+    }
+
+    // Upload URLs map onto the working directory, matching the /uploads/** resource handler
+    private Path toPath(String url) {
+        if (url == null || !url.startsWith("/uploads/") || url.contains("..")) {
+            return null;
+        }
+        return Paths.get(url.substring(1));
+    }
+
+    private void writeVariant(BufferedImage source, Path target, int maxDimension) throws IOException {
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        // JPEG has no alpha channel, so flatten onto white
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        // Write to a temp file and move it into place so readers never see a partial image
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), "variant", ".tmp");
+        try {
+            if (!ImageIO.write(scaled, "jpg", temp.toFile())) {
+                throw new IOException("No JPEG writer available");
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
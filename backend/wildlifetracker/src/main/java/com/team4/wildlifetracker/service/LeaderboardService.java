@@ -1,55 +1,178 @@
 package com.team4.wildlifetracker.service;
 
 import com.team4.wildlifetracker.dto.LeaderboardEntry;
+import com.team4.wildlifetracker.dto.UserResponse;
+import com.team4.wildlifetracker.event.UserChangedEvent;
+import com.team4.wildlifetracker.index.RankedTree;
 import com.team4.wildlifetracker.model.User;
 import com.team4.wildlifetracker.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+/**
+ * Leaderboard backed by an in-memory ranked index.
+ * The index is loaded from the database on first use and then kept current
+ * from committed user changes, so rank and top-N lookups never scan the users table.
+ */
 @Service
 public class LeaderboardService {
 
+    // Same ordering as UserRepository.findAllOrderedByLeaderboardRank, with user ID as tie-breaker
+    private static final Comparator<LeaderboardEntry> RANK_ORDER = Comparator
+            .comparing(LeaderboardEntry::getTotalAnimalsLogged, Comparator.reverseOrder())
+            .thenComparing(LeaderboardEntry::getUniqueSpeciesCount, Comparator.reverseOrder())
+            .thenComparing(LeaderboardEntry::getLastActivityDate,
+                    Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(LeaderboardEntry::getUserId);
+
     private final UserRepository userRepository;
+    private final RankedTree<LeaderboardEntry> ranking = new RankedTree<>(RANK_ORDER);
+    private final Map<Long, LeaderboardEntry> entriesByUser = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean loaded;
 
     public LeaderboardService(UserRepository userRepository) {
         this.userRepository = userRepository;
     }
 
     public List<LeaderboardEntry> getLeaderboard() {
-        List<User> users = userRepository.findAllOrderedByLeaderboardRank();
-        List<LeaderboardEntry> leaderboard = new ArrayList<>();
-        
-        int rank = 1;
-        for (User user : users) {
-            LeaderboardEntry entry = new LeaderboardEntry(
-                user.getId(),
-                user.getUsername(),
-                user.getDisplayName() != null ? user.getDisplayName() : user.getUsername(),
-                user.getProfilePictureUrl(),
-                user.getTotalAnimalsLogged(),
-                user.getUniqueSpeciesCount(),
-                user.getLastActivityDate()
-            );
-            entry.setRank(rank++);
-            leaderboard.add(entry);
-        }
-        
-        return leaderboard;
+        return getTopN(Integer.MAX_VALUE);
     }
 
     public List<LeaderboardEntry> getTopN(int n) {
-        List<LeaderboardEntry> fullLeaderboard = getLeaderboard();
-        return fullLeaderboard.subList(0, Math.min(n, fullLeaderboard.size()));
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            List<LeaderboardEntry> top = ranking.first(n);
+            List<LeaderboardEntry> leaderboard = new ArrayList<>(top.size());
+            int rank = 1;
+            for (LeaderboardEntry entry : top) {
+                leaderboard.add(withRank(entry, rank++));
+            }
+            return leaderboard;
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     public LeaderboardEntry getUserRank(Long userId) {
-        List<LeaderboardEntry> leaderboard = getLeaderboard();
-        
-        return leaderboard.stream()
-                .filter(entry -> entry.getUserId().equals(userId))
-                .findFirst()
-                .orElse(null);
-    }
-}
\ No newline at end of file
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            LeaderboardEntry entry = entriesByUser.get(userId);
+            if (entry == null) {
+                return null;
+            }
+            return withRank(entry, ranking.rankOf(entry) + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a committed user change to the index.
+     * Changes seen before the index is loaded are skipped; the initial load picks them up.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (!loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (event.getType() == UserChangedEvent.Type.DELETED) {
+                remove(event.getUserId());
+            } else if (event.hasCurrentStatistics()) {
+                put(toEntry(event.getUser()));
+            } else {
+                // Profile change: keep the indexed statistics, which only UserStatisticsService updates
+                LeaderboardEntry indexed = entriesByUser.get(event.getUserId());
+                if (indexed != null) {
+                    put(withStatistics(toEntry(event.getUser()), indexed));
+                } else {
+                    userRepository.findResponseById(event.getUserId()).map(this::toEntry).ifPresent(this::put);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                for (User user : userRepository.findAllOrderedByLeaderboardRank()) {
+                    put(toEntry(UserResponse.fromEntity(user)));
+                }
+                loaded = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(LeaderboardEntry entry) {
+        remove(entry.getUserId());
+        ranking.add(entry);
+        entriesByUser.put(entry.getUserId(), entry);
+    }
+
+    private void remove(Long userId) {
+        LeaderboardEntry previous = entriesByUser.remove(userId);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+    }
+
+    private LeaderboardEntry toEntry(UserResponse user) {
+        return new LeaderboardEntry(
+            user.getId(),
+            user.getUsername(),
+            user.getDisplayName() != null ? user.getDisplayName() : user.getUsername(),
+            user.getProfilePictureUrl(),
+            user.getTotalAnimalsLogged(),
+            user.getUniqueSpeciesCount(),
+            user.getLastActivityDate()
+        );
+    }
+
+    private LeaderboardEntry withStatistics(LeaderboardEntry profile, LeaderboardEntry statistics) {
+        return new LeaderboardEntry(
+            profile.getUserId(),
+            profile.getUsername(),
+            profile.getDisplayName(),
+            profile.getProfilePictureUrl(),
+            statistics.getTotalAnimalsLogged(),
+            statistics.getUniqueSpeciesCount(),
+            statistics.getLastActivityDate()
+        );
+    }
+
+    // Indexed entries are shared, so callers receive copies carrying their rank
+    private LeaderboardEntry withRank(LeaderboardEntry entry, int rank) {
+        LeaderboardEntry copy = new LeaderboardEntry(
+            entry.getUserId(),
+            entry.getUsername(),
+            entry.getDisplayName(),
+            entry.getProfilePictureUrl(),
+            entry.getTotalAnimalsLogged(),
+            entry.getUniqueSpeciesCount(),
+            entry.getLastActivityDate()
+        );
+        copy.setRank(rank);
+        return copy;
+    }
+}
@@ -0,0 +1,262 @@
+package com.team4.wildlifetracker.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team4.wildlifetracker.dto.SightingResponse;
+import com.team4.wildlifetracker.event.NotificationEvent;
+import com.team4.wildlifetracker.event.SightingEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes committed sighting changes to every connected client, and new notifications to their
+ * user, over Server-Sent Events.
+ * Each event is serialized once and queued on every interested client's bounded buffer; a small
+ * sender pool drains the buffers, so a slow client never blocks the writer or other clients.
+ * When a client falls a full buffer behind, its backlog is dropped and replaced with a single
+ * "resync" event telling it to reload, which keeps memory per client bounded.
+ */
+@Service
+public class LiveUpdateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveUpdateService.class);
+
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor executor;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public LiveUpdateService(ObjectMapper objectMapper,
+                             @Value("${wildlifetracker.live.sender-threads:4}") int senderThreads,
+                             @Value("${wildlifetracker.live.buffer-size:256}") int bufferSize,
+                             @Value("${wildlifetracker.live.timeout-ms:1800000}") long timeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        AtomicInteger threadCount = new AtomicInteger();
+        // Each client has at most one drain task queued, so the queue never outgrows the client count
+        this.executor = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "live-updates-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+        }
+        executor.shutdown();
+    }
+
+    /**
+     * Open an event stream.
+     * Every client receives sighting.created, sighting.updated and sighting.deleted events;
+     * clients that give a user id also receive that user's notification events.
+     * @param userId User whose notifications to push, or null for sightings only
+     */
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, userId);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        // Sends the response headers right away, so the client sees the stream open
+        subscriber.offer(LiveEvent.comment("connected"));
+        return emitter;
+    }
+
+    /**
+     * Number of open event streams.
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSightingChanged(SightingEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        LiveEvent live;
+        if (event.isHidden()) {
+            // Clients drop a sighting hidden by moderation like a deleted one; send only its id
+            SightingResponse removed = new SightingResponse();
+            removed.setId(event.getSightingId());
+            live = event("sighting.deleted", removed);
+        } else {
+            live = event("sighting." + event.getType().name().toLowerCase(Locale.ROOT), event.getSighting());
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(live);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationCreated(NotificationEvent event) {
+        if (event.getUserId() == null || subscribers.isEmpty()) {
+            return;
+        }
+        LiveEvent live = null;
+        for (Subscriber subscriber : subscribers) {
+            if (event.getUserId().equals(subscriber.userId)) {
+                if (live == null) {
+                    live = event("notification", event.getNotification());
+                }
+                subscriber.offer(live);
+            }
+        }
+    }
+
+    /**
+     * Keep idle streams open through proxies, and find clients that went away without closing.
+     */
+    @Scheduled(fixedDelayString = "${wildlifetracker.live.heartbeat-ms:15000}")
+    public void sendHeartbeat() {
+        LiveEvent heartbeat = LiveEvent.comment("heartbeat");
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(heartbeat);
+        }
+    }
+
+    private LiveEvent event(String name, Object payload) {
+        try {
+            return new LiveEvent(String.valueOf(sequence.incrementAndGet()), name,
+                    objectMapper.writeValueAsString(payload), null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + name + " event", e);
+        }
+    }
+
+    /**
+     * An event serialized once and shared by every client it is queued for.
+     */
+    private static final class LiveEvent {
+
+        private static final LiveEvent RESYNC = new LiveEvent(null, "resync", "{}", null);
+
+        private final String id;
+        private final String name;
+        private final String data;
+        private final String comment;
+
+        private LiveEvent(String id, String name, String data, String comment) {
+            this.id = id;
+            this.name = name;
+            this.data = data;
+            this.comment = comment;
+        }
+
+        static LiveEvent comment(String comment) {
+            return new LiveEvent(null, null, null, comment);
+        }
+
+        // Builders are consumed by sending, so each client gets its own
+        SseEmitter.SseEventBuilder toBuilder() {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event();
+            if (comment != null) {
+                return builder.comment(comment);
+            }
+            if (id != null) {
+                builder.id(id);
+            }
+            return builder.name(name).data(data);
+        }
+    }
+
+    /**
+     * One open stream with its bounded buffer of unsent events.
+     */
+    private final class Subscriber implements Runnable {
+
+        private final SseEmitter emitter;
+        private final Long userId;
+        private final ArrayDeque<LiveEvent> buffer = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+
+        Subscriber(SseEmitter emitter, Long userId) {
+            this.emitter = emitter;
+            this.userId = userId;
+        }
+
+        void offer(LiveEvent event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (buffer.size() >= bufferSize) {
+                    // The client can't keep up; replace its backlog with one reload request
+                    logger.debug("Live update buffer full for user {}, asking client to resync", userId);
+                    buffer.clear();
+                    buffer.add(LiveEvent.RESYNC);
+                }
+                buffer.add(event);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                close();
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                LiveEvent event;
+                synchronized (this) {
+                    event = buffer.poll();
+                    if (event == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(event.toBuilder());
+                } catch (IOException | IllegalStateException e) {
+                    // Client disconnected or the stream already completed
+                    close();
+                    return;
+                }
+            }
+        }
+
+        void close() {
+            synchronized (this) {
+                closed = true;
+                buffer.clear();
+            }
+            subscribers.remove(this);
+            emitter.complete();
+        }
+    }
+}
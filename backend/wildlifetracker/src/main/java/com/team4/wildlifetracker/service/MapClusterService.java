@@ -0,0 +1,149 @@
+package com.team4.wildlifetracker.service;
+
+import com.team4.wildlifetracker.dto.MapCluster;
+import com.team4.wildlifetracker.dto.SightingResponse;
+import com.team4.wildlifetracker.event.SightingEvent;
+import com.team4.wildlifetracker.index.ClusterGrid;
+import com.team4.wildlifetracker.index.MapPoint;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Server-side marker clustering for the campus map.
+ * Sightings are aggregated into one grid per zoom level, with cells halving in size at each level.
+ * The grids are loaded on first use and updated incrementally from committed sighting events;
+ * the cluster list for each zoom level is cached until a change touches it.
+ */
+@Service
+public class MapClusterService {
+
+    public static final int MAX_ZOOM = 4;
+
+    // Cell size at zoom 0, in map percent; halves with each zoom level
+    private static final int BASE_CELL_SIZE = 32;
+
+    private final SightingRepository sightingRepository;
+    private final ClusterGrid[] grids = new ClusterGrid[MAX_ZOOM + 1];
+    private final List<MapCluster>[] cache;
+    private final Map<Long, MapPoint> points = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean loaded;
+
+    @SuppressWarnings("unchecked")
+    public MapClusterService(SightingRepository sightingRepository) {
+        this.sightingRepository = sightingRepository;
+        this.cache = new List[MAX_ZOOM + 1];
+        for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+            grids[zoom] = new ClusterGrid(BASE_CELL_SIZE >> zoom);
+        }
+    }
+
+    /**
+     * Get the marker clusters for a zoom level.
+     * @param zoom Zoom level, clamped to 0..MAX_ZOOM
+     * @return One cluster per occupied grid cell
+     */
+    public List<MapCluster> getClusters(int zoom) {
+        int level = Math.max(0, Math.min(zoom, MAX_ZOOM));
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            List<MapCluster> clusters = cache[level];
+            if (clusters != null) {
+                return clusters;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (cache[level] == null) {
+                List<MapCluster> clusters = new ArrayList<>(grids[level].size());
+                for (ClusterGrid.Cluster cluster : grids[level].clusters()) {
+                    clusters.add(new MapCluster(cluster.getCentroidX(), cluster.getCentroidY(),
+                            cluster.getCount(), cluster.getDominantSpecies()));
+                }
+                cache[level] = List.copyOf(clusters);
+            }
+            return cache[level];
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a committed sighting change to the clusters.
+     * Changes seen before the grids are loaded are skipped; the initial load picks them up.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSightingChanged(SightingEvent event) {
+        if (!loaded) {
+            return;
+        }
+        SightingResponse sighting = event.getSighting();
+        MapPoint current = event.isVisible()
+                && sighting.getPixelX() != null && sighting.getPixelY() != null
+                ? new MapPoint(sighting.getId(), sighting.getPixelX(), sighting.getPixelY(), sighting.getSpecies())
+                : null;
+        lock.writeLock().lock();
+        try {
+            MapPoint previous = points.get(sighting.getId());
+            if (samePlacement(previous, current)) {
+                // Edits that don't move the marker or change its species leave every cluster as is
+                return;
+            }
+            if (previous != null) {
+                points.remove(previous.getId());
+                for (ClusterGrid grid : grids) {
+                    grid.remove(previous);
+                }
+            }
+            if (current != null) {
+                add(current);
+            }
+            Arrays.fill(cache, null);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                sightingRepository.findAllMapPoints().forEach(this::add);
+                loaded = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(MapPoint point) {
+        points.put(point.getId(), point);
+        for (ClusterGrid grid : grids) {
+            grid.add(point);
+        }
+    }
+
+    private static boolean samePlacement(MapPoint a, MapPoint b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return a.getX() == b.getX() && a.getY() == b.getY() && Objects.equals(a.getSpecies(), b.getSpecies());
+    }
+}
@@ -1,24 +1,50 @@
 package com.team4.wildlifetracker.service;
 
 import com.team4.wildlifetracker.dto.NotificationResponse;
+import com.team4.wildlifetracker.dto.PageResponse;
+import com.team4.wildlifetracker.event.NotificationEvent;
 import com.team4.wildlifetracker.model.Notification;
 import com.team4.wildlifetracker.model.User;
 import com.team4.wildlifetracker.repository.NotificationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Service
 public class NotificationService {
 
+    private static final List<Boolean> UNREAD = List.of(false);
+    private static final List<Boolean> ANY = List.of(false, true);
+
+    // Cached counters are dropped wholesale past this many users and reloaded on demand
+    private static final int MAX_CACHED_COUNTS = 10_000;
+
     @Autowired
     private NotificationRepository notificationRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Unread notification count per user, loaded on first request and dropped whenever it changes.
+    // Adjusting it in place could count a notification twice: a load may already include one whose
+    // event hasn't arrived yet, and concurrent reads of the same notification would both decrement.
+    private final Map<Long, Long> unreadCounts = new ConcurrentHashMap<>();
+
     public Notification createNotification(User user, String message) {
         Notification notification = new Notification(message, user);
-        return notificationRepository.save(notification);
+        Notification saved = notificationRepository.save(notification);
+        eventPublisher.publishEvent(new NotificationEvent(toNotificationResponse(saved)));
+        return saved;
     }
 
     public List<Notification> getUserNotifications(User user) {
@@ -31,12 +57,84 @@ public class NotificationService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Finds one page of a user's notifications, newest first.
+     * The cursor is the timestamp and ID of the last notification on the previous page ("timestamp_id").
+     * @param cursor nextCursor from the previous page, or null for the first page
+     * @param unreadOnly Skip notifications that were already read
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public PageResponse<NotificationResponse> getInbox(Long userId, String cursor, int limit, boolean unreadOnly) {
+        List<Boolean> readStates = unreadOnly ? UNREAD : ANY;
+        List<NotificationResponse> rows;
+        if (cursor == null) {
+            rows = notificationRepository.findInbox(userId, readStates, Limit.of(limit + 1));
+        } else {
+            int separator = cursor.lastIndexOf('_');
+            LocalDateTime beforeTimestamp;
+            long beforeId;
+            try {
+                beforeTimestamp = LocalDateTime.parse(cursor.substring(0, Math.max(separator, 0)));
+                beforeId = Long.parseLong(cursor.substring(separator + 1));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            rows = notificationRepository.findInboxBefore(userId, readStates, beforeTimestamp, beforeId,
+                    Limit.of(limit + 1));
+        }
+
+        boolean hasMore = rows.size() > limit;
+        List<NotificationResponse> items = new ArrayList<>(hasMore ? rows.subList(0, limit) : rows);
+        String nextCursor = null;
+        if (hasMore) {
+            NotificationResponse last = items.get(items.size() - 1);
+            nextCursor = last.getTimestamp() + "_" + last.getId();
+        }
+        return new PageResponse<>(items, nextCursor, hasMore);
+    }
+
+    /**
+     * Number of unread notifications for a user, answered from the cached counter when possible.
+     */
+    public long getUnreadCount(Long userId) {
+        if (unreadCounts.size() >= MAX_CACHED_COUNTS) {
+            unreadCounts.clear();
+        }
+        // Loading under the map's lock orders the count query before any invalidation for this user
+        return unreadCounts.computeIfAbsent(userId, notificationRepository::countUnread);
+    }
+
     public void markAsRead(Long notificationId) {
         notificationRepository.findById(notificationId).ifPresent(notification -> {
+            boolean wasUnread = !notification.isRead();
             notification.setRead(true);
             notificationRepository.save(notification);
+            if (wasUnread && notification.getUser() != null) {
+                unreadCounts.remove(notification.getUser().getId());
+            }
         });
     }
+
+    /**
+     * Mark all of a user's notifications as read with a single UPDATE.
+     * @return Number of notifications that were unread
+     */
+    public int markAllAsRead(Long userId) {
+        int updated = notificationRepository.markAllRead(userId);
+        // Reload on next request rather than assume zero; a notification may have arrived meanwhile
+        unreadCounts.remove(userId);
+        return updated;
+    }
+
+    /**
+     * Drop the cached count of a user who received a notification, once it is committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationCreated(NotificationEvent event) {
+        if (event.getUserId() != null && !event.getNotification().isRead()) {
+            unreadCounts.remove(event.getUserId());
+        }
+    }
     
     /**
      * Converts Notification entity to NotificationResponse DTO.
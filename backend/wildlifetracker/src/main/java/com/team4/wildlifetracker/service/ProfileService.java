@@ -14,6 +14,8 @@ import java.util.Optional;
 /**
  * Service for managing user profiles and statistics.
  * Handles profile creation, updates, and retrieval operations.
+ * Sighting statistics are the user's and only change as sightings are recorded (see UserStatisticsService).
+ * The assists counter is changed in place with an UPDATE statement, so concurrent increments can't lose updates.
  */
 @Service
 @Transactional
@@ -78,28 +80,14 @@ public class ProfileService {
         return profileRepository.save(profile);
     }
 
-    /**
-     * Increment animals logged counter.
-     * @param userId The user ID
-     */
-    public void incrementAnimalsLogged(Long userId) {
-        profileRepository.findByUserId(userId).ifPresent(profile -> {
-            profile.incrementAnimalsLogged();
-            profileRepository.save(profile);
-            logger.info("Incremented animals logged for user: {}", userId);
-        });
-    }
-
     /**
      * Increment assists counter.
      * @param userId The user ID
      */
     public void incrementAssists(Long userId) {
-        profileRepository.findByUserId(userId).ifPresent(profile -> {
-            profile.incrementAssists();
-            profileRepository.save(profile);
+        if (profileRepository.incrementAssists(userId) > 0) {
             logger.info("Incremented assists for user: {}", userId);
-        });
+        }
     }
 
     /**
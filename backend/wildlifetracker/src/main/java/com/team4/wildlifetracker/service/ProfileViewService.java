@@ -0,0 +1,113 @@
+package com.team4.wildlifetracker.service;
+
+import com.team4.wildlifetracker.dto.LeaderboardEntry;
+import com.team4.wildlifetracker.dto.ProfileView;
+import com.team4.wildlifetracker.dto.SightingResponse;
+import com.team4.wildlifetracker.dto.UserResponse;
+import com.team4.wildlifetracker.event.SightingEvent;
+import com.team4.wildlifetracker.event.UserChangedEvent;
+import com.team4.wildlifetracker.model.UserSpeciesCount;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.repository.UserSpeciesCountRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assembles the profile page view: user, rank, species counts and recent sightings.
+ * Views are cached per user and dropped when one of the user's sightings or the user itself changes.
+ * Rank isn't cached, since any other user's change can move it; it comes from the in-memory leaderboard.
+ * Image variants are recorded without an event, so a cached sighting may lack a thumbnail URL that exists
+ * by now; clients fall back to the original image.
+ */
+@Service
+public class ProfileViewService {
+
+    // Cached views are dropped wholesale past this many users and reloaded on demand
+    private static final int MAX_CACHED_VIEWS = 10_000;
+
+    private final UserRepository userRepository;
+    private final UserSpeciesCountRepository speciesCountRepository;
+    private final SightingRepository sightingRepository;
+    private final LeaderboardService leaderboardService;
+    private final int recentSightings;
+
+    private final Map<Long, ProfileView> views = new ConcurrentHashMap<>();
+
+    public ProfileViewService(UserRepository userRepository,
+                              UserSpeciesCountRepository speciesCountRepository,
+                              SightingRepository sightingRepository,
+                              LeaderboardService leaderboardService,
+                              @Value("${wildlifetracker.profile.recent-sightings:12}") int recentSightings) {
+        this.userRepository = userRepository;
+        this.speciesCountRepository = speciesCountRepository;
+        this.sightingRepository = sightingRepository;
+        this.leaderboardService = leaderboardService;
+        this.recentSightings = recentSightings;
+    }
+
+    /**
+     * Profile view for a user, from the cache when possible.
+     * @return empty if the user doesn't exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<ProfileView> getProfileView(Long userId) {
+        if (views.size() >= MAX_CACHED_VIEWS) {
+            views.clear();
+        }
+        // Loading under the map's lock orders the queries before any eviction for this user
+        ProfileView view = views.computeIfAbsent(userId, this::load);
+        if (view == null) {
+            return Optional.empty();
+        }
+        LeaderboardEntry entry = leaderboardService.getUserRank(userId);
+        // Cached views are shared, so callers receive copies carrying the current rank
+        return Optional.of(new ProfileView(view.getUser(), entry != null ? entry.getRank() : null,
+                view.getFavoriteSpecies(), view.getFavoriteSpeciesCount(),
+                view.getSpeciesCounts(), view.getRecentSightings()));
+    }
+
+    /**
+     * Drop the cached view of a sighting's owner once the change is committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSightingChanged(SightingEvent event) {
+        Long userId = event.getSighting().getUserId();
+        if (userId != null) {
+            views.remove(userId);
+        }
+    }
+
+    /**
+     * Drop the cached view of a user whose profile or statistics changed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        views.remove(event.getUserId());
+    }
+
+    private ProfileView load(Long userId) {
+        Optional<UserResponse> user = userRepository.findById(userId).map(UserResponse::fromEntity);
+        if (user.isEmpty()) {
+            return null;
+        }
+        Map<String, Long> speciesCounts = new LinkedHashMap<>();
+        for (UserSpeciesCount count : speciesCountRepository.findByUserIdOrderBySightingCountDescSpeciesAsc(userId)) {
+            speciesCounts.put(count.getSpecies(), count.getSightingCount());
+        }
+        Map.Entry<String, Long> favorite = speciesCounts.entrySet().stream().findFirst().orElse(null);
+        List<SightingResponse> recent = sightingRepository.findRecentResponsesByUserId(userId, Limit.of(recentSightings));
+        return new ProfileView(user.get(), null,
+                favorite != null ? favorite.getKey() : null, favorite != null ? favorite.getValue() : 0,
+                speciesCounts, recent);
+    }
+}
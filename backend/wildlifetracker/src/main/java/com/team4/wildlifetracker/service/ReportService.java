@@ -1,39 +1,114 @@
 package com.team4.wildlifetracker.service;
 
+import com.team4.wildlifetracker.dto.ModerationQueueEntry;
+import com.team4.wildlifetracker.dto.PageResponse;
+import com.team4.wildlifetracker.dto.SightingResponse;
+import com.team4.wildlifetracker.event.SightingEvent;
+import com.team4.wildlifetracker.index.BloomFilter;
 import com.team4.wildlifetracker.model.Report;
-import com.team4.wildlifetracker.model.Sighting;
 import com.team4.wildlifetracker.model.User;
 import com.team4.wildlifetracker.repository.ReportRepository;
 import com.team4.wildlifetracker.repository.SightingRepository;
 import com.team4.wildlifetracker.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Service for managing reports on sightings.
  * Handles report creation, retrieval, and moderation operations.
+ * Each sighting carries a report counter and last-reported time, kept up to date here as reports
+ * are created and deleted, so the moderation queue is an index scan rather than a GROUP BY over reports.
+ * Sightings reaching the hide threshold are hidden from the public listings until a moderator restores them.
+ * Hiding is a bulk update that bypasses the Sighting entity listener, so the SightingEvent that lets the
+ * in-memory indexes drop or restore the sighting is published here.
+ * Every (sighting, user) pair that has been reported is kept in a Bloom filter, warmed at startup, so the
+ * common "not reported yet" answer needs no query; a "maybe" falls back to the database, and the unique
+ * constraint on reports stays the source of truth.
  */
 @Service
 @Transactional
 public class ReportService {
 
     private static final Logger logger = LoggerFactory.getLogger(ReportService.class);
+
+    // Most sightings recounted per statement after a bulk delete
+    private static final int RECOUNT_BATCH_SIZE = 1000;
     
     private final ReportRepository reportRepository;
     private final SightingRepository sightingRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int hideThreshold;
+
+    // Pairs are never removed, so deleted reports only cost a fallback query until the next restart
+    private final BloomFilter reported;
+    private final long expectedReports;
+    private volatile boolean reportedWarm;
 
     public ReportService(ReportRepository reportRepository, 
                         SightingRepository sightingRepository,
-                        UserRepository userRepository) {
+                        UserRepository userRepository,
+                        ApplicationEventPublisher eventPublisher,
+                        @Value("${wildlifetracker.moderation.hide-threshold:5}") int hideThreshold,
+                        @Value("${wildlifetracker.reports.filter-capacity:1000000}") long expectedReports,
+                        @Value("${wildlifetracker.reports.filter-false-positive-rate:0.01}") double falsePositiveRate) {
         this.reportRepository = reportRepository;
         this.sightingRepository = sightingRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.hideThreshold = hideThreshold;
+        this.reported = new BloomFilter(expectedReports, falsePositiveRate);
+        this.expectedReports = expectedReports;
+    }
+
+    /**
+     * Load every existing report into the duplicate-report filter.
+     * Reports created meanwhile are added by createReport; until this finishes every check goes to the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmReportedFilter() {
+        long count = 0;
+        try (Stream<Object[]> pairs = reportRepository.streamSightingAndUserIds()) {
+            for (Object[] pair : (Iterable<Object[]>) pairs::iterator) {
+                reported.put((Long) pair[0], (Long) pair[1]);
+                count++;
+            }
+        }
+        reportedWarm = true;
+        if (count > expectedReports) {
+            logger.warn("{} reports exceed the duplicate-report filter capacity of {}; raise "
+                    + "wildlifetracker.reports.filter-capacity", count, expectedReports);
+        }
+        logger.info("Loaded {} reports into the duplicate-report filter", count);
+    }
+
+    /**
+     * Fill in the sighting report counters on the first start after they were introduced,
+     * when reports exist but no sighting has been counted yet.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillReportCounts() {
+        if (reportRepository.count() > 0 && !sightingRepository.existsByReportCountGreaterThan(0)) {
+            int sightings = sightingRepository.recountAllReports();
+            logger.info("Backfilled report counters on {} sightings", sightings);
+        }
     }
 
     /**
@@ -48,18 +123,33 @@ public class ReportService {
         logger.info("Creating report for sighting {} by user {}", sightingId, userId);
         
         // Check if user has already reported this sighting
-        if (reportRepository.existsBySightingIdAndUserId(sightingId, userId)) {
+        if (hasUserReportedSighting(sightingId, userId)) {
             throw new IllegalArgumentException("User has already reported this sighting");
         }
         
-        Sighting sighting = sightingRepository.findById(sightingId)
-                .orElseThrow(() -> new IllegalArgumentException("Sighting not found"));
-        
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
         
-        Report report = new Report(sighting, user, reason);
-        return reportRepository.save(report);
+        // Bumping the counter doubles as the existence check; a duplicate insert below rolls it back
+        LocalDateTime reportedAt = LocalDateTime.now();
+        if (sightingRepository.recordReport(sightingId, reportedAt) == 0) {
+            throw new IllegalArgumentException("Sighting not found");
+        }
+        
+        Report report = new Report(sightingRepository.getReferenceById(sightingId), user, reason);
+        report.setTimestamp(reportedAt);
+        try {
+            report = reportRepository.save(report);
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a concurrent report by the same user
+            throw new IllegalArgumentException("User has already reported this sighting");
+        }
+        reported.put(sightingId, userId);
+        if (hideThreshold > 0 && sightingRepository.hideIfReported(sightingId, hideThreshold) > 0) {
+            logger.info("Hid sighting {} after reaching {} reports", sightingId, hideThreshold);
+            publishHiddenChanged(sightingId, true);
+        }
+        return report;
     }
 
     /**
@@ -113,22 +203,82 @@ public class ReportService {
 
     /**
      * Check if a user has reported a sighting.
+     * Answered from the duplicate-report filter when it rules the pair out, otherwise from the database.
      * @param sightingId The sighting ID
      * @param userId The user ID
      * @return true if the user has reported the sighting
      */
     @Transactional(readOnly = true)
     public boolean hasUserReportedSighting(Long sightingId, Long userId) {
+        if (reportedWarm && !reported.mightContain(sightingId, userId)) {
+            return false;
+        }
         return reportRepository.existsBySightingIdAndUserId(sightingId, userId);
     }
 
     /**
      * Get most reported sightings.
-     * @return List of sighting-report count pairs
+     * @param limit Maximum number of sightings
+     * @return Reported sightings, most reports first
      */
     @Transactional(readOnly = true)
-    public List<Object[]> getMostReportedSightings() {
-        return reportRepository.findMostReportedSightings();
+    public List<ModerationQueueEntry> getMostReportedSightings(int limit) {
+        return sightingRepository.findModerationQueue(false, Limit.of(limit));
+    }
+
+    /**
+     * Get one page of the moderation queue: reported sightings, most reports first,
+     * then most recently reported.
+     * The cursor is the report count, last-reported time and ID of the last entry on the
+     * previous page ("count_timestamp_id").
+     * @param cursor nextCursor from the previous page, or null for the first page
+     * @param hiddenOnly Only sightings that are currently hidden
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<ModerationQueueEntry> getModerationQueue(String cursor, int limit, boolean hiddenOnly) {
+        List<ModerationQueueEntry> rows;
+        if (cursor == null) {
+            rows = sightingRepository.findModerationQueue(hiddenOnly, Limit.of(limit + 1));
+        } else {
+            int first = cursor.indexOf('_');
+            int last = cursor.lastIndexOf('_');
+            int reportCount;
+            LocalDateTime lastReportedAt;
+            long id;
+            try {
+                reportCount = Integer.parseInt(cursor.substring(0, Math.max(first, 0)));
+                lastReportedAt = LocalDateTime.parse(cursor.substring(first + 1, Math.max(last, first + 1)));
+                id = Long.parseLong(cursor.substring(last + 1));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            rows = sightingRepository.findModerationQueueAfter(hiddenOnly, reportCount, lastReportedAt, id,
+                    Limit.of(limit + 1));
+        }
+
+        boolean hasMore = rows.size() > limit;
+        List<ModerationQueueEntry> items = new ArrayList<>(hasMore ? rows.subList(0, limit) : rows);
+        String nextCursor = null;
+        if (hasMore) {
+            ModerationQueueEntry entry = items.get(items.size() - 1);
+            nextCursor = entry.getReportCount() + "_" + entry.getLastReportedAt() + "_" + entry.getSightingId();
+        }
+        return new PageResponse<>(items, nextCursor, hasMore);
+    }
+
+    /**
+     * Hide or restore a sighting.
+     * Restoring doesn't clear its reports, so one more report hides it again while it is over the threshold.
+     * @return false if the sighting doesn't exist
+     */
+    public boolean setSightingHidden(Long sightingId, boolean hidden) {
+        logger.info("{} sighting {}", hidden ? "Hiding" : "Restoring", sightingId);
+        if (sightingRepository.setHidden(sightingId, hidden) == 0) {
+            return false;
+        }
+        publishHiddenChanged(sightingId, hidden);
+        return true;
     }
 
     /**
@@ -137,16 +287,65 @@ public class ReportService {
      */
     public void deleteReport(Long reportId) {
         logger.info("Deleting report: {}", reportId);
-        reportRepository.deleteById(reportId);
+        reportRepository.findById(reportId).ifPresent(report -> {
+            reportRepository.delete(report);
+            sightingRepository.removeReport(report.getSighting().getId());
+        });
     }
 
     /**
      * Delete all reports for a sighting.
      * @param sightingId The sighting ID
+     * @return Number of reports deleted
+     */
+    public int deleteReportsBySightingId(Long sightingId) {
+        int deleted = reportRepository.deleteAllBySightingId(sightingId);
+        sightingRepository.clearReports(sightingId);
+        logger.info("Deleted {} reports for sighting {}", deleted, sightingId);
+        return deleted;
+    }
+
+    /**
+     * Delete all reports filed by a user, e.g. one banned for abusing reports.
+     * @param userId The user ID
+     * @return Number of reports deleted
+     */
+    public int deleteReportsByUserId(Long userId) {
+        List<Long> sightingIds = reportRepository.findReportedSightingIdsByUserId(userId);
+        int deleted = reportRepository.deleteAllByUserId(userId);
+        recountReports(sightingIds);
+        logger.info("Deleted {} reports by user {} across {} sightings", deleted, userId, sightingIds.size());
+        return deleted;
+    }
+
+    /**
+     * Resolve a set of reports by deleting them.
+     * @param reportIds The report IDs; unknown IDs are ignored
+     * @return Number of reports deleted
      */
-    public void deleteReportsBySightingId(Long sightingId) {
-        logger.info("Deleting all reports for sighting: {}", sightingId);
-        List<Report> reports = reportRepository.findBySightingId(sightingId);
-        reportRepository.deleteAll(reports);
+    public int resolveReports(Collection<Long> reportIds) {
+        if (reportIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> sightingIds = reportRepository.findSightingIdsByIdIn(reportIds);
+        int deleted = reportRepository.deleteAllByIdIn(reportIds);
+        recountReports(sightingIds);
+        logger.info("Resolved {} reports across {} sightings", deleted, sightingIds.size());
+        return deleted;
+    }
+
+    // Bring the counters of sightings that lost reports back in line, in chunks to keep IN lists bounded
+    private void recountReports(List<Long> sightingIds) {
+        for (int from = 0; from < sightingIds.size(); from += RECOUNT_BATCH_SIZE) {
+            sightingRepository.recountReports(
+                    sightingIds.subList(from, Math.min(from + RECOUNT_BATCH_SIZE, sightingIds.size())));
+        }
+    }
+
+    // Announce a hide or restore, which the bulk update kept from the entity listener
+    private void publishHiddenChanged(Long sightingId, boolean hidden) {
+        sightingRepository.findById(sightingId).ifPresent(sighting -> eventPublisher.publishEvent(
+                new SightingEvent(SightingEvent.Type.UPDATED, SightingResponse.fromEntity(sighting),
+                        sighting.getSpecies(), hidden)));
     }
 }
@@ -0,0 +1,188 @@
+package com.team4.wildlifetracker.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.team4.wildlifetracker.dto.SightingResponse;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exports sightings as CSV, NDJSON or GeoJSON.
+ * Rows are read from a forward-only cursor and written to the output as they arrive,
+ * so an export never holds more than one fetch batch in memory.
+ * CSV and GeoJSON exports use the field names the sighting importer reads, so they can be re-imported.
+ */
+@Service
+public class SightingExportService {
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson"),
+        GEOJSON("application/geo+json", "geojson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    private static final String CSV_HEADER =
+            "id,species,location,description,image_url,timestamp,pixel_x,pixel_y,user_id,username";
+
+    private final SightingRepository sightingRepository;
+    private final ObjectMapper objectMapper;
+
+    public SightingExportService(SightingRepository sightingRepository, ObjectMapper objectMapper) {
+        this.sightingRepository = sightingRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Write the sightings matching a filter to a stream. Null filter values match everything.
+     * @param from Earliest timestamp, inclusive
+     * @param to Latest timestamp, exclusive
+     * @return Number of sightings written
+     */
+    @Transactional(readOnly = true)
+    public long export(Format format, String species, Long userId, LocalDateTime from, LocalDateTime to,
+                       OutputStream out) throws IOException {
+        try (Stream<SightingResponse> rows = sightingRepository.streamResponses(species, userId, from, to)) {
+            Iterator<SightingResponse> it = rows.iterator();
+            return switch (format) {
+                case CSV -> writeCsv(it, out);
+                case NDJSON -> writeNdjson(it, out);
+                case GEOJSON -> writeGeoJson(it, out);
+            };
+        }
+    }
+
+    private long writeCsv(Iterator<SightingResponse> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        long count = 0;
+        while (rows.hasNext()) {
+            SightingResponse s = rows.next();
+            writer.write(csv(s.getId()));
+            writer.write(',');
+            writer.write(csv(s.getSpecies()));
+            writer.write(',');
+            writer.write(csv(s.getLocation()));
+            writer.write(',');
+            writer.write(csv(s.getDescription()));
+            writer.write(',');
+            writer.write(csv(s.getImageUrl()));
+            writer.write(',');
+            writer.write(csv(s.getTimestamp()));
+            writer.write(',');
+            writer.write(csv(s.getPixelX()));
+            writer.write(',');
+            writer.write(csv(s.getPixelY()));
+            writer.write(',');
+            writer.write(csv(s.getUserId()));
+            writer.write(',');
+            writer.write(csv(s.getUsername()));
+            writer.write("\r\n");
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private long writeNdjson(Iterator<SightingResponse> rows, OutputStream out) throws IOException {
+        // Let the generator's buffer decide when to flush rather than flushing every row
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.setRootValueSeparator(null);
+        long count = 0;
+        while (rows.hasNext()) {
+            writer.writeValue(generator, rows.next());
+            generator.writeRaw('\n');
+            count++;
+        }
+        generator.flush();
+        return count;
+    }
+
+    private long writeGeoJson(Iterator<SightingResponse> rows, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.writeStartObject();
+        generator.writeStringField("type", "FeatureCollection");
+        generator.writeArrayFieldStart("features");
+        long count = 0;
+        while (rows.hasNext()) {
+            SightingResponse s = rows.next();
+            generator.writeStartObject();
+            generator.writeStringField("type", "Feature");
+            generator.writeFieldName("geometry");
+            if (s.getPixelX() != null && s.getPixelY() != null) {
+                // Map positions in percent; the campus map has no geographic reference
+                generator.writeStartObject();
+                generator.writeStringField("type", "Point");
+                generator.writeArrayFieldStart("coordinates");
+                generator.writeNumber(s.getPixelX());
+                generator.writeNumber(s.getPixelY());
+                generator.writeEndArray();
+                generator.writeEndObject();
+            } else {
+                generator.writeNull();
+            }
+            generator.writeObjectFieldStart("properties");
+            generator.writeNumberField("id", s.getId());
+            generator.writeStringField("species", s.getSpecies());
+            generator.writeStringField("location", s.getLocation());
+            generator.writeStringField("description", s.getDescription());
+            generator.writeStringField("image_url", s.getImageUrl());
+            generator.writeStringField("timestamp", s.getTimestamp() != null ? s.getTimestamp().toString() : null);
+            if (s.getUserId() != null) {
+                generator.writeNumberField("user_id", s.getUserId());
+            } else {
+                generator.writeNullField("user_id");
+            }
+            generator.writeStringField("username", s.getUsername());
+            generator.writeEndObject();
+            generator.writeEndObject();
+            count++;
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.flush();
+        return count;
+    }
+
+    // Quotes a CSV value when it contains a delimiter, quote or line break
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
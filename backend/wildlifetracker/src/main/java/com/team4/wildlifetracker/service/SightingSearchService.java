@@ -0,0 +1,144 @@
+package com.team4.wildlifetracker.service;
+
+import com.team4.wildlifetracker.dto.PageResponse;
+import com.team4.wildlifetracker.dto.SightingResponse;
+import com.team4.wildlifetracker.event.SightingEvent;
+import com.team4.wildlifetracker.index.InvertedIndex;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Full-text sighting search backed by an in-memory inverted index over species, location and description.
+ * The index is loaded from the database on first use and then kept current from committed sighting events,
+ * so a search costs one index lookup plus one query for the requested page.
+ */
+@Service
+public class SightingSearchService {
+
+    private static final int SPECIES_WEIGHT = 3;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final SightingRepository sightingRepository;
+    private final InvertedIndex index = new InvertedIndex();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean loaded;
+
+    public SightingSearchService(SightingRepository sightingRepository) {
+        this.sightingRepository = sightingRepository;
+    }
+
+    /**
+     * Search sightings, best matches first.
+     * @param query Words to look for; every word must prefix-match a word in the species, location or description
+     * @param offset Number of ranked results to skip
+     * @param limit Maximum number of results to return
+     * @return One page of results; nextCursor is the offset of the following page
+     */
+    public PageResponse<SightingResponse> search(String query, int offset, int limit) {
+        ensureLoaded();
+        List<Long> ranked;
+        lock.readLock().lock();
+        try {
+            ranked = index.search(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int from = Math.min(offset, ranked.size());
+        int to = (int) Math.min((long) from + limit, ranked.size());
+        List<Long> pageIds = ranked.subList(from, to);
+        boolean hasMore = to < ranked.size();
+        return new PageResponse<>(loadInOrder(pageIds), hasMore ? String.valueOf(to) : null, hasMore);
+    }
+
+    /**
+     * Apply a committed sighting change to the index.
+     * Changes seen before the index is loaded are skipped; the initial load picks them up.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSightingChanged(SightingEvent event) {
+        if (!loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!event.isVisible()) {
+                index.remove(event.getSightingId());
+            } else {
+                put(event.getSighting());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Fetch the page in one query, then restore rank order (the query returns ID order)
+    private List<SightingResponse> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, SightingResponse> byId = new HashMap<>();
+        for (SightingResponse sighting : sightingRepository.findResponsesByIdIn(ids)) {
+            byId.put(sighting.getId(), sighting);
+        }
+        List<SightingResponse> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            SightingResponse sighting = byId.get(id);
+            // Skip rows deleted between the index lookup and the fetch
+            if (sighting != null) {
+                results.add(sighting);
+            }
+        }
+        return results;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                long afterId = 0;
+                List<SightingResponse> batch;
+                do {
+                    batch = sightingRepository.findVisibleResponsesAfter(afterId, Limit.of(LOAD_BATCH_SIZE));
+                    for (SightingResponse sighting : batch) {
+                        put(sighting);
+                        afterId = sighting.getId();
+                    }
+                } while (batch.size() == LOAD_BATCH_SIZE);
+                loaded = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(SightingResponse sighting) {
+        Map<String, Integer> fields = new LinkedHashMap<>();
+        addField(fields, sighting.getSpecies(), SPECIES_WEIGHT);
+        addField(fields, sighting.getLocation(), LOCATION_WEIGHT);
+        addField(fields, sighting.getDescription(), DESCRIPTION_WEIGHT);
+        index.put(sighting.getId(), fields);
+    }
+
+    // Fields are keyed by text, so identical text in two fields keeps the higher weight
+    private void addField(Map<String, Integer> fields, String text, int weight) {
+        if (text != null) {
+            fields.merge(text, weight, Math::max);
+        }
+    }
+}
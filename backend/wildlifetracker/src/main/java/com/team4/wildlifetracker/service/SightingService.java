@@ -1,42 +1,70 @@
 package com.team4.wildlifetracker.service;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.team4.wildlifetracker.dto.PageResponse;
+import com.team4.wildlifetracker.dto.SightingFilter;
 import com.team4.wildlifetracker.dto.SightingRequest;
 import com.team4.wildlifetracker.dto.SightingResponse;
+import com.team4.wildlifetracker.event.SightingEvent;
 import com.team4.wildlifetracker.model.Sighting;
 import com.team4.wildlifetracker.model.User;
+import com.team4.wildlifetracker.repository.ReportRepository;
+import com.team4.wildlifetracker.repository.SightingBatchRepository;
+import com.team4.wildlifetracker.repository.SightingQueryRepository;
 import com.team4.wildlifetracker.repository.SightingRepository;
 import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.storage.ImageStorage;
 
 @Service
 public class SightingService {
 
+    // Largest number of sightings written in one batch insert and transaction
+    public static final int MAX_BATCH_SIZE = 1000;
+
     private final SightingRepository sightingRepository;
+    private final SightingBatchRepository sightingBatchRepository;
+    private final SightingQueryRepository sightingQueryRepository;
     private final UserRepository userRepository;
-    private static final String UPLOAD_DIR = "uploads/sighting-images/";
+    private final ReportRepository reportRepository;
+    private final UserStatisticsService userStatisticsService;
+    private final SpeciesActivityService speciesActivityService;
+    private final ImageVariantService imageVariantService;
+    private final ImageStorage imageStorage;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public SightingService(SightingRepository sightingRepository, UserRepository userRepository) {
+    public SightingService(SightingRepository sightingRepository, SightingBatchRepository sightingBatchRepository,
+                           SightingQueryRepository sightingQueryRepository, UserRepository userRepository,
+                           ReportRepository reportRepository, UserStatisticsService userStatisticsService,
+                           SpeciesActivityService speciesActivityService, ImageVariantService imageVariantService,
+                           ImageStorage imageStorage, ApplicationEventPublisher eventPublisher) {
         this.sightingRepository = sightingRepository;
+        this.sightingBatchRepository = sightingBatchRepository;
+        this.sightingQueryRepository = sightingQueryRepository;
         this.userRepository = userRepository;
-        // Create upload directory if it doesn't exist
-        try {
-            Files.createDirectories(Paths.get(UPLOAD_DIR));
-        } catch (IOException e) {
-            throw new RuntimeException("Could not create upload directory", e);
-        }
+        this.reportRepository = reportRepository;
+        this.userStatisticsService = userStatisticsService;
+        this.speciesActivityService = speciesActivityService;
+        this.imageVariantService = imageVariantService;
+        this.imageStorage = imageStorage;
+        this.eventPublisher = eventPublisher;
     }
 
     // CREATE from DTO
@@ -49,16 +77,7 @@ public class SightingService {
         }
         
         User user = userRepository.findById(userId)
-                .orElseGet(() -> {
-                    // Create a default anonymous user if the requested user doesn't exist
-                    User defaultUser = userRepository.findByUsername("anonymous")
-                            .orElseGet(() -> {
-                                User newUser = new User("anonymous", "$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy");
-                                newUser.setDisplayName("Anonymous User");
-                                return userRepository.save(newUser);
-                            });
-                    return defaultUser;
-                });
+                .orElseGet(this::findOrCreateAnonymousUser);
         
         // Create entity
         Sighting sighting = new Sighting(
@@ -73,23 +92,92 @@ public class SightingService {
         
     	// Save the sighting
         Sighting saved = sightingRepository.save(sighting);
+        imageStorage.acquire(saved.getImageUrl());
         
         // Update user statistics
-        updateUserStatistics(user.getId());
+        userStatisticsService.recordSighting(user.getId(), saved.getSpecies());
+        speciesActivityService.recordSighting(saved);
         
         return toSightingResponse(saved);
     }
     
+    /**
+     * Creates a batch of sightings with a single JDBC batch insert.
+     * Users are looked up once per batch and each user's statistics are updated once,
+     * rather than once per sighting.
+     * @param requests At most MAX_BATCH_SIZE sightings
+     * @return The created sightings, in request order
+     */
+    @Transactional
+    public List<SightingResponse> createSightings(List<SightingRequest> requests) {
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " sightings per batch");
+        }
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+
+        // Resolve every distinct user in one query, falling back to the anonymous user like createSighting
+        Map<Long, User> users = new HashMap<>();
+        userRepository.findAllById(requests.stream().map(SightingService::requestedUserId).distinct().toList())
+                .forEach(user -> users.put(user.getId(), user));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Sighting> sightings = new ArrayList<>(requests.size());
+        for (SightingRequest request : requests) {
+            User user = users.get(requestedUserId(request));
+            if (user == null) {
+                user = findOrCreateAnonymousUser();
+                users.put(requestedUserId(request), user);
+            }
+            Sighting sighting = new Sighting(
+                request.getSpecies(),
+                request.getLocation(),
+                request.getDescription(),
+                request.getImageUrl(),
+                request.getPixelX(),
+                request.getPixelY(),
+                user
+            );
+            sighting.setTimestamp(now);
+            sightings.add(sighting);
+        }
+
+        List<Long> ids = sightingBatchRepository.insertAll(sightings);
+        // Each sighting holds its own reference, even when several in the batch share an uploaded image
+        sightings.forEach(sighting -> imageStorage.acquire(sighting.getImageUrl()));
+
+        // One statistics update per user for the whole batch
+        Map<Long, Map<String, Integer>> speciesCountsByUser = new HashMap<>();
+        for (Sighting sighting : sightings) {
+            speciesCountsByUser.computeIfAbsent(sighting.getUser().getId(), k -> new HashMap<>())
+                    .merge(sighting.getSpecies() == null ? "" : sighting.getSpecies(), 1, Integer::sum);
+        }
+        speciesCountsByUser.forEach(userStatisticsService::recordSightings);
+        speciesActivityService.recordSightings(sightings);
+
+        // The batch insert bypasses the entity listener, so announce the new rows here
+        List<SightingResponse> responses = new ArrayList<>(sightings.size());
+        for (int i = 0; i < sightings.size(); i++) {
+            SightingResponse response = SightingResponse.fromEntity(sightings.get(i), ids.get(i));
+            responses.add(response);
+            eventPublisher.publishEvent(new SightingEvent(SightingEvent.Type.CREATED, response));
+        }
+        return responses;
+    }
+    
     // CREATE from entity (for backward compatibility)
     @Transactional
     public Sighting createSighting(Sighting sighting) {
     	// Save the sighting
         Sighting saved = sightingRepository.save(sighting);
+        imageStorage.acquire(saved.getImageUrl());
         
         // Update user statistics
         if (sighting.getUser() != null) {
-            updateUserStatistics(sighting.getUser().getId());
+            userStatisticsService.recordSighting(sighting.getUser().getId(), sighting.getSpecies());
         }
+        speciesActivityService.recordSighting(saved);
         
         return saved;
     }
@@ -100,11 +188,11 @@ public class SightingService {
                 .orElseThrow(() -> new RuntimeException("Sighting not found"));
     }
     
-    // READ (single) as DTO
+    // READ (single) as DTO; sightings hidden by moderation are not found
+    @Transactional(readOnly = true)
     public SightingResponse findByIdAsDto(Long id) {
-        Sighting sighting = sightingRepository.findById(id)
+        return sightingRepository.findResponseById(id)
                 .orElseThrow(() -> new RuntimeException("Sighting not found"));
-        return toSightingResponse(sighting);
     }
 
     // READ (all)
@@ -112,18 +200,81 @@ public class SightingService {
         return sightingRepository.findAll();
     }
     
-    // READ (all) as DTOs
+    // READ (all) as DTOs, projected in a single statement; sightings hidden by moderation are left out
+    @Transactional(readOnly = true)
     public List<SightingResponse> findAllAsDto() {
-        return sightingRepository.findAll().stream()
-                .map(this::toSightingResponse)
-                .collect(Collectors.toList());
+        return sightingRepository.findVisibleResponses();
+    }
+    
+    // READ (page) as DTOs, using the last ID of the previous page as the cursor
+    @Transactional(readOnly = true)
+    public PageResponse<SightingResponse> findPageAsDto(Long afterId, int limit) {
+        List<SightingResponse> rows = sightingRepository.findVisibleResponsesAfter(
+                afterId != null ? afterId : 0L, Limit.of(limit + 1));
+
+        boolean hasMore = rows.size() > limit;
+        List<SightingResponse> items = new ArrayList<>(hasMore ? rows.subList(0, limit) : rows);
+        String nextCursor = hasMore ? String.valueOf(items.get(items.size() - 1).getId()) : null;
+
+        return new PageResponse<>(items, nextCursor, hasMore);
+    }
+
+    /**
+     * Finds one page of sightings matching a filter, newest first.
+     * The cursor is the timestamp and ID of the last sighting on the previous page ("timestamp_id"),
+     * so later pages stay cheap however deep the client pages.
+     * @param cursor nextCursor from the previous page, or null for the first page
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<SightingResponse> query(SightingFilter filter, String cursor, int limit) {
+        LocalDateTime beforeTimestamp = null;
+        Long beforeId = null;
+        if (cursor != null) {
+            int separator = cursor.lastIndexOf('_');
+            try {
+                beforeTimestamp = LocalDateTime.parse(cursor.substring(0, Math.max(separator, 0)));
+                beforeId = Long.parseLong(cursor.substring(separator + 1));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+        }
+
+        List<SightingResponse> rows = sightingQueryRepository.find(filter, beforeTimestamp, beforeId, limit + 1);
+        boolean hasMore = rows.size() > limit;
+        List<SightingResponse> items = new ArrayList<>(hasMore ? rows.subList(0, limit) : rows);
+        String nextCursor = null;
+        if (hasMore) {
+            SightingResponse last = items.get(items.size() - 1);
+            nextCursor = last.getTimestamp() + "_" + last.getId();
+        }
+        return new PageResponse<>(items, nextCursor, hasMore);
+    }
+
+    // READ (all visible) as DTOs, handed to the consumer one row at a time so the table is never held in memory
+    @Transactional(readOnly = true)
+    public void streamAllAsDto(Consumer<SightingResponse> consumer) {
+        try (Stream<SightingResponse> rows = sightingRepository.streamAllResponses()) {
+            rows.forEach(consumer);
+        }
     }
     
-    // READ (by user) as DTOs
+    // READ (by user) as DTOs, projected in a single statement; hidden sightings are left out
+    @Transactional(readOnly = true)
     public List<SightingResponse> findByUserIdAsDto(Long userId) {
-        return sightingRepository.findByUserId(userId).stream()
-                .map(this::toSightingResponse)
-                .collect(Collectors.toList());
+        return sightingRepository.findResponsesByUserId(userId);
+    }
+
+    // READ (image URL at a given size), falling back to the original until the variant exists
+    @Transactional(readOnly = true)
+    public String findImageUrl(Long id, ImageVariantService.Size size) {
+        SightingResponse sighting = findByIdAsDto(id);
+        String variant = switch (size) {
+            case THUMBNAIL -> sighting.getThumbnailUrl();
+            case WEB -> sighting.getWebImageUrl();
+            case ORIGINAL -> null;
+        };
+        return variant != null ? variant : sighting.getImageUrl();
     }
 
     // UPDATE
@@ -132,9 +283,19 @@ public class SightingService {
         Sighting existing = sightingRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Sighting not found"));
 
+        String previousSpecies = existing.getSpecies();
+        String previousLocation = existing.getLocation();
+        LocalDateTime previousTimestamp = existing.getTimestamp();
+        String previousImageUrl = existing.getImageUrl();
         existing.setSpecies(updated.getSpecies());
         existing.setLocation(updated.getLocation());
         existing.setDescription(updated.getDescription());
+        boolean imageChanged = !Objects.equals(previousImageUrl, updated.getImageUrl());
+        if (imageChanged) {
+            // Variants of the old image no longer apply; new ones are attached once available
+            existing.setThumbnailUrl(null);
+            existing.setWebImageUrl(null);
+        }
         existing.setImageUrl(updated.getImageUrl());
         existing.setTimestamp(updated.getTimestamp());
 
@@ -142,7 +303,13 @@ public class SightingService {
         
         // Update statistics in case species changed
         if (existing.getUser() != null) {
-            updateUserStatistics(existing.getUser().getId());
+            userStatisticsService.changeSpecies(existing.getUser().getId(), previousSpecies, existing.getSpecies());
+        }
+        speciesActivityService.moveSighting(previousSpecies, previousTimestamp, previousLocation, saved);
+
+        if (imageChanged) {
+            imageStorage.acquire(saved.getImageUrl());
+            releaseImage(previousImageUrl);
         }
         
         return saved;
@@ -156,40 +323,23 @@ public class SightingService {
         
         Long userId = sighting.getUser() != null ? sighting.getUser().getId() : null;
         
+        // Reports reference the sighting, so they go first, in one statement
+        reportRepository.deleteAllBySightingId(id);
         sightingRepository.deleteById(id);
         
         // Update statistics after deletion
         if (userId != null) {
-            updateUserStatistics(userId);
+            userStatisticsService.removeSighting(userId, sighting.getSpecies());
         }
-    }
-    
-    // Update user statistics based on their sightings
-    private void updateUserStatistics(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        List<Sighting> userSightings = sightingRepository.findByUserId(userId);
-        
-        // Update total animals logged
-        user.setTotalAnimalsLogged(userSightings.size());
-        
-        // Update unique species count
-        long uniqueSpecies = userSightings.stream()
-                .map(Sighting::getSpecies)
-                .distinct()
-                .count();
-        user.setUniqueSpeciesCount((int) uniqueSpecies);
-        
-        // Update last activity date
-        user.setLastActivityDate(LocalDateTime.now());
-        
-        userRepository.save(user);
+        speciesActivityService.removeSighting(sighting);
+
+        releaseImage(sighting.getImageUrl());
     }
     
     /**
      * Uploads a sighting image file and returns the URL path.
-     * Validates file type and size before saving.
+     * Validates file type and size before saving, then queues thumbnail and web variants
+     * for background generation.
      */
     public String uploadSightingImage(MultipartFile file) throws IOException {
         // Validate file
@@ -208,37 +358,57 @@ public class SightingService {
             throw new RuntimeException("File size must be less than 5MB");
         }
 
-        // Generate unique filename
-        String originalFilename = file.getOriginalFilename();
-        String extension = originalFilename != null && originalFilename.contains(".") 
-                ? originalFilename.substring(originalFilename.lastIndexOf("."))
-                : ".jpg";
-        String filename = "sighting_" + UUID.randomUUID() + extension;
-
-        // Save file
-        Path filePath = Paths.get(UPLOAD_DIR + filename);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        // Save file; identical images are stored once
+        String imageUrl = imageStorage.store(file);
+        imageVariantService.submit(imageUrl);
 
         // Return relative URL path
-        return "/uploads/sighting-images/" + filename;
+        return imageUrl;
+    }
+
+    // Requests without a user are attributed to user 1
+    private static Long requestedUserId(SightingRequest request) {
+        return request.getUserId() != null ? request.getUserId() : 1L;
+    }
+
+    // Create a default anonymous user if the requested user doesn't exist
+    private User findOrCreateAnonymousUser() {
+        return userRepository.findByUsername("anonymous")
+                .orElseGet(() -> {
+                    User newUser = new User("anonymous", "$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy");
+                    newUser.setDisplayName("Anonymous User");
+                    return userRepository.save(newUser);
+                });
+    }
+
+    // Drop this sighting's reference to a stored image, removing its variants with the last reference.
+    // Deleting files can't be rolled back, so it waits until the sighting's change has committed.
+    private void releaseImage(String imageUrl) {
+        if (imageUrl == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            releaseNow(imageUrl);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                releaseNow(imageUrl);
+            }
+        });
+    }
+
+    private void releaseNow(String imageUrl) {
+        if (imageStorage.release(imageUrl)) {
+            imageVariantService.deleteVariants(imageUrl);
+        }
     }
     
     /**
      * Converts Sighting entity to SightingResponse DTO.
      */
     public SightingResponse toSightingResponse(Sighting sighting) {
-        return new SightingResponse(
-            sighting.getId(),
-            sighting.getSpecies(),
-            sighting.getLocation(),
-            sighting.getDescription(),
-            sighting.getImageUrl(),
-            sighting.getTimestamp(),
-            sighting.getPixelX(),
-            sighting.getPixelY(),
-            sighting.getUser() != null ? sighting.getUser().getId() : null,
-            sighting.getUser() != null ? sighting.getUser().getUsername() : null,
-            sighting.getUser() != null ? sighting.getUser().getDisplayName() : null
-        );
+        return SightingResponse.fromEntity(sighting);
     }
 }
@@ -0,0 +1,106 @@
+package com.team4.wildlifetracker.service;
+
+import com.team4.wildlifetracker.dto.SightingResponse;
+import com.team4.wildlifetracker.event.SightingEvent;
+import com.team4.wildlifetracker.index.MapPoint;
+import com.team4.wildlifetracker.index.SpatialGrid;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory spatial index over sighting map coordinates.
+ * Coordinates are in the units stored on Sighting.pixelX/pixelY (percent of the campus map image).
+ * The index is loaded from the database on first use and then kept current from committed sighting events.
+ */
+@Service
+public class SightingSpatialIndex {
+
+    public static final int MAX_ZOOM = 4;
+
+    private static final int CELL_SIZE = 4;
+    // Minimum distance between returned markers at zoom 0; halves with each zoom level
+    private static final int BASE_SPACING = 8;
+
+    private final SightingRepository sightingRepository;
+    private final SpatialGrid grid = new SpatialGrid(CELL_SIZE);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean loaded;
+
+    public SightingSpatialIndex(SightingRepository sightingRepository) {
+        this.sightingRepository = sightingRepository;
+    }
+
+    /**
+     * Find sightings inside a bounding box and load their details.
+     * @return The visible sightings, loaded in a single query
+     */
+    public List<SightingResponse> findVisible(int minX, int minY, int maxX, int maxY, int zoom, int limit) {
+        List<Long> ids = findVisibleIds(minX, minY, maxX, maxY, zoom, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return sightingRepository.findResponsesByIdIn(ids);
+    }
+
+    /**
+     * Find sightings inside a bounding box.
+     * Below MAX_ZOOM, dense areas are thinned so at most one marker is returned per spacing square.
+     * @return IDs of the visible sightings
+     */
+    public List<Long> findVisibleIds(int minX, int minY, int maxX, int maxY, int zoom, int limit) {
+        int clampedZoom = Math.max(0, Math.min(zoom, MAX_ZOOM));
+        int spacing = clampedZoom >= MAX_ZOOM ? 0 : BASE_SPACING >> clampedZoom;
+
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return grid.query(minX, minY, maxX, maxY, spacing, limit).stream()
+                    .map(MapPoint::getId)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a committed sighting change to the index.
+     * Changes seen before the index is loaded are skipped; the initial load picks them up.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSightingChanged(SightingEvent event) {
+        if (!loaded) {
+            return;
+        }
+        SightingResponse sighting = event.getSighting();
+        lock.writeLock().lock();
+        try {
+            grid.remove(sighting.getId());
+            if (event.isVisible()
+                    && sighting.getPixelX() != null && sighting.getPixelY() != null) {
+                grid.put(new MapPoint(sighting.getId(), sighting.getPixelX(), sighting.getPixelY(), sighting.getSpecies()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                sightingRepository.findAllMapPoints().forEach(grid::put);
+                loaded = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
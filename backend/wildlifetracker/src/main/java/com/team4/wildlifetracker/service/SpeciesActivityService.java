@@ -0,0 +1,221 @@
+package com.team4.wildlifetracker.service;
+
+import com.team4.wildlifetracker.dto.LocationActivity;
+import com.team4.wildlifetracker.dto.SpeciesActivity;
+import com.team4.wildlifetracker.model.Sighting;
+import com.team4.wildlifetracker.model.SpeciesDailyActivity;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import com.team4.wildlifetracker.repository.SpeciesDailyActivityRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Service for the per-species, per-day, per-location sighting rollups behind activity charts.
+ * SightingService adjusts the rollups in the same transaction as each sighting write;
+ * rebuild() recomputes them from the sightings table for backfills and repairs.
+ */
+@Service
+@Transactional
+public class SpeciesActivityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpeciesActivityService.class);
+
+    private final SpeciesDailyActivityRepository activityRepository;
+    private final SightingRepository sightingRepository;
+
+    public SpeciesActivityService(SpeciesDailyActivityRepository activityRepository,
+                                  SightingRepository sightingRepository) {
+        this.activityRepository = activityRepository;
+        this.sightingRepository = sightingRepository;
+    }
+
+    /**
+     * Count a new sighting.
+     * @param sighting The saved sighting
+     */
+    public void recordSighting(Sighting sighting) {
+        adjust(sighting.getSpecies(), sighting.getTimestamp(), sighting.getLocation(), 1);
+    }
+
+    /**
+     * Count a batch of new sightings, with one counter update per species, day and location.
+     * @param sightings The saved sightings
+     */
+    public void recordSightings(Collection<Sighting> sightings) {
+        Map<Key, Integer> deltas = new LinkedHashMap<>();
+        for (Sighting sighting : sightings) {
+            Key key = Key.of(sighting.getSpecies(), sighting.getTimestamp(), sighting.getLocation());
+            if (key != null) {
+                deltas.merge(key, 1, Integer::sum);
+            }
+        }
+        deltas.forEach(this::adjust);
+    }
+
+    /**
+     * Stop counting a deleted sighting.
+     * @param sighting The sighting as it was before deletion
+     */
+    public void removeSighting(Sighting sighting) {
+        adjust(sighting.getSpecies(), sighting.getTimestamp(), sighting.getLocation(), -1);
+    }
+
+    /**
+     * Move an updated sighting from its previous species, day and location to its current ones.
+     * @param oldSpecies The species before the update
+     * @param oldTimestamp The timestamp before the update
+     * @param oldLocation The location before the update
+     * @param updated The sighting after the update
+     */
+    public void moveSighting(String oldSpecies, LocalDateTime oldTimestamp, String oldLocation, Sighting updated) {
+        Key from = Key.of(oldSpecies, oldTimestamp, oldLocation);
+        Key to = Key.of(updated.getSpecies(), updated.getTimestamp(), updated.getLocation());
+        if (Objects.equals(from, to)) {
+            return;
+        }
+        adjust(from, -1);
+        adjust(to, 1);
+    }
+
+    /**
+     * Recompute every rollup row from the sightings table.
+     * @return Number of rollup rows written
+     */
+    public int rebuild() {
+        // Several raw groups can share a key (e.g. null and empty species), so merge before inserting
+        Map<Key, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : sightingRepository.countBySpeciesDayAndLocation()) {
+            counts.merge(Key.of((String) row[0], (LocalDate) row[1], (String) row[2]), (Long) row[3], Long::sum);
+        }
+
+        activityRepository.deleteAllInBatch();
+        List<SpeciesDailyActivity> rows = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> rows.add(new SpeciesDailyActivity(key.species, key.date, key.location, count)));
+        activityRepository.saveAll(rows);
+        logger.info("Rebuilt species activity rollups: {} rows", rows.size());
+        return rows.size();
+    }
+
+    /**
+     * Backfill the rollups on the first start after they were introduced.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (activityRepository.count() == 0 && sightingRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Sightings per species per day.
+     * @param species Only this species, or null for all
+     * @param from First day, inclusive
+     * @param to Last day, inclusive
+     */
+    @Transactional(readOnly = true)
+    public List<SpeciesActivity> getDailyActivity(String species, LocalDate from, LocalDate to) {
+        return activityRepository.findDaily(species, from, to);
+    }
+
+    /**
+     * Sightings per species per week, with weeks starting on Monday.
+     * Built from the daily rollups, so a year of weekly data reads at most 366 rows per species.
+     * @param species Only this species, or null for all
+     * @param from First day, inclusive; moved back to the Monday of its week
+     * @param to Last day, inclusive
+     */
+    @Transactional(readOnly = true)
+    public List<SpeciesActivity> getWeeklyActivity(String species, LocalDate from, LocalDate to) {
+        LocalDate start = from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        // Daily rows arrive ordered by date, so weeks come out in order too
+        Map<Key, Long> weeks = new LinkedHashMap<>();
+        for (SpeciesActivity day : activityRepository.findDaily(species, start, to)) {
+            LocalDate week = day.getDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            weeks.merge(Key.of(day.getSpecies(), week, null), day.getCount(), Long::sum);
+        }
+        List<SpeciesActivity> result = new ArrayList<>(weeks.size());
+        weeks.forEach((key, count) -> result.add(new SpeciesActivity(key.species, key.date, count)));
+        result.sort(Comparator.comparing(SpeciesActivity::getDate).thenComparing(SpeciesActivity::getSpecies));
+        return result;
+    }
+
+    /**
+     * Sightings per location, most active first.
+     * @param species Only this species, or null for all
+     * @param from First day, inclusive
+     * @param to Last day, inclusive
+     */
+    @Transactional(readOnly = true)
+    public List<LocationActivity> getLocationActivity(String species, LocalDate from, LocalDate to) {
+        return activityRepository.findByLocation(species, from, to);
+    }
+
+    private void adjust(String species, LocalDateTime timestamp, String location, int delta) {
+        adjust(Key.of(species, timestamp, location), delta);
+    }
+
+    private void adjust(Key key, int delta) {
+        if (key == null) {
+            return;
+        }
+        if (delta < 0) {
+            if (activityRepository.adjust(key.species, key.date, key.location, delta) > 0) {
+                activityRepository.deleteIfEmpty(key.species, key.date, key.location);
+            }
+            return;
+        }
+        activityRepository.add(key.species, key.date, key.location, delta);
+    }
+
+    // Rollup row key; missing species and locations are counted under an empty string
+    private static final class Key {
+
+        private final String species;
+        private final LocalDate date;
+        private final String location;
+
+        private Key(String species, LocalDate date, String location) {
+            this.species = species == null ? "" : species;
+            this.date = date;
+            this.location = location == null ? "" : location.trim();
+        }
+
+        // Returns null for sightings without a timestamp, which are not counted
+        static Key of(String species, LocalDateTime timestamp, String location) {
+            return timestamp == null ? null : new Key(species, timestamp.toLocalDate(), location);
+        }
+
+        static Key of(String species, LocalDate date, String location) {
+            return new Key(species, date, location);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return species.equals(other.species) && date.equals(other.date) && location.equals(other.location);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(species, date, location);
+        }
+    }
+}
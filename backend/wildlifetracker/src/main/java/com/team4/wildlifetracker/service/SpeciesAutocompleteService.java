@@ -0,0 +1,163 @@
+package com.team4.wildlifetracker.service;
+
+import com.team4.wildlifetracker.dto.SpeciesSuggestion;
+import com.team4.wildlifetracker.event.SightingEvent;
+import com.team4.wildlifetracker.event.SpeciesEvent;
+import com.team4.wildlifetracker.index.SpeciesTrie;
+import com.team4.wildlifetracker.model.Species;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import com.team4.wildlifetracker.repository.SpeciesRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Species name autocomplete backed by an in-memory trie.
+ * Names come from the species table and from the species recorded on sightings, ranked by sighting count.
+ * New species and sighting changes are applied incrementally; species renames and deletions, whose
+ * sightings may still use the old name, mark the trie stale so it is rebuilt on the next lookup.
+ */
+@Service
+public class SpeciesAutocompleteService {
+
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private final SpeciesRepository speciesRepository;
+    private final SightingRepository sightingRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildLock = new Object();
+    private SpeciesTrie trie;
+    private volatile boolean stale = true;
+    // Counts applied or skipped changes, so a rebuild can tell whether any arrived while it was reading
+    private long changes;
+
+    public SpeciesAutocompleteService(SpeciesRepository speciesRepository, SightingRepository sightingRepository) {
+        this.speciesRepository = speciesRepository;
+        this.sightingRepository = sightingRepository;
+    }
+
+    /**
+     * Suggest species names starting with a prefix (case-insensitive), most sighted first.
+     * @param prefix The text typed so far
+     * @param limit Maximum number of suggestions, capped at MAX_SUGGESTIONS
+     * @return Matching species with their sighting counts
+     */
+    public List<SpeciesSuggestion> suggest(String prefix, int limit) {
+        ensureCurrent();
+        lock.readLock().lock();
+        try {
+            List<SpeciesSuggestion> suggestions = new ArrayList<>();
+            for (SpeciesTrie.Suggestion suggestion : trie.suggest(prefix.trim(), limit)) {
+                suggestions.add(new SpeciesSuggestion(suggestion.getName(), suggestion.getWeight()));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a committed species change to the trie.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSpeciesChanged(SpeciesEvent event) {
+        lock.writeLock().lock();
+        try {
+            changes++;
+            if (stale) {
+                return;
+            }
+            if (event.getType() != SpeciesEvent.Type.CREATED) {
+                // The old name may still be in use by sightings, so recount from scratch
+                stale = true;
+                return;
+            }
+            trie.addWeight(event.getName(), 0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a committed sighting change to the species counts.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSightingChanged(SightingEvent event) {
+        String species = event.getSighting().getSpecies();
+        String previousSpecies = event.getPreviousSpecies();
+        if (event.getType() == SightingEvent.Type.UPDATED && Objects.equals(species, previousSpecies)) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            changes++;
+            if (stale) {
+                return;
+            }
+            switch (event.getType()) {
+                case CREATED -> adjust(species, 1);
+                case DELETED -> adjust(species, -1);
+                case UPDATED -> {
+                    adjust(previousSpecies, -1);
+                    adjust(species, 1);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Callers hold the write lock
+    private void adjust(String species, long delta) {
+        if (species != null && !species.isBlank()) {
+            trie.addWeight(species, delta);
+        }
+    }
+
+    private void ensureCurrent() {
+        if (!stale) {
+            return;
+        }
+        synchronized (rebuildLock) {
+            if (!stale) {
+                return;
+            }
+            long seen;
+            lock.readLock().lock();
+            try {
+                seen = changes;
+            } finally {
+                lock.readLock().unlock();
+            }
+            // Read without the write lock, so lookups keep using the old trie meanwhile
+            SpeciesTrie fresh = build();
+            lock.writeLock().lock();
+            try {
+                trie = fresh;
+                // A change that arrived during the read may or may not be in the counts, so don't trust them
+                stale = changes != seen;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private SpeciesTrie build() {
+        SpeciesTrie fresh = new SpeciesTrie(MAX_SUGGESTIONS);
+        for (Species species : speciesRepository.findAll()) {
+            fresh.addWeight(species.getName(), 0);
+        }
+        for (Object[] row : sightingRepository.countBySpecies()) {
+            String name = (String) row[0];
+            if (!name.isBlank()) {
+                fresh.addWeight(name, (Long) row[1]);
+            }
+        }
+        return fresh;
+    }
+}
@@ -1,12 +1,8 @@
 package com.team4.wildlifetracker.service;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
 
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -16,23 +12,19 @@ import com.team4.wildlifetracker.dto.ProfileUpdateRequest;
 import com.team4.wildlifetracker.dto.UserResponse;
 import com.team4.wildlifetracker.model.User;
 import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.storage.ImageStorage;
 
 @Service
 public class UserService {
 
     private final UserRepository userRepository;
     private final BCryptPasswordEncoder passwordEncoder;
-    private static final String UPLOAD_DIR = "uploads/profile-pictures/";
+    private final ImageStorage imageStorage;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, ImageStorage imageStorage) {
         this.userRepository = userRepository;
         this.passwordEncoder = new BCryptPasswordEncoder();
-        // Create upload directory if it doesn't exist
-        try {
-            Files.createDirectories(Paths.get(UPLOAD_DIR));
-        } catch (IOException e) {
-            throw new RuntimeException("Could not create upload directory", e);
-        }
+        this.imageStorage = imageStorage;
     }
 
     public UserResponse registerUser(String username, String password) {
@@ -82,11 +74,18 @@ public class UserService {
             user.setBio(request.getBio());
         }
 
+        String previousUrl = user.getProfilePictureUrl();
         if (request.getProfilePictureUrl() != null) {
             user.setProfilePictureUrl(request.getProfilePictureUrl());
         }
 
         User saved = userRepository.save(user);
+        if (!Objects.equals(previousUrl, saved.getProfilePictureUrl())) {
+            imageStorage.acquire(saved.getProfilePictureUrl());
+            if (previousUrl != null) {
+                imageStorage.release(previousUrl);
+            }
+        }
         return toUserResponse(saved);
     }
 
@@ -105,21 +104,17 @@ public class UserService {
             throw new RuntimeException("File must be an image");
         }
 
-        // Generate unique filename
-        String originalFilename = file.getOriginalFilename();
-        String extension = originalFilename != null && originalFilename.contains(".") 
-                ? originalFilename.substring(originalFilename.lastIndexOf("."))
-                : ".jpg";
-        String filename = "profile_" + userId + "_" + UUID.randomUUID() + extension;
+        // Save file; identical images are stored once
+        String fileUrl = imageStorage.store(file);
 
-        // Save file
-        Path filePath = Paths.get(UPLOAD_DIR + filename);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
-        // Update user profile picture URL
-        String fileUrl = "/uploads/profile-pictures/" + filename;
+        // Update user profile picture URL, releasing the picture it replaces
+        String previousUrl = user.getProfilePictureUrl();
         user.setProfilePictureUrl(fileUrl);
         userRepository.save(user);
+        imageStorage.acquire(fileUrl);
+        if (previousUrl != null && !previousUrl.equals(fileUrl)) {
+            imageStorage.release(previousUrl);
+        }
 
         return fileUrl;
     }
@@ -0,0 +1,54 @@
+package com.team4.wildlifetracker.service;
+
+import com.team4.wildlifetracker.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Background job that verifies incrementally maintained user statistics
+ * against the sightings table and repairs any drift.
+ * Each user is reconciled in its own transaction.
+ */
+@Component
+public class UserStatisticsReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserStatisticsReconciler.class);
+
+    private final UserRepository userRepository;
+    private final UserStatisticsService userStatisticsService;
+
+    public UserStatisticsReconciler(UserRepository userRepository,
+                                    UserStatisticsService userStatisticsService) {
+        this.userRepository = userRepository;
+        this.userStatisticsService = userStatisticsService;
+    }
+
+    /**
+     * Reconcile statistics for every user.
+     * Runs hourly by default; configure with wildlifetracker.stats.reconcile-interval-ms.
+     * @return Number of users whose statistics were repaired
+     */
+    @Scheduled(initialDelayString = "${wildlifetracker.stats.reconcile-interval-ms:3600000}",
+               fixedDelayString = "${wildlifetracker.stats.reconcile-interval-ms:3600000}")
+    public int reconcileAll() {
+        List<Long> userIds = userRepository.findAllIds();
+        int repaired = 0;
+
+        for (Long userId : userIds) {
+            try {
+                if (userStatisticsService.reconcileUser(userId)) {
+                    repaired++;
+                }
+            } catch (RuntimeException e) {
+                logger.error("Failed to reconcile statistics for user {}", userId, e);
+            }
+        }
+
+        logger.info("Statistics reconciliation checked {} users, repaired {}", userIds.size(), repaired);
+        return repaired;
+    }
+}
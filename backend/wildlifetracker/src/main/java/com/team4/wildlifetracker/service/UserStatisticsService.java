@@ -0,0 +1,168 @@
+package com.team4.wildlifetracker.service;
+
+import com.team4.wildlifetracker.dto.UserResponse;
+import com.team4.wildlifetracker.event.UserChangedEvent;
+import com.team4.wildlifetracker.model.User;
+import com.team4.wildlifetracker.model.UserSpeciesCount;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.repository.UserSpeciesCountRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Service for maintaining user sighting statistics.
+ * Statistics are adjusted incrementally using per-user species counters,
+ * so recording a sighting does not require reading the user's other sightings.
+ * The users row is the only store for these counters: it is changed with atomic UPDATE statements,
+ * so concurrent sightings can't lose updates, and profiles and the leaderboard both read it.
+ * Bulk updates bypass the User entity listener, so UserChangedEvents are published here instead.
+ */
+@Service
+@Transactional
+public class UserStatisticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserStatisticsService.class);
+
+    private final UserRepository userRepository;
+    private final UserSpeciesCountRepository speciesCountRepository;
+    private final SightingRepository sightingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserStatisticsService(UserRepository userRepository,
+                                 UserSpeciesCountRepository speciesCountRepository,
+                                 SightingRepository sightingRepository,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.userRepository = userRepository;
+        this.speciesCountRepository = speciesCountRepository;
+        this.sightingRepository = sightingRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Record a new sighting for a user.
+     * @param userId The user ID
+     * @param species The species of the sighting
+     */
+    public void recordSighting(Long userId, String species) {
+        incrementSpecies(userId, species);
+        adjust(userId, 1);
+    }
+
+    /**
+     * Record a batch of new sightings for a user with one statistics update.
+     * @param userId The user ID
+     * @param speciesCounts Number of new sightings per species
+     */
+    public void recordSightings(Long userId, Map<String, Integer> speciesCounts) {
+        int total = 0;
+        Map<String, Integer> byKey = new HashMap<>();
+        speciesCounts.forEach((species, count) -> byKey.merge(speciesKey(species), count, Integer::sum));
+        for (Map.Entry<String, Integer> entry : byKey.entrySet()) {
+            total += entry.getValue();
+            speciesCountRepository.add(userId, entry.getKey(), entry.getValue());
+        }
+        adjust(userId, total);
+    }
+
+    /**
+     * Remove a deleted sighting from a user's statistics.
+     * @param userId The user ID
+     * @param species The species of the deleted sighting
+     */
+    public void removeSighting(Long userId, String species) {
+        decrementSpecies(userId, species);
+        adjust(userId, -1);
+    }
+
+    /**
+     * Move a sighting from one species to another in a user's statistics.
+     * @param userId The user ID
+     * @param oldSpecies The species before the update
+     * @param newSpecies The species after the update
+     */
+    public void changeSpecies(Long userId, String oldSpecies, String newSpecies) {
+        if (!Objects.equals(speciesKey(oldSpecies), speciesKey(newSpecies))) {
+            decrementSpecies(userId, oldSpecies);
+            incrementSpecies(userId, newSpecies);
+        }
+        adjust(userId, 0);
+    }
+
+    /**
+     * Verify a user's statistics against their sightings and repair any drift.
+     * @param userId The user ID
+     * @return true if the statistics had drifted and were repaired
+     */
+    public boolean reconcileUser(Long userId) {
+        UserResponse user = userRepository.findResponseById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        Map<String, Long> actual = new HashMap<>();
+        for (Object[] row : sightingRepository.countSpeciesByUserId(userId)) {
+            actual.merge(speciesKey((String) row[0]), (Long) row[1], Long::sum);
+        }
+
+        Map<String, Long> stored = new HashMap<>();
+        for (UserSpeciesCount count : speciesCountRepository.findByUserId(userId)) {
+            stored.put(count.getSpecies(), count.getSightingCount());
+        }
+
+        long total = actual.values().stream().mapToLong(Long::longValue).sum();
+        boolean drifted = !actual.equals(stored)
+                || user.getTotalAnimalsLogged() != total
+                || user.getUniqueSpeciesCount() != actual.size();
+        if (!drifted) {
+            return false;
+        }
+
+        logger.warn("Repairing statistics for user {}: stored {} sightings / {} species, actual {} / {}",
+                userId, user.getTotalAnimalsLogged(), user.getUniqueSpeciesCount(), total, actual.size());
+
+        speciesCountRepository.deleteByUserId(userId);
+        User reference = userRepository.getReferenceById(userId);
+        actual.forEach((species, count) ->
+                speciesCountRepository.save(new UserSpeciesCount(reference, species, count)));
+
+        userRepository.setStatistics(userId, (int) total, actual.size());
+        publishChanged(userId);
+        return true;
+    }
+
+    // Apply a sighting count change once the species counters are up to date, and announce the new totals
+    private void adjust(Long userId, int sightings) {
+        if (userRepository.adjustStatistics(userId, sightings, LocalDateTime.now()) == 0) {
+            throw new RuntimeException("User not found");
+        }
+        publishChanged(userId);
+    }
+
+    private void publishChanged(Long userId) {
+        userRepository.findResponseById(userId).ifPresent(user ->
+                eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.SAVED, user)));
+    }
+
+    private void incrementSpecies(Long userId, String species) {
+        speciesCountRepository.add(userId, speciesKey(species), 1);
+    }
+
+    private void decrementSpecies(Long userId, String species) {
+        String key = speciesKey(species);
+        if (speciesCountRepository.decrement(userId, key) > 0) {
+            speciesCountRepository.deleteIfEmpty(userId, key);
+        }
+    }
+
+    // Sightings without a species are counted under an empty key
+    private static String speciesKey(String species) {
+        return species == null ? "" : species;
+    }
+}
@@ -0,0 +1,260 @@
+package com.team4.wildlifetracker.service;
+
+import com.team4.wildlifetracker.dto.NotificationResponse;
+import com.team4.wildlifetracker.dto.SightingResponse;
+import com.team4.wildlifetracker.dto.WatchResponse;
+import com.team4.wildlifetracker.event.NotificationEvent;
+import com.team4.wildlifetracker.event.SightingEvent;
+import com.team4.wildlifetracker.event.UserChangedEvent;
+import com.team4.wildlifetracker.event.WatchEvent;
+import com.team4.wildlifetracker.index.WatchIndex;
+import com.team4.wildlifetracker.model.Notification;
+import com.team4.wildlifetracker.model.Watch;
+import com.team4.wildlifetracker.repository.NotificationBatchRepository;
+import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.repository.WatchRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Notifies watchers of new sightings without holding up the request that created them.
+ * Committed sightings are queued and picked up by a single background worker, which waits
+ * briefly to gather a burst, finds each sighting's watchers, and writes one notification per
+ * watcher per burst (a watcher who matches several sightings gets one summary) in JDBC batches.
+ * Watches are kept in memory, loaded at startup and updated from WatchEvents, so sightings
+ * nobody watches cost no database work at all.
+ */
+@Service
+public class WatchDeliveryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WatchDeliveryService.class);
+
+    // Most sightings handled in one burst, and most notifications written per batch insert
+    static final int MAX_SIGHTINGS_PER_BURST = 200;
+    static final int INSERT_BATCH_SIZE = 1000;
+
+    // Species names listed in a summary notification before "and N more"
+    private static final int MAX_SPECIES_IN_SUMMARY = 3;
+
+    private final WatchRepository watchRepository;
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<SightingResponse> queue;
+    private final long lingerMillis;
+    private final WatchIndex watchIndex = new WatchIndex();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Thread worker;
+
+    public WatchDeliveryService(WatchRepository watchRepository,
+                                NotificationBatchRepository notificationBatchRepository,
+                                UserRepository userRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${wildlifetracker.watch.queue-capacity:10000}") int queueCapacity,
+                                @Value("${wildlifetracker.watch.linger-ms:250}") long lingerMillis) {
+        this.watchRepository = watchRepository;
+        this.notificationBatchRepository = notificationBatchRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.lingerMillis = lingerMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        lock.writeLock().lock();
+        try {
+            for (Watch watch : watchRepository.findAll()) {
+                put(WatchResponse.fromEntity(watch));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Loaded {} watches", watchIndex.size());
+
+        worker = new Thread(this::run, "watch-delivery");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.interrupt();
+    }
+
+    /**
+     * Queue a committed sighting for delivery to its watchers.
+     * Never blocks; if the queue is full the sighting is dropped and logged.
+     * Imported historical sightings aren't news, so watchers aren't told about them.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSightingChanged(SightingEvent event) {
+        if (event.getType() != SightingEvent.Type.CREATED || event.isImported()) {
+            return;
+        }
+        if (!queue.offer(event.getSighting())) {
+            logger.warn("Watch delivery queue full, not notifying watchers of sighting {}", event.getSightingId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWatchChanged(WatchEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.getType() == WatchEvent.Type.DELETED) {
+                watchIndex.remove(event.getWatchId());
+            } else {
+                put(event.getWatch());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Deleting a user removes their watches by cascade in the database, without WatchEvents
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() != UserChangedEvent.Type.DELETED) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            watchIndex.removeUser(event.getUserId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(WatchResponse watch) {
+        watchIndex.put(watch.getId(), watch.getUserId(), watch.getSpecies(),
+                watch.getMinX(), watch.getMinY(), watch.getMaxX(), watch.getMaxY());
+    }
+
+    private void run() {
+        List<SightingResponse> burst = new ArrayList<>(MAX_SIGHTINGS_PER_BURST);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                burst.add(queue.take());
+                // Give the rest of a burst (e.g. a batch upload) a moment to arrive
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                while (burst.size() < MAX_SIGHTINGS_PER_BURST) {
+                    SightingResponse next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    burst.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                deliver(burst);
+            } catch (RuntimeException e) {
+                logger.error("Could not notify watchers of {} sightings", burst.size(), e);
+            }
+            burst.clear();
+        }
+    }
+
+    /**
+     * Write the notifications for a burst of sightings.
+     * @return Number of notifications written
+     */
+    int deliver(List<SightingResponse> sightings) {
+        // Sightings matched per watcher, in arrival order; reporters aren't notified of their own sightings
+        Map<Long, List<SightingResponse>> matches = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            for (SightingResponse sighting : sightings) {
+                Set<Long> watcherIds = watchIndex.findWatchers(
+                        sighting.getSpecies(), sighting.getPixelX(), sighting.getPixelY());
+                for (Long watcherId : watcherIds) {
+                    if (!Objects.equals(watcherId, sighting.getUserId())) {
+                        matches.computeIfAbsent(watcherId, id -> new ArrayList<>()).add(sighting);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (matches.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> notifications = new ArrayList<>(matches.size());
+        matches.forEach((watcherId, matched) -> {
+            Notification notification = new Notification(message(matched), userRepository.getReferenceById(watcherId));
+            notification.setTimestamp(now);
+            notifications.add(notification);
+        });
+
+        for (int from = 0; from < notifications.size(); from += INSERT_BATCH_SIZE) {
+            List<Notification> batch = notifications.subList(from, Math.min(from + INSERT_BATCH_SIZE, notifications.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> ids = notificationBatchRepository.insertAll(batch);
+                // The batch insert bypasses NotificationService, so announce the new rows here
+                for (int i = 0; i < batch.size(); i++) {
+                    Notification notification = batch.get(i);
+                    eventPublisher.publishEvent(new NotificationEvent(new NotificationResponse(ids.get(i),
+                            notification.getMessage(), notification.getTimestamp(), false,
+                            notification.getUser().getId())));
+                }
+            });
+        }
+        logger.debug("Notified {} watchers of {} sightings", notifications.size(), sightings.size());
+        return notifications.size();
+    }
+
+    static String message(List<SightingResponse> matched) {
+        if (matched.size() == 1) {
+            SightingResponse sighting = matched.get(0);
+            String species = sighting.getSpecies() != null ? sighting.getSpecies() : "wildlife";
+            return sighting.getLocation() != null
+                    ? "New " + species + " sighting at " + sighting.getLocation()
+                    : "New " + species + " sighting";
+        }
+        Set<String> species = new LinkedHashSet<>();
+        for (SightingResponse sighting : matched) {
+            if (sighting.getSpecies() != null) {
+                species.add(sighting.getSpecies());
+            }
+        }
+        StringBuilder message = new StringBuilder()
+                .append(matched.size()).append(" new sightings you are watching");
+        if (!species.isEmpty()) {
+            List<String> names = new ArrayList<>(species);
+            message.append(": ").append(String.join(", ", names.subList(0, Math.min(names.size(), MAX_SPECIES_IN_SUMMARY))));
+            if (names.size() > MAX_SPECIES_IN_SUMMARY) {
+                message.append(" and ").append(names.size() - MAX_SPECIES_IN_SUMMARY).append(" more");
+            }
+        }
+        return message.toString();
+    }
+}
@@ -0,0 +1,91 @@
+package com.team4.wildlifetracker.service;
+
+import com.team4.wildlifetracker.dto.WatchRequest;
+import com.team4.wildlifetracker.dto.WatchResponse;
+import com.team4.wildlifetracker.model.User;
+import com.team4.wildlifetracker.model.Watch;
+import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.repository.WatchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Service for managing users' watches on species and map areas.
+ * Delivery of the resulting notifications is handled by WatchDeliveryService.
+ */
+@Service
+@Transactional
+public class WatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WatchService.class);
+
+    private final WatchRepository watchRepository;
+    private final UserRepository userRepository;
+
+    public WatchService(WatchRepository watchRepository, UserRepository userRepository) {
+        this.watchRepository = watchRepository;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Create a watch.
+     * @throws IllegalArgumentException if the user doesn't exist, neither species nor area is given,
+     *         or the area is incomplete or outside the map
+     */
+    public WatchResponse createWatch(WatchRequest request) {
+        String species = request.getSpecies() != null && !request.getSpecies().isBlank()
+                ? request.getSpecies().trim() : null;
+        Integer minX = request.getMinX();
+        Integer minY = request.getMinY();
+        Integer maxX = request.getMaxX();
+        Integer maxY = request.getMaxY();
+
+        boolean anyBound = minX != null || minY != null || maxX != null || maxY != null;
+        boolean allBounds = minX != null && minY != null && maxX != null && maxY != null;
+        if (anyBound && !allBounds) {
+            throw new IllegalArgumentException("An area needs all four bounds");
+        }
+        if (!anyBound && species == null) {
+            throw new IllegalArgumentException("A watch needs a species, an area, or both");
+        }
+        if (allBounds && (!onMap(minX) || !onMap(minY) || !onMap(maxX) || !onMap(maxY) || minX > maxX || minY > maxY)) {
+            throw new IllegalArgumentException("Area bounds must be between 0 and 100, min before max");
+        }
+
+        User user = userRepository.findById(request.getUserId())
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+
+        Watch watch = watchRepository.save(new Watch(user, species, minX, minY, maxX, maxY));
+        logger.info("User {} is now watching species={} area={}", user.getId(), species,
+                allBounds ? minX + "," + minY + "-" + maxX + "," + maxY : "anywhere");
+        return WatchResponse.fromEntity(watch);
+    }
+
+    @Transactional(readOnly = true)
+    public List<WatchResponse> getWatches(Long userId) {
+        return watchRepository.findByUserIdOrderByCreatedAtDesc(userId)
+                .stream()
+                .map(WatchResponse::fromEntity)
+                .toList();
+    }
+
+    /**
+     * Delete a watch.
+     * @return false if there was no such watch
+     */
+    public boolean deleteWatch(Long watchId) {
+        if (!watchRepository.existsById(watchId)) {
+            return false;
+        }
+        watchRepository.deleteById(watchId);
+        return true;
+    }
+
+    private static boolean onMap(int coordinate) {
+        return coordinate >= 0 && coordinate <= 100;
+    }
+}
@@ -0,0 +1,198 @@
+package com.team4.wildlifetracker.storage;
+
+import com.team4.wildlifetracker.model.ImageBlob;
+import com.team4.wildlifetracker.repository.ImageBlobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Image storage that names files by the SHA-256 of their content, so identical uploads are stored once.
+ * Files live under uploads/blobs/ab/cd/abcd....ext, sharded by the first two hash bytes to keep
+ * directories small. The image_blobs table counts references and the file is deleted with the last one;
+ * each upload holds a reference until its first referrer claims it with acquire().
+ * Because a URL never changes content, the hash doubles as a strong ETag (see UploadController).
+ */
+@Service
+public class ContentAddressedImageStorage implements ImageStorage {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentAddressedImageStorage.class);
+
+    public static final String URL_PREFIX = "/uploads/blobs/";
+    // Matches the /uploads/** mapping in UploadController
+    private static final Path DEFAULT_ROOT = Paths.get("uploads/blobs");
+    private static final Pattern BLOB_URL = Pattern.compile("^/uploads/blobs/[0-9a-f]{2}/[0-9a-f]{2}/([0-9a-f]{64})\\.[a-z0-9]+$");
+
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", ".jpg",
+            "image/png", ".png",
+            "image/gif", ".gif",
+            "image/webp", ".webp",
+            "image/bmp", ".bmp");
+
+    private final ImageBlobRepository blobRepository;
+    private final TransactionTemplate transactionTemplate;
+    // Joins the caller's transaction, so references are taken and rolled back with the referring row
+    private final TransactionTemplate joinTemplate;
+    private final Path root;
+    // Serializes writers of the same hash
+    private final Object[] locks = new Object[64];
+
+    @Autowired
+    public ContentAddressedImageStorage(ImageBlobRepository blobRepository, PlatformTransactionManager transactionManager) {
+        this(blobRepository, transactionManager, DEFAULT_ROOT);
+    }
+
+    // Files are kept under root instead of the served uploads directory, for tests
+    ContentAddressedImageStorage(ImageBlobRepository blobRepository, PlatformTransactionManager transactionManager,
+                                 Path root) {
+        this.blobRepository = blobRepository;
+        this.root = root;
+        // Own transaction, so the blob row is committed while the hash lock is still held
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.joinTemplate = new TransactionTemplate(transactionManager);
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @Override
+    public String store(MultipartFile file) throws IOException {
+        Files.createDirectories(root);
+        Path temp = Files.createTempFile(root, "upload", ".tmp");
+        try {
+            // Hash while streaming to disk so the upload is read only once
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                size = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+
+            synchronized (lockFor(hash)) {
+                return transactionTemplate.execute(status -> {
+                    Optional<ImageBlob> existing = blobRepository.findBySha256(hash);
+                    if (existing.isPresent()) {
+                        blobRepository.addUpload(hash);
+                        return existing.get().getUrl();
+                    }
+                    String url = URL_PREFIX + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/"
+                            + hash + extensionOf(file);
+                    Path target = toPath(url);
+                    try {
+                        Files.createDirectories(target.getParent());
+                        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    blobRepository.save(new ImageBlob(hash, url, size));
+                    return url;
+                });
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public boolean acquire(String url) {
+        String hash = hashOf(url);
+        if (hash == null) {
+            return false;
+        }
+        // A blob whose row is gone (e.g. a URL imported from another installation) has nothing to count
+        return Boolean.TRUE.equals(joinTemplate.execute(status ->
+                blobRepository.claimUpload(hash) > 0 || blobRepository.incrementRefCount(hash) > 0));
+    }
+
+    @Override
+    public boolean release(String url) {
+        String hash = hashOf(url);
+        if (hash == null) {
+            return false;
+        }
+        synchronized (lockFor(hash)) {
+            Boolean deleted = transactionTemplate.execute(status ->
+                    blobRepository.decrementRefCount(hash) > 0 && blobRepository.deleteIfUnreferenced(hash) > 0);
+            if (Boolean.TRUE.equals(deleted)) {
+                try {
+                    Files.deleteIfExists(toPath(url));
+                } catch (IOException e) {
+                    logger.warn("Could not delete unreferenced image {}", url, e);
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isStored(String url) {
+        return hashOf(url) != null;
+    }
+
+    /**
+     * Content hash encoded in a blob URL.
+     * @return the hash, or null if the URL is not a blob URL
+     */
+    public static String hashOf(String url) {
+        if (url == null) {
+            return null;
+        }
+        Matcher matcher = BLOB_URL.matcher(url);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    private Path toPath(String url) {
+        return root.resolve(url.substring(URL_PREFIX.length()));
+    }
+
+    private String extensionOf(MultipartFile file) {
+        String contentType = file.getContentType();
+        if (contentType != null && EXTENSIONS.containsKey(contentType.toLowerCase(Locale.ROOT))) {
+            return EXTENSIONS.get(contentType.toLowerCase(Locale.ROOT));
+        }
+        String originalFilename = file.getOriginalFilename();
+        if (originalFilename != null && originalFilename.matches(".*\\.[A-Za-z0-9]{1,5}")) {
+            return originalFilename.substring(originalFilename.lastIndexOf('.')).toLowerCase(Locale.ROOT);
+        }
+        return ".jpg";
+    }
+
+    private Object lockFor(String hash) {
+        return locks[Integer.parseInt(hash.substring(0, 2), 16) % locks.length];
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.team4.wildlifetracker.storage;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+/**
+ * Storage for uploaded images.
+ * Callers validate uploads before storing them, acquire the returned URL for every sighting or profile
+ * that starts referring to it, and release it once for each of them when they stop.
+ */
+public interface ImageStorage {
+
+    /**
+     * Store an uploaded image.
+     * @param file The upload, already validated by the caller
+     * @return Public URL of the stored image
+     */
+    String store(MultipartFile file) throws IOException;
+
+    /**
+     * Take a reference to a stored image for a new referrer.
+     * The first referrer of an upload takes over the reference store() took for it; later ones,
+     * such as sightings reusing the URL or re-imported from an export, add their own.
+     * Joins the caller's transaction, so a rolled-back referrer gives the reference back.
+     * URLs not managed by this storage are ignored.
+     * @param url URL returned by store()
+     * @return true if a reference was taken
+     */
+    boolean acquire(String url);
+
+    /**
+     * Drop one reference to a stored image, deleting it when no references remain.
+     * URLs not managed by this storage are ignored.
+     * @param url URL returned by store()
+     * @return true if the image was deleted
+     */
+    boolean release(String url);
+
+    /**
+     * Whether a URL points at an image managed by this storage.
+     */
+    boolean isStored(String url);
+}
@@ -0,0 +1,158 @@
+package com.team4.wildlifetracker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team4.wildlifetracker.model.Sighting;
+import com.team4.wildlifetracker.model.User;
+import com.team4.wildlifetracker.repository.NotificationRepository;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import com.team4.wildlifetracker.repository.SpeciesDailyActivityRepository;
+import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.repository.UserSpeciesCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ActivityApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SightingRepository sightingRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserSpeciesCountRepository speciesCountRepository;
+
+    @Autowired
+    private SpeciesDailyActivityRepository activityRepository;
+
+    private User ranger;
+
+    @BeforeEach
+    public void setup() {
+        notificationRepository.deleteAll();
+        sightingRepository.deleteAll();
+        speciesCountRepository.deleteAll();
+        activityRepository.deleteAll();
+        userRepository.deleteAll();
+
+        ranger = userRepository.save(new User("ranger", "password"));
+    }
+
+    private Sighting saveSighting(String species, String location, LocalDateTime timestamp) {
+        Sighting sighting = new Sighting(species, location, null, null, ranger);
+        sighting.setTimestamp(timestamp);
+        return sightingRepository.save(sighting);
+    }
+
+    private JsonNode getJson(String url) throws Exception {
+        String body = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private String sightingJson(String species, String location) {
+        return "{\"species\":\"" + species + "\",\"location\":\"" + location + "\",\"userId\":" + ranger.getId() + "}";
+    }
+
+    @Test
+    public void testBackfillAndDailyActivity() throws Exception {
+        saveSighting("Gray Wolf", "Ridge", LocalDateTime.of(2024, 6, 3, 8, 0));
+        saveSighting("Gray Wolf", "Ridge", LocalDateTime.of(2024, 6, 3, 20, 0));
+        saveSighting("Gray Wolf", "Lake", LocalDateTime.of(2024, 6, 4, 8, 0));
+        saveSighting("Moose", "Bog", LocalDateTime.of(2024, 6, 4, 9, 0));
+
+        mockMvc.perform(post("/api/activity/backfill"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").value(3));
+
+        JsonNode days = getJson("/api/activity/daily?from=2024-06-01&to=2024-06-30");
+        assertEquals(3, days.size());
+        assertEquals("Gray Wolf", days.get(0).get("species").asText());
+        assertEquals("2024-06-03", days.get(0).get("date").asText());
+        assertEquals(2, days.get(0).get("count").asLong());
+
+        JsonNode wolfDays = getJson("/api/activity/daily?species=Gray Wolf&from=2024-06-04&to=2024-06-04");
+        assertEquals(1, wolfDays.size());
+        assertEquals(1, wolfDays.get(0).get("count").asLong());
+    }
+
+    @Test
+    public void testWeeklyAndLocationActivity() throws Exception {
+        // 2024-06-03 is a Monday
+        saveSighting("Gray Wolf", "Ridge", LocalDateTime.of(2024, 6, 3, 8, 0));
+        saveSighting("Gray Wolf", "Lake", LocalDateTime.of(2024, 6, 9, 8, 0));
+        saveSighting("Gray Wolf", "Ridge", LocalDateTime.of(2024, 6, 10, 8, 0));
+        mockMvc.perform(post("/api/activity/backfill")).andExpect(status().isOk());
+
+        JsonNode weeks = getJson("/api/activity/weekly?from=2024-06-05&to=2024-06-16");
+        assertEquals(2, weeks.size());
+        assertEquals("2024-06-03", weeks.get(0).get("date").asText());
+        assertEquals(2, weeks.get(0).get("count").asLong());
+        assertEquals("2024-06-10", weeks.get(1).get("date").asText());
+        assertEquals(1, weeks.get(1).get("count").asLong());
+
+        JsonNode locations = getJson("/api/activity/locations?from=2024-06-01&to=2024-06-30");
+        assertEquals(2, locations.size());
+        assertEquals("Ridge", locations.get(0).get("location").asText());
+        assertEquals(2, locations.get(0).get("count").asLong());
+    }
+
+    @Test
+    public void testRollupsFollowSightingWrites() throws Exception {
+        String today = LocalDate.now().toString();
+        String created = mockMvc.perform(post("/api/sightings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(sightingJson("Gray Wolf", "Ridge")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(created).get("id").asLong();
+
+        JsonNode days = getJson("/api/activity/daily?species=Gray Wolf&from=" + today + "&to=" + today);
+        assertEquals(1, days.get(0).get("count").asLong());
+
+        mockMvc.perform(put("/api/sightings/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(sightingJson("Red Wolf", "Lake")))
+                .andExpect(status().isOk());
+
+        assertEquals(0, getJson("/api/activity/daily?species=Gray Wolf&from=" + today + "&to=" + today).size());
+        JsonNode locations = getJson("/api/activity/locations?species=Red Wolf&from=" + today + "&to=" + today);
+        assertEquals(1, locations.size());
+        assertEquals("Lake", locations.get(0).get("location").asText());
+
+        mockMvc.perform(delete("/api/sightings/" + id)).andExpect(status().isOk());
+
+        assertEquals(0, activityRepository.count());
+    }
+
+    @Test
+    public void testRejectsReversedRange() throws Exception {
+        mockMvc.perform(get("/api/activity/daily").param("from", "2024-06-10").param("to", "2024-06-01"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,106 @@
+package com.team4.wildlifetracker;
+
+import com.team4.wildlifetracker.model.User;
+import com.team4.wildlifetracker.repository.NotificationRepository;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.repository.UserSpeciesCountRepository;
+import com.team4.wildlifetracker.service.NotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class LiveUpdateTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SightingRepository sightingRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserSpeciesCountRepository speciesCountRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    private User ranger;
+    private User visitor;
+
+    @BeforeEach
+    public void setup() {
+        notificationRepository.deleteAll();
+        sightingRepository.deleteAll();
+        speciesCountRepository.deleteAll();
+        userRepository.deleteAll();
+
+        ranger = userRepository.save(new User("ranger", "password"));
+        visitor = userRepository.save(new User("visitor", "password"));
+    }
+
+    private MockHttpServletResponse subscribe(User user) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/live").param("userId", user.getId().toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return result.getResponse();
+    }
+
+    // Events are written by a sender thread, so wait for them to arrive
+    private String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        return content;
+    }
+
+    @Test
+    public void testSightingChangesArePushed() throws Exception {
+        MockHttpServletResponse stream = subscribe(ranger);
+        assertEquals(MediaType.TEXT_EVENT_STREAM_VALUE, stream.getContentType());
+
+        mockMvc.perform(post("/api/sightings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"species\":\"Gray Wolf\",\"location\":\"Ridge\",\"userId\":" + visitor.getId() + "}"))
+                .andExpect(status().isOk());
+
+        String content = awaitContent(stream, "event:sighting.created");
+        assertTrue(content.contains("event:sighting.created"));
+        assertTrue(content.contains("\"species\":\"Gray Wolf\""));
+    }
+
+    @Test
+    public void testNotificationsGoOnlyToTheirUser() throws Exception {
+        MockHttpServletResponse rangerStream = subscribe(ranger);
+        MockHttpServletResponse visitorStream = subscribe(visitor);
+
+        notificationService.createNotification(visitor, "A wolf was spotted near you");
+        notificationService.createNotification(ranger, "Thanks for your report");
+
+        String content = awaitContent(rangerStream, "Thanks for your report");
+        assertTrue(content.contains("event:notification"));
+        assertTrue(content.contains("Thanks for your report"));
+        assertFalse(content.contains("A wolf was spotted near you"));
+        assertTrue(awaitContent(visitorStream, "A wolf was spotted near you").contains("A wolf was spotted near you"));
+    }
+}
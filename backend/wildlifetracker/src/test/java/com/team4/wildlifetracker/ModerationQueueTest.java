@@ -0,0 +1,328 @@
+package com.team4.wildlifetracker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team4.wildlifetracker.model.Report;
+import com.team4.wildlifetracker.model.Sighting;
+import com.team4.wildlifetracker.model.User;
+import com.team4.wildlifetracker.repository.NotificationRepository;
+import com.team4.wildlifetracker.repository.ReportRepository;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.repository.UserSpeciesCountRepository;
+import com.team4.wildlifetracker.service.ReportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ModerationQueueTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SightingRepository sightingRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserSpeciesCountRepository speciesCountRepository;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final String VIEWPORT = "/api/sightings/viewport?minX=0&minY=0&maxX=100&maxY=100";
+
+    private User ranger;
+    private final List<User> reporters = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        cleanup();
+
+        ranger = userRepository.save(new User("ranger", "password"));
+        reporters.clear();
+        for (int i = 0; i < 5; i++) {
+            reporters.add(userRepository.save(new User("reporter" + i, "password")));
+        }
+    }
+
+    // Reports reference sightings, so clear them before other tests delete sightings
+    @AfterEach
+    public void cleanup() {
+        reportRepository.deleteAll();
+        notificationRepository.deleteAll();
+        sightingRepository.deleteAll();
+        speciesCountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private Sighting saveSighting(String species) {
+        Sighting sighting = new Sighting(species, "Ridge", null, null, ranger);
+        sighting.setPixelX(50);
+        sighting.setPixelY(50);
+        return sightingRepository.save(sighting);
+    }
+
+    // File one report from each of reporters [from, to)
+    private void report(Sighting sighting, int from, int to) throws Exception {
+        for (int i = from; i < to; i++) {
+            mockMvc.perform(post("/api/reports")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"sightingId\":" + sighting.getId() + ",\"userId\":" + reporters.get(i).getId()
+                                    + ",\"reason\":\"Misidentified\"}"))
+                    .andExpect(status().isCreated());
+        }
+    }
+
+    private JsonNode getJson(String url) throws Exception {
+        String body = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    // Run a sighting command through POST /api/command, whatever its status
+    private JsonNode command(String action, String parameters) throws Exception {
+        String body = mockMvc.perform(post("/api/command")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"commandType\":\"sighting\",\"action\":\"" + action
+                                + "\",\"parameters\":" + parameters + "}"))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    // Clusters are served from memory, so they only change when a SightingEvent reaches the index
+    private long clusteredSightings() throws Exception {
+        long count = 0;
+        for (JsonNode cluster : getJson("/api/map/clusters")) {
+            count += cluster.get("count").asLong();
+        }
+        return count;
+    }
+
+    @Test
+    public void testQueueIsOrderedByReportsThenRecency() throws Exception {
+        Sighting wolf = saveSighting("Gray Wolf");
+        Sighting moose = saveSighting("Moose");
+        Sighting elk = saveSighting("Elk");
+        saveSighting("Lynx");
+        report(wolf, 0, 3);
+        report(moose, 0, 1);
+        report(elk, 0, 3);
+
+        JsonNode first = getJson("/api/reports/queue?limit=2");
+        assertEquals(2, first.get("items").size());
+        assertEquals(elk.getId(), first.get("items").get(0).get("sightingId").asLong());
+        assertEquals(3, first.get("items").get(0).get("reportCount").asInt());
+        assertEquals(wolf.getId(), first.get("items").get(1).get("sightingId").asLong());
+        assertTrue(first.get("hasMore").asBoolean());
+
+        JsonNode second = getJson("/api/reports/queue?limit=2&cursor=" + first.get("nextCursor").asText());
+        assertEquals(1, second.get("items").size());
+        assertEquals(moose.getId(), second.get("items").get(0).get("sightingId").asLong());
+        assertFalse(second.get("hasMore").asBoolean());
+
+        JsonNode mostReported = getJson("/api/reports/most-reported?limit=1");
+        assertEquals(1, mostReported.size());
+        assertEquals(elk.getId(), mostReported.get(0).get("sightingId").asLong());
+    }
+
+    @Test
+    public void testCountersFollowReportDeletes() throws Exception {
+        Sighting wolf = saveSighting("Gray Wolf");
+        report(wolf, 0, 2);
+        List<Report> reports = reportRepository.findBySightingId(wolf.getId());
+
+        mockMvc.perform(delete("/api/reports/" + reports.get(0).getId())).andExpect(status().isNoContent());
+        assertEquals(1, sightingRepository.findById(wolf.getId()).get().getReportCount());
+
+        mockMvc.perform(delete("/api/reports/sighting/" + wolf.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(1));
+        Sighting cleared = sightingRepository.findById(wolf.getId()).get();
+        assertEquals(0, cleared.getReportCount());
+        assertNull(cleared.getLastReportedAt());
+        assertEquals(0, getJson("/api/reports/queue").get("items").size());
+    }
+
+    @Test
+    public void testPurgeReportsByUserRecountsSightings() throws Exception {
+        Sighting wolf = saveSighting("Gray Wolf");
+        Sighting moose = saveSighting("Moose");
+        report(wolf, 0, 3);
+        report(moose, 0, 1);
+
+        mockMvc.perform(delete("/api/reports/user/" + reporters.get(0).getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(2));
+
+        assertEquals(2, sightingRepository.findById(wolf.getId()).get().getReportCount());
+        Sighting cleared = sightingRepository.findById(moose.getId()).get();
+        assertEquals(0, cleared.getReportCount());
+        assertNull(cleared.getLastReportedAt());
+        assertEquals(2, reportRepository.count());
+    }
+
+    @Test
+    public void testResolveManyReports() throws Exception {
+        Sighting wolf = saveSighting("Gray Wolf");
+        Sighting moose = saveSighting("Moose");
+        report(wolf, 0, 2);
+        report(moose, 0, 2);
+        List<Long> ids = new ArrayList<>();
+        ids.add(reportRepository.findBySightingId(wolf.getId()).get(0).getId());
+        ids.addAll(reportRepository.findBySightingId(moose.getId()).stream().map(Report::getId).toList());
+        ids.add(999999L);
+
+        mockMvc.perform(post("/api/reports/resolve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(3));
+
+        assertEquals(1, sightingRepository.findById(wolf.getId()).get().getReportCount());
+        assertEquals(0, sightingRepository.findById(moose.getId()).get().getReportCount());
+        JsonNode queue = getJson("/api/reports/queue");
+        assertEquals(1, queue.get("items").size());
+
+        mockMvc.perform(post("/api/reports/resolve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testDeletingSightingDeletesItsReports() throws Exception {
+        Sighting wolf = saveSighting("Gray Wolf");
+        Sighting moose = saveSighting("Moose");
+        report(wolf, 0, 3);
+        report(moose, 0, 1);
+
+        mockMvc.perform(delete("/api/sightings/" + wolf.getId())).andExpect(status().isOk());
+
+        assertTrue(sightingRepository.findById(wolf.getId()).isEmpty());
+        assertEquals(1, reportRepository.count());
+    }
+
+    @Test
+    public void testSightingIsHiddenAtThresholdAndRestored() throws Exception {
+        Sighting wolf = saveSighting("Gray Wolf");
+        Sighting moose = saveSighting("Moose");
+        report(wolf, 0, 4);
+        assertEquals(2, getJson("/api/sightings").size());
+        assertEquals(2, clusteredSightings());
+
+        report(wolf, 4, 5);
+        assertTrue(sightingRepository.findById(wolf.getId()).get().isHidden());
+
+        JsonNode visible = getJson("/api/sightings");
+        assertEquals(1, visible.size());
+        assertEquals(moose.getId(), visible.get(0).get("id").asLong());
+        assertEquals(1, getJson("/api/sightings?limit=10").get("items").size());
+        assertEquals(1, getJson("/api/sightings/query?limit=10").get("items").size());
+        mockMvc.perform(get("/api/sightings/" + wolf.getId())).andExpect(status().isNotFound());
+        assertEquals(1, getJson("/api/sightings/user/" + ranger.getId()).size());
+        assertEquals(0, getJson("/api/search?query=Wolf").size());
+        assertEquals(1, getJson(VIEWPORT).size());
+        assertEquals(1, clusteredSightings());
+        assertFalse(command("get", "{\"id\":" + wolf.getId() + "}").get("success").asBoolean());
+        JsonNode all = command("getall", "{}").get("data");
+        assertEquals(1, all.size());
+        assertEquals(moose.getId(), all.get(0).get("id").asLong());
+
+        JsonNode hidden = getJson("/api/reports/queue?hiddenOnly=true");
+        assertEquals(1, hidden.get("items").size());
+        assertTrue(hidden.get("items").get(0).get("hidden").asBoolean());
+
+        mockMvc.perform(post("/api/reports/queue/" + wolf.getId() + "/restore")).andExpect(status().isNoContent());
+        assertEquals(2, getJson("/api/sightings").size());
+        assertEquals(0, getJson("/api/reports/queue?hiddenOnly=true").get("items").size());
+        mockMvc.perform(get("/api/sightings/" + wolf.getId())).andExpect(status().isOk());
+        assertEquals(1, getJson("/api/search?query=Wolf").size());
+        assertEquals(2, getJson(VIEWPORT).size());
+        assertEquals(2, clusteredSightings());
+    }
+
+    @Test
+    public void testBackfillCountsExistingReports() throws Exception {
+        Sighting wolf = saveSighting("Gray Wolf");
+        report(wolf, 0, 2);
+        // Reports filed before the counters existed
+        jdbcTemplate.update("UPDATE sightings SET report_count = 0, last_reported_at = NULL");
+
+        reportService.backfillReportCounts();
+
+        Sighting counted = sightingRepository.findById(wolf.getId()).get();
+        assertEquals(2, counted.getReportCount());
+        assertNotNull(counted.getLastReportedAt());
+    }
+
+    @Test
+    public void testUserCanReportSightingOnce() throws Exception {
+        Sighting wolf = saveSighting("Gray Wolf");
+        Sighting moose = saveSighting("Moose");
+        String checkWolf = "/api/reports/check?sightingId=" + wolf.getId() + "&userId=" + reporters.get(0).getId();
+        mockMvc.perform(get(checkWolf)).andExpect(content().string("false"));
+
+        report(wolf, 0, 1);
+
+        mockMvc.perform(get(checkWolf)).andExpect(content().string("true"));
+        mockMvc.perform(get("/api/reports/check?sightingId=" + moose.getId() + "&userId=" + reporters.get(0).getId()))
+                .andExpect(content().string("false"));
+        mockMvc.perform(post("/api/reports")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sightingId\":" + wolf.getId() + ",\"userId\":" + reporters.get(0).getId()
+                                + ",\"reason\":\"Again\"}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/reports")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"sightingId\":999999,\"userId\":" + reporters.get(0).getId()
+                                + ",\"reason\":\"Misidentified\"}"))
+                .andExpect(status().isBadRequest());
+        assertEquals(1, sightingRepository.findById(wolf.getId()).get().getReportCount());
+
+        // The unique constraint holds even when the service's check is bypassed
+        assertThrows(DataIntegrityViolationException.class,
+                () -> reportRepository.save(new Report(wolf, reporters.get(0), "Direct")));
+    }
+
+    @Test
+    public void testRejectsInvalidQueueRequests() throws Exception {
+        mockMvc.perform(get("/api/reports/queue").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/reports/queue").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/reports/queue/999999/hide"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,121 @@
+package com.team4.wildlifetracker;
+
+import com.team4.wildlifetracker.model.User;
+import com.team4.wildlifetracker.repository.NotificationRepository;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.repository.UserSpeciesCountRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ProfileViewTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SightingRepository sightingRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserSpeciesCountRepository speciesCountRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User ranger;
+    private User visitor;
+
+    @BeforeEach
+    public void setup() {
+        notificationRepository.deleteAll();
+        sightingRepository.deleteAll();
+        speciesCountRepository.deleteAll();
+        userRepository.deleteAll();
+
+        ranger = userRepository.save(new User("ranger", "password"));
+        visitor = userRepository.save(new User("visitor", "password"));
+    }
+
+    private void postSighting(User user, String species) throws Exception {
+        mockMvc.perform(post("/api/sightings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"species\":\"" + species + "\",\"location\":\"Ridge\",\"userId\":" + user.getId() + "}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testViewCombinesUserStatsRankAndRecentSightings() throws Exception {
+        postSighting(ranger, "Moose");
+        postSighting(ranger, "Gray Wolf");
+        postSighting(ranger, "Gray Wolf");
+        postSighting(visitor, "Elk");
+
+        mockMvc.perform(get("/api/profile/" + ranger.getId() + "/view"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.username", is("ranger")))
+                .andExpect(jsonPath("$.user.totalAnimalsLogged", is(3)))
+                .andExpect(jsonPath("$.rank", is(1)))
+                .andExpect(jsonPath("$.favoriteSpecies", is("Gray Wolf")))
+                .andExpect(jsonPath("$.favoriteSpeciesCount", is(2)))
+                .andExpect(jsonPath("$.speciesCounts.Moose", is(1)))
+                .andExpect(jsonPath("$.recentSightings", hasSize(3)))
+                .andExpect(jsonPath("$.recentSightings[0].species", is("Gray Wolf")))
+                .andExpect(jsonPath("$.recentSightings[2].species", is("Moose")));
+
+        mockMvc.perform(get("/api/profile/" + visitor.getId() + "/view"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rank", is(2)))
+                .andExpect(jsonPath("$.recentSightings", hasSize(1)));
+
+        mockMvc.perform(get("/api/profile/999999/view")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testCachedViewNeedsNoQueriesUntilInvalidated() throws Exception {
+        postSighting(ranger, "Moose");
+        mockMvc.perform(get("/api/profile/" + ranger.getId() + "/view")).andExpect(status().isOk());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/profile/" + ranger.getId() + "/view"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.totalAnimalsLogged", is(1)));
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        // A new sighting and a profile edit each drop the cached view
+        postSighting(ranger, "Elk");
+        mockMvc.perform(get("/api/profile/" + ranger.getId() + "/view"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.totalAnimalsLogged", is(2)))
+                .andExpect(jsonPath("$.recentSightings[0].species", is("Elk")));
+
+        mockMvc.perform(put("/api/profile/" + ranger.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"bio\":\"Counting elk\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/profile/" + ranger.getId() + "/view"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.bio", is("Counting elk")));
+    }
+}
@@ -1,11 +1,13 @@
 package com.team4.wildlifetracker;
 
+import com.jayway.jsonpath.JsonPath;
 import com.team4.wildlifetracker.model.Notification;
 import com.team4.wildlifetracker.model.Sighting;
 import com.team4.wildlifetracker.model.User;
 import com.team4.wildlifetracker.repository.NotificationRepository;
 import com.team4.wildlifetracker.repository.SightingRepository;
 import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.repository.UserSpeciesCountRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +15,8 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.hamcrest.Matchers.*;
@@ -33,12 +37,16 @@ public class SearchAndNotificationTest {
     @Autowired
     private NotificationRepository notificationRepository;
 
+    @Autowired
+    private UserSpeciesCountRepository speciesCountRepository;
+
     private User testUser;
 
     @BeforeEach
     public void setup() {
         notificationRepository.deleteAll();
         sightingRepository.deleteAll();
+        speciesCountRepository.deleteAll();
         userRepository.deleteAll();
 
         testUser = new User("testuser", "password");
@@ -65,6 +73,36 @@ public class SearchAndNotificationTest {
                 .andExpect(jsonPath("$[0].species", is("Bald Eagle")));
     }
 
+    @Test
+    public void testSearchSightings_RankedAndPaged() throws Exception {
+        sightingRepository.save(new Sighting("Bald Eagle", "Lakeshore", "Chasing a wolf", "url", testUser));
+        sightingRepository.save(new Sighting("Gray Wolf", "Yellowstone", "Howling", "url", testUser));
+        sightingRepository.save(new Sighting("Moose", "Wolf Creek", "Grazing", "url", testUser));
+
+        // Species matches rank above location, location above description
+        mockMvc.perform(get("/api/search").param("query", "wolf"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[0].species", is("Gray Wolf")))
+                .andExpect(jsonPath("$[1].species", is("Moose")))
+                .andExpect(jsonPath("$[2].species", is("Bald Eagle")));
+
+        mockMvc.perform(get("/api/search").param("query", "wolf").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.hasMore", is(true)))
+                .andExpect(jsonPath("$.nextCursor", is("2")));
+
+        mockMvc.perform(get("/api/search").param("query", "wolf").param("limit", "2").param("cursor", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].species", is("Bald Eagle")))
+                .andExpect(jsonPath("$.hasMore", is(false)));
+
+        mockMvc.perform(get("/api/search").param("query", "wolf").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void testNotifications() throws Exception {
         Notification n1 = new Notification("Welcome!", testUser);
@@ -86,4 +124,47 @@ public class SearchAndNotificationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].read", is(true)));
     }
+
+    @Test
+    public void testNotificationInbox() throws Exception {
+        String userId = testUser.getId().toString();
+        for (int day = 1; day <= 3; day++) {
+            Notification notification = new Notification("Notice " + day, testUser);
+            notification.setTimestamp(LocalDateTime.of(2024, 6, day, 9, 0));
+            notificationRepository.save(notification);
+        }
+
+        mockMvc.perform(get("/api/notifications/unread-count").param("userId", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unread", is(3)));
+
+        // Newest first, two per page
+        String body = mockMvc.perform(get("/api/notifications").param("userId", userId).param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].message", is("Notice 3")))
+                .andExpect(jsonPath("$.hasMore", is(true)))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = JsonPath.read(body, "$.nextCursor");
+
+        mockMvc.perform(get("/api/notifications").param("userId", userId).param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].message", is("Notice 1")))
+                .andExpect(jsonPath("$.hasMore", is(false)));
+
+        mockMvc.perform(post("/api/notifications/read-all").param("userId", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated", is(3)));
+
+        mockMvc.perform(get("/api/notifications/unread-count").param("userId", userId))
+                .andExpect(jsonPath("$.unread", is(0)));
+        mockMvc.perform(get("/api/notifications").param("userId", userId).param("limit", "10")
+                        .param("unreadOnly", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(0)));
+
+        mockMvc.perform(get("/api/notifications").param("userId", userId).param("limit", "2").param("cursor", "bad"))
+                .andExpect(status().isBadRequest());
+    }
 }
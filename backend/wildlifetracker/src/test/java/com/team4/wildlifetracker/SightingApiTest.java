@@ -0,0 +1,333 @@
+package com.team4.wildlifetracker;
+
+import com.jayway.jsonpath.JsonPath;
+import com.team4.wildlifetracker.model.Sighting;
+import com.team4.wildlifetracker.model.User;
+import com.team4.wildlifetracker.model.UserSpeciesCount;
+import com.team4.wildlifetracker.repository.NotificationRepository;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.repository.UserSpeciesCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class SightingApiTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SightingRepository sightingRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserSpeciesCountRepository speciesCountRepository;
+
+    private User testUser;
+
+    @BeforeEach
+    public void setup() {
+        notificationRepository.deleteAll();
+        sightingRepository.deleteAll();
+        speciesCountRepository.deleteAll();
+        userRepository.deleteAll();
+
+        testUser = userRepository.save(new User("apiuser", "password"));
+        for (int i = 1; i <= 5; i++) {
+            sightingRepository.save(new Sighting("Species " + i, "Location " + i, "Description", "url", testUser));
+        }
+    }
+
+    @Test
+    public void testSharedImageSurvivesDeletingOneSighting() throws Exception {
+        MockMultipartFile image = new MockMultipartFile("file", "shared.png", "image/png",
+                ("image-" + UUID.randomUUID()).getBytes());
+        String imageUrl = JsonPath.read(mockMvc.perform(multipart("/api/sightings/upload-image").file(image))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(), "$.imageUrl");
+        Path file = Paths.get(imageUrl.substring(1));
+
+        // Both sightings of the batch reuse the one upload
+        String sighting = "{\"species\":\"Gray Wolf\",\"userId\":" + testUser.getId()
+                + ",\"imageUrl\":\"" + imageUrl + "\"}";
+        mockMvc.perform(post("/api/sightings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + sighting + "," + sighting + "]"))
+                .andExpect(status().isOk());
+        List<Long> ids = sightingRepository.findAll().stream()
+                .filter(s -> imageUrl.equals(s.getImageUrl()))
+                .map(Sighting::getId)
+                .toList();
+        assertEquals(2, ids.size());
+
+        mockMvc.perform(delete("/api/sightings/" + ids.get(0))).andExpect(status().isOk());
+        assertTrue(Files.exists(file));
+
+        mockMvc.perform(delete("/api/sightings/" + ids.get(1))).andExpect(status().isOk());
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void testGetSightingsPage() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/sightings").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].species", is("Species 1")))
+                .andExpect(jsonPath("$.items[0].username", is("apiuser")))
+                .andExpect(jsonPath("$.hasMore", is(true)))
+                .andReturn();
+
+        String cursor = JsonPath.read(first.getResponse().getContentAsString(), "$.nextCursor");
+
+        mockMvc.perform(get("/api/sightings").param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].species", is("Species 3")));
+
+        mockMvc.perform(get("/api/sightings").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(5)))
+                .andExpect(jsonPath("$.hasMore", is(false)))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @Test
+    public void testGetSightingsPage_InvalidParameters() throws Exception {
+        mockMvc.perform(get("/api/sightings").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/sightings").param("limit", "10").param("cursor", "abc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testGetAllSightings_WithoutLimit() throws Exception {
+        mockMvc.perform(get("/api/sightings"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(5)));
+    }
+
+    @Test
+    public void testStreamSightings() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/sightings/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"));
+
+        String[] lines = result.getResponse().getContentAsString().trim().split("\n");
+        assertEquals(5, lines.length);
+        assertTrue(lines[0].contains("\"species\":\"Species 1\""));
+        assertTrue(lines[4].contains("\"species\":\"Species 5\""));
+    }
+
+    @Test
+    public void testGetSightingsInViewport() throws Exception {
+        Sighting inside = new Sighting("Gray Wolf", "North Field", "Description", "url", testUser);
+        inside.setPixelX(20);
+        inside.setPixelY(30);
+        sightingRepository.save(inside);
+        Sighting outside = new Sighting("Bald Eagle", "Lake", "Description", "url", testUser);
+        outside.setPixelX(80);
+        outside.setPixelY(90);
+        sightingRepository.save(outside);
+
+        mockMvc.perform(get("/api/sightings/viewport")
+                        .param("minX", "0").param("minY", "0").param("maxX", "50").param("maxY", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].species", is("Gray Wolf")))
+                .andExpect(jsonPath("$[0].username", is("apiuser")));
+
+        outside.setPixelX(10);
+        outside.setPixelY(10);
+        sightingRepository.save(outside);
+
+        mockMvc.perform(get("/api/sightings/viewport")
+                        .param("minX", "0").param("minY", "0").param("maxX", "50").param("maxY", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+
+        mockMvc.perform(get("/api/sightings/viewport")
+                        .param("minX", "50").param("minY", "0").param("maxX", "10").param("maxY", "50"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testGetSightingImage() throws Exception {
+        Sighting sighting = new Sighting("Gray Wolf", "Ridge", "Description", "/uploads/sighting-images/a.png", testUser);
+        sighting.setThumbnailUrl("/uploads/sighting-images/thumb/a.jpg");
+        sighting = sightingRepository.save(sighting);
+
+        mockMvc.perform(get("/api/sightings/" + sighting.getId() + "/image").param("size", "thumbnail"))
+                .andExpect(status().isFound())
+                .andExpect(header().string("Location", "/uploads/sighting-images/thumb/a.jpg"));
+
+        // No web variant yet, so the original is served
+        mockMvc.perform(get("/api/sightings/" + sighting.getId() + "/image").param("size", "web"))
+                .andExpect(status().isFound())
+                .andExpect(header().string("Location", "/uploads/sighting-images/a.png"));
+
+        mockMvc.perform(get("/api/sightings/" + sighting.getId() + "/image").param("size", "huge"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testUpdateSighting_MovesSpeciesStatistics() throws Exception {
+        MvcResult created = mockMvc.perform(post("/api/sightings").contentType("application/json")
+                        .content("{\"species\":\"Gray Wolf\",\"location\":\"Ridge\",\"userId\":" + testUser.getId() + "}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        Number id = JsonPath.read(created.getResponse().getContentAsString(), "$.id");
+
+        mockMvc.perform(put("/api/sightings/" + id).contentType("application/json")
+                        .content("{\"species\":\"Red Wolf\",\"location\":\"Ridge\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.species", is("Red Wolf")));
+
+        // The counters move from the previous species to the new one
+        List<UserSpeciesCount> counts = speciesCountRepository.findByUserId(testUser.getId());
+        assertEquals(1, counts.size());
+        assertEquals("Red Wolf", counts.get(0).getSpecies());
+        assertEquals(1L, counts.get(0).getSightingCount());
+        User user = userRepository.findById(testUser.getId()).orElseThrow();
+        assertEquals(1, user.getTotalAnimalsLogged());
+        assertEquals(1, user.getUniqueSpeciesCount());
+    }
+
+    @Test
+    public void testCreateSightingsBatch_JsonArray() throws Exception {
+        String body = "[" +
+                "{\"species\":\"Gray Wolf\",\"location\":\"Ridge\",\"pixelX\":20,\"pixelY\":30,\"userId\":" + testUser.getId() + "}," +
+                "{\"species\":\"Gray Wolf\",\"location\":\"Creek\",\"userId\":" + testUser.getId() + "}," +
+                "{\"species\":\"Bald Eagle\",\"location\":\"Lake\",\"userId\":" + testUser.getId() + "}" +
+                "]";
+
+        mockMvc.perform(post("/api/sightings/batch").contentType("application/json").content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(3)))
+                .andExpect(jsonPath("$.ids", hasSize(3)));
+
+        assertEquals(8, sightingRepository.count());
+        User user = userRepository.findById(testUser.getId()).orElseThrow();
+        assertEquals(3, user.getTotalAnimalsLogged());
+        assertEquals(2, user.getUniqueSpeciesCount());
+
+        // Batch-inserted rows reach the in-memory indexes too
+        mockMvc.perform(get("/api/sightings/viewport")
+                        .param("minX", "0").param("minY", "0").param("maxX", "50").param("maxY", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].location", hasItem("Ridge")));
+    }
+
+    @Test
+    public void testCreateSightingsBatch_Ndjson() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 1500; i++) {
+            body.append("{\"species\":\"Moose\",\"location\":\"Bog ").append(i)
+                    .append("\",\"userId\":").append(testUser.getId()).append("}\n");
+        }
+
+        mockMvc.perform(post("/api/sightings/batch").contentType("application/x-ndjson").content(body.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(1500)));
+
+        assertEquals(1505, sightingRepository.count());
+        assertEquals(1500, userRepository.findById(testUser.getId()).orElseThrow().getTotalAnimalsLogged());
+    }
+
+    @Test
+    public void testCreateSightingsBatch_MalformedLineReportsProgress() throws Exception {
+        String body = "{\"species\":\"Moose\",\"userId\":" + testUser.getId() + "}\n{not json}\n";
+
+        mockMvc.perform(post("/api/sightings/batch").contentType("application/x-ndjson").content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.created", is(0)));
+
+        assertEquals(5, sightingRepository.count());
+    }
+
+    @Test
+    public void testQuerySightings_FiltersAndKeysetPages() throws Exception {
+        User other = userRepository.save(new User("otheruser", "password"));
+        for (int day = 1; day <= 3; day++) {
+            Sighting wolf = new Sighting("Gray Wolf", "North Ridge", "Description", null, 10 * day, 50, testUser);
+            wolf.setTimestamp(LocalDateTime.of(2024, 5, day, 12, 0));
+            sightingRepository.save(wolf);
+        }
+        Sighting otherWolf = new Sighting("Gray Wolf", "South Ridge", "Description", null, 90, 90, other);
+        otherWolf.setTimestamp(LocalDateTime.of(2024, 5, 2, 12, 0));
+        sightingRepository.save(otherWolf);
+
+        // Newest first, paged by (timestamp, id)
+        MvcResult first = mockMvc.perform(get("/api/sightings/query")
+                        .param("species", "Gray Wolf").param("userId", testUser.getId().toString()).param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].timestamp", startsWith("2024-05-03")))
+                .andExpect(jsonPath("$.items[1].timestamp", startsWith("2024-05-02")))
+                .andExpect(jsonPath("$.hasMore", is(true)))
+                .andReturn();
+        String cursor = JsonPath.read(first.getResponse().getContentAsString(), "$.nextCursor");
+
+        mockMvc.perform(get("/api/sightings/query")
+                        .param("species", "Gray Wolf").param("userId", testUser.getId().toString())
+                        .param("limit", "2").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].timestamp", startsWith("2024-05-01")))
+                .andExpect(jsonPath("$.hasMore", is(false)));
+
+        // Time window, location substring and bounding box
+        mockMvc.perform(get("/api/sightings/query")
+                        .param("from", "2024-05-02T00:00:00").param("to", "2024-05-03T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)));
+
+        mockMvc.perform(get("/api/sightings/query").param("location", "south"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].username", is("otheruser")));
+
+        mockMvc.perform(get("/api/sightings/query")
+                        .param("minX", "15").param("maxX", "95").param("minY", "40").param("maxY", "60"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)));
+    }
+
+    @Test
+    public void testQuerySightings_InvalidParameters() throws Exception {
+        mockMvc.perform(get("/api/sightings/query").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/sightings/query").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,137 @@
+package com.team4.wildlifetracker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team4.wildlifetracker.model.Sighting;
+import com.team4.wildlifetracker.model.User;
+import com.team4.wildlifetracker.repository.NotificationRepository;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.repository.UserSpeciesCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class SightingExportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SightingRepository sightingRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserSpeciesCountRepository speciesCountRepository;
+
+    private User ranger;
+
+    @BeforeEach
+    public void setup() {
+        notificationRepository.deleteAll();
+        sightingRepository.deleteAll();
+        speciesCountRepository.deleteAll();
+        userRepository.deleteAll();
+
+        ranger = userRepository.save(new User("ranger", "password"));
+        User visitor = userRepository.save(new User("visitor", "password"));
+
+        Sighting wolf = new Sighting("Gray Wolf", "Ridge, north side", "Said \"hello\"", null, 20, 30, ranger);
+        wolf.setTimestamp(LocalDateTime.of(2024, 3, 1, 9, 0));
+        sightingRepository.save(wolf);
+        Sighting eagle = new Sighting("Bald Eagle", "Lake", null, null, ranger);
+        eagle.setTimestamp(LocalDateTime.of(2024, 6, 1, 9, 0));
+        sightingRepository.save(eagle);
+        Sighting moose = new Sighting("Moose", "Bog", null, null, visitor);
+        moose.setTimestamp(LocalDateTime.of(2024, 6, 2, 9, 0));
+        sightingRepository.save(moose);
+    }
+
+    private MvcResult export(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+        return result;
+    }
+
+    @Test
+    public void testExportCsv() throws Exception {
+        MvcResult result = export(get("/api/sightings/export").param("format", "csv"));
+
+        assertEquals("text/csv", result.getResponse().getContentType());
+        assertTrue(result.getResponse().getHeader("Content-Disposition").contains("sightings.csv"));
+        String[] lines = result.getResponse().getContentAsString().split("\r\n");
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].startsWith("id,species,location"));
+        assertTrue(lines[1].contains(",Gray Wolf,\"Ridge, north side\",\"Said \"\"hello\"\"\",,2024-03-01T09:00,20,30,"));
+        assertTrue(lines[1].endsWith(",ranger"));
+    }
+
+    @Test
+    public void testExportNdjson_Filtered() throws Exception {
+        MvcResult result = export(get("/api/sightings/export").param("format", "ndjson")
+                .param("userId", ranger.getId().toString())
+                .param("from", "2024-05-01T00:00:00"));
+
+        String[] lines = result.getResponse().getContentAsString().trim().split("\n");
+        assertEquals(1, lines.length);
+        assertEquals("Bald Eagle", objectMapper.readTree(lines[0]).get("species").asText());
+
+        result = export(get("/api/sightings/export").param("format", "ndjson").param("species", "Moose"));
+        assertEquals(1, result.getResponse().getContentAsString().trim().split("\n").length);
+    }
+
+    @Test
+    public void testExportGeoJson_Gzipped() throws Exception {
+        MvcResult result = export(get("/api/sightings/export").param("format", "geojson").param("gzip", "true"));
+
+        assertEquals("application/gzip", result.getResponse().getContentType());
+        byte[] body;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            body = in.readAllBytes();
+        }
+        JsonNode collection = objectMapper.readTree(new String(body, StandardCharsets.UTF_8));
+        assertEquals("FeatureCollection", collection.get("type").asText());
+        assertEquals(3, collection.get("features").size());
+        JsonNode wolf = collection.get("features").get(0);
+        assertEquals(20, wolf.get("geometry").get("coordinates").get(0).asInt());
+        assertEquals("Gray Wolf", wolf.get("properties").get("species").asText());
+        assertTrue(collection.get("features").get(1).get("geometry").isNull());
+    }
+
+    @Test
+    public void testExport_InvalidParameters() throws Exception {
+        mockMvc.perform(get("/api/sightings/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/sightings/export")
+                        .param("from", "2024-06-01T00:00:00").param("to", "2024-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/sightings/export").param("from", "yesterday"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,127 @@
+package com.team4.wildlifetracker;
+
+import com.team4.wildlifetracker.model.Sighting;
+import com.team4.wildlifetracker.model.User;
+import com.team4.wildlifetracker.repository.NotificationRepository;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.repository.UserSpeciesCountRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Guards against N+1 selects: listing sightings must cost a fixed number of
+ * SQL statements no matter how many sightings or distinct users there are.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class SightingQueryCountTest {
+
+    private static final int USERS = 10;
+    private static final int SIGHTINGS_PER_USER = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SightingRepository sightingRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserSpeciesCountRepository speciesCountRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User firstUser;
+
+    @BeforeEach
+    public void setup() {
+        notificationRepository.deleteAll();
+        sightingRepository.deleteAll();
+        speciesCountRepository.deleteAll();
+        userRepository.deleteAll();
+
+        for (int u = 0; u < USERS; u++) {
+            User user = userRepository.save(new User("counter" + u, "password"));
+            if (firstUser == null) {
+                firstUser = user;
+            }
+            for (int s = 0; s < SIGHTINGS_PER_USER; s++) {
+                sightingRepository.save(new Sighting("Gray Wolf", "Ridge " + s, "Howling", "url", user));
+            }
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testListSightings_SingleStatement() throws Exception {
+        mockMvc.perform(get("/api/sightings"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(USERS * SIGHTINGS_PER_USER)))
+                .andExpect(jsonPath("$[0].username", is("counter0")));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testSightingsByUser_SingleStatement() throws Exception {
+        mockMvc.perform(get("/api/sightings/user/" + firstUser.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(SIGHTINGS_PER_USER)));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testGetSighting_SingleStatement() throws Exception {
+        Long id = sightingRepository.findVisibleResponses().get(0).getId();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/sightings/" + id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username", is("counter0")));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testSearch_SingleStatementOnceIndexed() throws Exception {
+        // The first search may load the search index
+        mockMvc.perform(get("/api/search").param("query", "wolf")).andExpect(status().isOk());
+        statistics.clear();
+
+        mockMvc.perform(get("/api/search").param("query", "wolf"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(USERS * SIGHTINGS_PER_USER)));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testEntityFindAll_FetchesUsersInSameStatement() {
+        assertEquals(USERS * SIGHTINGS_PER_USER, sightingRepository.findAll().size());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,144 @@
+package com.team4.wildlifetracker;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class UploadServingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Path file;
+    private String url;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String name = UUID.randomUUID() + ".png";
+        file = Paths.get("uploads", "sighting-images", name);
+        Files.createDirectories(file.getParent());
+        Files.write(file, "0123456789".getBytes());
+        url = "/uploads/sighting-images/" + name;
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Files.deleteIfExists(file);
+    }
+
+    // ==================== FULL RESPONSE TESTS ====================
+
+    @Test
+    void testServe_FullFileWithValidators() throws Exception {
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes("0123456789".getBytes()))
+                .andExpect(content().contentType("image/png"))
+                .andExpect(header().string("Accept-Ranges", "bytes"))
+                .andExpect(header().string("Cache-Control", containsString("immutable")))
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"));
+    }
+
+    @Test
+    void testServe_NotModifiedWhenEtagMatches() throws Exception {
+        String etag = mockMvc.perform(get(url)).andReturn().getResponse().getHeader("ETag");
+
+        MvcResult result = mockMvc.perform(get(url).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andReturn();
+
+        assertEquals(0, result.getResponse().getContentAsByteArray().length);
+    }
+
+    @Test
+    void testServe_HeadSendsNoBody() throws Exception {
+        MvcResult result = mockMvc.perform(head(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Length", "10"))
+                .andReturn();
+
+        assertEquals(0, result.getResponse().getContentAsByteArray().length);
+    }
+
+    @Test
+    void testServe_BlobUsesContentHashAsEtag() throws Exception {
+        String hash = "ab" + "cd" + "0".repeat(60);
+        Path blob = Paths.get("uploads", "blobs", "ab", "cd", hash + ".png");
+        Files.createDirectories(blob.getParent());
+        Files.write(blob, "0123456789".getBytes());
+        String blobUrl = "/uploads/blobs/ab/cd/" + hash + ".png";
+        try {
+            mockMvc.perform(get(blobUrl))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"" + hash + "\""))
+                    .andExpect(header().string("Cache-Control", containsString("immutable")));
+
+            mockMvc.perform(get(blobUrl).header("If-None-Match", "\"" + hash + "\""))
+                    .andExpect(status().isNotModified());
+        } finally {
+            Files.deleteIfExists(blob);
+        }
+    }
+
+    @Test
+    void testServe_MissingFileOrTraversalNotFound() throws Exception {
+        mockMvc.perform(get("/uploads/sighting-images/missing.png"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/uploads/sighting-images/..%2F..%2Fpom.xml"))
+                .andExpect(status().is4xxClientError());
+        mockMvc.perform(get("/uploads/sighting-images"))
+                .andExpect(status().isNotFound());
+    }
+
+    // ==================== RANGE TESTS ====================
+
+    @Test
+    void testServe_SingleRange() throws Exception {
+        mockMvc.perform(get(url).header("Range", "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 2-5/10"))
+                .andExpect(header().string("Content-Length", "4"))
+                .andExpect(content().bytes("2345".getBytes()));
+    }
+
+    @Test
+    void testServe_SuffixRange() throws Exception {
+        mockMvc.perform(get(url).header("Range", "bytes=-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 7-9/10"))
+                .andExpect(content().bytes("789".getBytes()));
+    }
+
+    @Test
+    void testServe_UnsatisfiableRange() throws Exception {
+        mockMvc.perform(get(url).header("Range", "bytes=20-30"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string("Content-Range", "bytes */10"));
+    }
+
+    @Test
+    void testServe_StaleIfRangeSendsFullFile() throws Exception {
+        mockMvc.perform(get(url).header("Range", "bytes=2-5").header("If-Range", "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes("0123456789".getBytes()));
+    }
+}
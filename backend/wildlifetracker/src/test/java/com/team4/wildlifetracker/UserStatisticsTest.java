@@ -0,0 +1,168 @@
+package com.team4.wildlifetracker;
+
+import com.team4.wildlifetracker.dto.LeaderboardEntry;
+import com.team4.wildlifetracker.model.Profile;
+import com.team4.wildlifetracker.model.User;
+import com.team4.wildlifetracker.repository.NotificationRepository;
+import com.team4.wildlifetracker.repository.ProfileRepository;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.repository.UserSpeciesCountRepository;
+import com.team4.wildlifetracker.service.LeaderboardService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Sighting statistics are kept in one place and incremented in place, so concurrent
+ * writes can't lose updates and every reader sees the same numbers.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class UserStatisticsTest {
+
+    private static final int THREADS = 8;
+    private static final int SIGHTINGS_PER_THREAD = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SightingRepository sightingRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserSpeciesCountRepository speciesCountRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    private User ranger;
+
+    @BeforeEach
+    public void setup() {
+        cleanup();
+        ranger = userRepository.save(new User("ranger", "password"));
+        profileRepository.save(new Profile(ranger));
+    }
+
+    // Profiles reference users, so clear them before other tests delete users
+    @AfterEach
+    public void cleanup() {
+        profileRepository.deleteAll();
+        notificationRepository.deleteAll();
+        sightingRepository.deleteAll();
+        speciesCountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private void postSighting(String species) throws Exception {
+        mockMvc.perform(post("/api/sightings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"species\":\"" + species + "\",\"location\":\"Ridge\",\"userId\":" + ranger.getId() + "}"))
+                .andExpect(status().isOk());
+    }
+
+    // Run the same request from several threads at once and wait for all of them
+    private void concurrently(Request request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        // Released together, so the first requests race each other
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < SIGHTINGS_PER_THREAD; i++) {
+                        request.perform();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private interface Request {
+        void perform() throws Exception;
+    }
+
+    @Test
+    public void testConcurrentSightingsAreAllCounted() throws Exception {
+        // No counters exist yet, so the first sightings race to create them
+        concurrently(() -> postSighting("Gray Wolf"));
+
+        int expected = THREADS * SIGHTINGS_PER_THREAD;
+        User stored = userRepository.findById(ranger.getId()).get();
+        assertEquals(expected, stored.getTotalAnimalsLogged());
+        assertEquals(1, stored.getUniqueSpeciesCount());
+
+        mockMvc.perform(get("/api/profiles/user/" + ranger.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.animalsLogged", is(expected)))
+                .andExpect(jsonPath("$.speciesSeen", is(1)));
+        mockMvc.perform(get("/api/leaderboard/user/" + ranger.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalAnimalsLogged", is(expected)));
+    }
+
+    @Test
+    public void testConcurrentAssistsAreAllCounted() throws Exception {
+        concurrently(() -> mockMvc.perform(post("/api/profiles/" + ranger.getId() + "/increment-assists"))
+                .andExpect(status().isOk()));
+
+        assertEquals(THREADS * SIGHTINGS_PER_THREAD,
+                profileRepository.findByUserId(ranger.getId()).get().getAssists());
+    }
+
+    @Test
+    public void testSavingUserDoesNotOverwriteStatistics() throws Exception {
+        postSighting("Gray Wolf");
+        postSighting("Moose");
+
+        // A stale copy saved after the sightings were counted
+        ranger.setBio("Counting moose");
+        ranger.setTotalAnimalsLogged(0);
+        userRepository.save(ranger);
+
+        User stored = userRepository.findById(ranger.getId()).get();
+        assertEquals("Counting moose", stored.getBio());
+        assertEquals(2, stored.getTotalAnimalsLogged());
+        assertEquals(2, stored.getUniqueSpeciesCount());
+        assertNotNull(stored.getLastActivityDate());
+
+        // The leaderboard and profile rank keep the counted totals too
+        LeaderboardEntry entry = leaderboardService.getUserRank(ranger.getId());
+        assertEquals(2, entry.getTotalAnimalsLogged());
+        assertEquals(2, entry.getUniqueSpeciesCount());
+    }
+}
@@ -0,0 +1,154 @@
+package com.team4.wildlifetracker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team4.wildlifetracker.model.Notification;
+import com.team4.wildlifetracker.model.User;
+import com.team4.wildlifetracker.repository.NotificationRepository;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.repository.UserSpeciesCountRepository;
+import com.team4.wildlifetracker.repository.WatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class WatchNotificationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SightingRepository sightingRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserSpeciesCountRepository speciesCountRepository;
+
+    @Autowired
+    private WatchRepository watchRepository;
+
+    private User ranger;
+    private User visitor;
+    private User hiker;
+
+    @BeforeEach
+    public void setup() {
+        notificationRepository.deleteAll();
+        sightingRepository.deleteAll();
+        speciesCountRepository.deleteAll();
+        watchRepository.deleteAll();
+        userRepository.deleteAll();
+
+        ranger = userRepository.save(new User("ranger", "password"));
+        visitor = userRepository.save(new User("visitor", "password"));
+        hiker = userRepository.save(new User("hiker", "password"));
+    }
+
+    private long createWatch(String json) throws Exception {
+        String body = mockMvc.perform(post("/api/watches")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    private void postSighting(String species, int x, int y) throws Exception {
+        mockMvc.perform(post("/api/sightings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"species\":\"" + species + "\",\"location\":\"Ridge\",\"pixelX\":" + x
+                                + ",\"pixelY\":" + y + ",\"userId\":" + ranger.getId() + "}"))
+                .andExpect(status().isOk());
+    }
+
+    // Watchers are notified by a background worker, so wait for the notifications to land
+    private List<Notification> awaitNotifications(User user, int expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        List<Notification> notifications = notificationRepository.findByUserIdOrderByTimestampDesc(user.getId());
+        while (notifications.size() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            notifications = notificationRepository.findByUserIdOrderByTimestampDesc(user.getId());
+        }
+        return notifications;
+    }
+
+    @Test
+    public void testWatchersAreNotifiedOfMatchingSightings() throws Exception {
+        createWatch("{\"userId\":" + visitor.getId() + ",\"species\":\"Gray Wolf\"}");
+        createWatch("{\"userId\":" + hiker.getId() + ",\"minX\":0,\"minY\":0,\"maxX\":50,\"maxY\":50}");
+        createWatch("{\"userId\":" + ranger.getId() + ",\"species\":\"Gray Wolf\"}");
+
+        postSighting("Gray Wolf", 80, 80);
+
+        List<Notification> visitorNotifications = awaitNotifications(visitor, 1);
+        assertEquals(1, visitorNotifications.size());
+        assertEquals("New Gray Wolf sighting at Ridge", visitorNotifications.get(0).getMessage());
+
+        postSighting("Moose", 10, 20);
+
+        List<Notification> hikerNotifications = awaitNotifications(hiker, 1);
+        assertEquals(1, hikerNotifications.size());
+        assertEquals("New Moose sighting at Ridge", hikerNotifications.get(0).getMessage());
+
+        // Neither sighting notifies its own reporter, and the Moose is outside the visitor's watch
+        assertEquals(0, notificationRepository.findByUserIdOrderByTimestampDesc(ranger.getId()).size());
+        assertEquals(1, notificationRepository.findByUserIdOrderByTimestampDesc(visitor.getId()).size());
+    }
+
+    @Test
+    public void testListAndDeleteWatches() throws Exception {
+        long id = createWatch("{\"userId\":" + visitor.getId() + ",\"species\":\"Moose\",\"minX\":10,\"minY\":10,\"maxX\":30,\"maxY\":40}");
+
+        String body = mockMvc.perform(get("/api/watches").param("userId", visitor.getId().toString()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode watches = objectMapper.readTree(body);
+        assertEquals(1, watches.size());
+        assertEquals("Moose", watches.get(0).get("species").asText());
+        assertEquals(40, watches.get(0).get("maxY").asInt());
+
+        mockMvc.perform(delete("/api/watches/" + id)).andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/watches/" + id)).andExpect(status().isNotFound());
+        assertEquals(0, watchRepository.count());
+    }
+
+    @Test
+    public void testRejectsInvalidWatches() throws Exception {
+        String[] invalid = {
+                "{\"userId\":" + visitor.getId() + "}",
+                "{\"userId\":" + visitor.getId() + ",\"minX\":0,\"minY\":0,\"maxX\":50}",
+                "{\"userId\":" + visitor.getId() + ",\"minX\":60,\"minY\":0,\"maxX\":50,\"maxY\":50}",
+                "{\"userId\":" + visitor.getId() + ",\"minX\":0,\"minY\":0,\"maxX\":50,\"maxY\":150}",
+                "{\"userId\":999999,\"species\":\"Moose\"}",
+                "{\"species\":\"Moose\"}"
+        };
+        for (String json : invalid) {
+            mockMvc.perform(post("/api/watches")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(json))
+                    .andExpect(status().isBadRequest());
+        }
+        assertEquals(0, watchRepository.count());
+    }
+}
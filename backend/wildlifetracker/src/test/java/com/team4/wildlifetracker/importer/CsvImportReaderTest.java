@@ -0,0 +1,63 @@
+package com.team4.wildlifetracker.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvImportReaderTest {
+
+    private CsvImportReader reader(String csv) throws Exception {
+        return new CsvImportReader(new StringReader(csv));
+    }
+
+    @Test
+    void testNext_NormalizesHeaderNames() throws Exception {
+        CsvImportReader reader = reader("Species,Pixel X,image_url\r\nGray Wolf,12,/a.png\r\n");
+
+        Map<String, String> row = reader.next();
+
+        assertEquals("Gray Wolf", row.get("species"));
+        assertEquals("12", row.get("pixelx"));
+        assertEquals("/a.png", row.get("imageurl"));
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testNext_QuotedFields() throws Exception {
+        CsvImportReader reader = reader("species,description\n\"Wolf, Gray\",\"Said \"\"hi\"\"\nthen left\"\nMoose,plain\n");
+
+        Map<String, String> first = reader.next();
+        assertEquals("Wolf, Gray", first.get("species"));
+        assertEquals("Said \"hi\"\nthen left", first.get("description"));
+        assertEquals("line 2", reader.position());
+
+        assertEquals("Moose", reader.next().get("species"));
+        assertEquals("line 4", reader.position());
+    }
+
+    @Test
+    void testNext_SkipsBlankLinesAndShortRows() throws Exception {
+        CsvImportReader reader = reader("species,location\n\nMoose\n");
+
+        Map<String, String> row = reader.next();
+
+        assertEquals("Moose", row.get("species"));
+        assertNull(row.get("location"));
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testNext_UnterminatedQuote() throws Exception {
+        CsvImportReader reader = reader("species\n\"Moose\n");
+
+        assertThrows(ImportFormatException.class, reader::next);
+    }
+
+    @Test
+    void testOpen_EmptyFile() {
+        assertThrows(ImportFormatException.class, () -> reader(""));
+    }
+}
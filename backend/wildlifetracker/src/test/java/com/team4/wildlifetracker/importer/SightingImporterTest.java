@@ -0,0 +1,125 @@
+package com.team4.wildlifetracker.importer;
+
+import com.team4.wildlifetracker.model.Sighting;
+import com.team4.wildlifetracker.model.User;
+import com.team4.wildlifetracker.repository.NotificationRepository;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import com.team4.wildlifetracker.repository.SpeciesRepository;
+import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.repository.UserSpeciesCountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SightingImporterTest {
+
+    @Autowired
+    private SightingImporter importer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SightingRepository sightingRepository;
+
+    @Autowired
+    private SpeciesRepository speciesRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserSpeciesCountRepository speciesCountRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private User observer;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository.deleteAll();
+        sightingRepository.deleteAll();
+        speciesCountRepository.deleteAll();
+        userRepository.deleteAll();
+
+        observer = userRepository.save(new User("surveyor", "password"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        speciesRepository.findByName("Import Test Vole").ifPresent(speciesRepository::delete);
+        speciesRepository.findByName("Import Test Heron").ifPresent(speciesRepository::delete);
+    }
+
+    @Test
+    void testImportCsv() throws Exception {
+        Path file = tempDir.resolve("survey.csv");
+        Files.writeString(file, String.join("\n",
+                "species,location,timestamp,pixel_x,pixel_y,username",
+                "Import Test Vole,Meadow,2019-05-01T08:30:00,10,20,surveyor",
+                "Import Test Vole,\"Meadow, north\",2019-05-02,11.6,20,surveyor",
+                "Import Test Heron,Pond,2019-05-03 07:00,50,50,surveyor",
+                ",Missing species,2019-05-04,1,1,surveyor",
+                "Import Test Heron,Off map,2019-05-05,150,1,surveyor",
+                "Import Test Heron,Nobody,,,,stranger"));
+
+        SightingImporter.ImportResult result = importer.importFile(file);
+
+        assertEquals(4, result.getImported());
+        assertEquals(2, result.getSkipped());
+        assertTrue(speciesRepository.findByName("Import Test Vole").isPresent());
+
+        List<Sighting> sightings = sightingRepository.findAll();
+        sightings.sort(Comparator.comparing(Sighting::getId));
+        assertEquals(LocalDateTime.of(2019, 5, 1, 8, 30), sightings.get(0).getTimestamp());
+        assertEquals(12, sightings.get(1).getPixelX());
+        assertEquals("Meadow, north", sightings.get(1).getLocation());
+        assertNull(sightings.get(3).getUser());
+
+        // Statistics are rebuilt once the rows are in
+        User updated = userRepository.findById(observer.getId()).orElseThrow();
+        assertEquals(3, updated.getTotalAnimalsLogged());
+        assertEquals(2, updated.getUniqueSpeciesCount());
+    }
+
+    @Test
+    void testImportGeoJson() throws Exception {
+        Path file = tempDir.resolve("survey.geojson");
+        Files.writeString(file, "{\"type\":\"FeatureCollection\",\"name\":\"survey\",\"features\":["
+                + "{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[30,40]},"
+                + "\"properties\":{\"species\":\"Import Test Heron\",\"location\":\"Pond\",\"user_id\":" + observer.getId() + "}},"
+                + "{\"type\":\"Feature\",\"geometry\":null,"
+                + "\"properties\":{\"species\":\"Import Test Heron\",\"timestamp\":\"2020-01-01\"}}"
+                + "]}");
+
+        SightingImporter.ImportResult result = importer.importFile(file);
+
+        assertEquals(2, result.getImported());
+        assertEquals(0, result.getSkipped());
+        Sighting first = sightingRepository.findByUserId(observer.getId()).get(0);
+        assertEquals(30, first.getPixelX());
+        assertEquals(40, first.getPixelY());
+        assertEquals(1, userRepository.findById(observer.getId()).orElseThrow().getTotalAnimalsLogged());
+    }
+
+    @Test
+    void testImport_UnsupportedFileType() throws Exception {
+        Path file = tempDir.resolve("survey.xlsx");
+        Files.writeString(file, "");
+
+        assertThrows(IllegalArgumentException.class, () -> importer.importFile(file));
+    }
+}
@@ -0,0 +1,69 @@
+package com.team4.wildlifetracker.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void testAddedPairsAreAlwaysFound() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (long sighting = 1; sighting <= 100; sighting++) {
+            for (long user = 1; user <= 100; user++) {
+                filter.put(sighting, user);
+            }
+        }
+
+        for (long sighting = 1; sighting <= 100; sighting++) {
+            for (long user = 1; user <= 100; user++) {
+                assertTrue(filter.mightContain(sighting, user));
+            }
+        }
+    }
+
+    @Test
+    void testFalsePositiveRateStaysNearTarget() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (long sighting = 1; sighting <= 100; sighting++) {
+            for (long user = 1; user <= 100; user++) {
+                filter.put(sighting, user);
+            }
+        }
+
+        int falsePositives = 0;
+        for (long sighting = 101; sighting <= 200; sighting++) {
+            for (long user = 1; user <= 100; user++) {
+                if (filter.mightContain(sighting, user)) {
+                    falsePositives++;
+                }
+            }
+        }
+        assertTrue(falsePositives < 300, "False positives: " + falsePositives);
+    }
+
+    @Test
+    void testPairOrderMatters() {
+        BloomFilter filter = new BloomFilter(100, 0.001);
+        filter.put(1L, 2L);
+
+        assertTrue(filter.mightContain(1L, 2L));
+        assertFalse(filter.mightContain(2L, 1L));
+    }
+
+    @Test
+    void testClear() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+        filter.put(1L, 2L);
+
+        filter.clear();
+
+        assertFalse(filter.mightContain(1L, 2L));
+    }
+
+    @Test
+    void testRejectsInvalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1.0));
+    }
+}
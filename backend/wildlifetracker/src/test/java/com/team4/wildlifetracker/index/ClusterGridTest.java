@@ -0,0 +1,59 @@
+package com.team4.wildlifetracker.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClusterGridTest {
+
+    @Test
+    void testPointsInSameCellFormOneCluster() {
+        ClusterGrid grid = new ClusterGrid(10);
+        grid.add(new MapPoint(1L, 2, 4, "Gray Wolf"));
+        grid.add(new MapPoint(2L, 6, 8, "Gray Wolf"));
+        grid.add(new MapPoint(3L, 4, 6, "Moose"));
+        grid.add(new MapPoint(4L, 50, 50, "Bald Eagle"));
+
+        assertEquals(2, grid.size());
+        ClusterGrid.Cluster cluster = grid.clusters().stream()
+                .filter(c -> c.getCount() == 3)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(4.0, cluster.getCentroidX());
+        assertEquals(6.0, cluster.getCentroidY());
+        assertEquals("Gray Wolf", cluster.getDominantSpecies());
+    }
+
+    @Test
+    void testRemoveUpdatesCluster() {
+        ClusterGrid grid = new ClusterGrid(10);
+        MapPoint wolf = new MapPoint(1L, 2, 2, "Gray Wolf");
+        MapPoint moose = new MapPoint(2L, 8, 8, "Moose");
+        MapPoint moose2 = new MapPoint(3L, 8, 8, "Moose");
+        grid.add(wolf);
+        grid.add(moose);
+        grid.add(moose2);
+
+        grid.remove(moose);
+        grid.remove(moose2);
+
+        ClusterGrid.Cluster cluster = List.copyOf(grid.clusters()).get(0);
+        assertEquals(1, cluster.getCount());
+        assertEquals(2.0, cluster.getCentroidX());
+        assertEquals("Gray Wolf", cluster.getDominantSpecies());
+
+        grid.remove(wolf);
+        assertEquals(0, grid.size());
+    }
+
+    @Test
+    void testDominantSpeciesTieBreaksAlphabetically() {
+        ClusterGrid grid = new ClusterGrid(10);
+        grid.add(new MapPoint(1L, 1, 1, "Moose"));
+        grid.add(new MapPoint(2L, 1, 1, "Bald Eagle"));
+
+        assertEquals("Bald Eagle", List.copyOf(grid.clusters()).get(0).getDominantSpecies());
+    }
+}
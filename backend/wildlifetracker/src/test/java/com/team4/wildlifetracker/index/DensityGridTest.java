@@ -0,0 +1,56 @@
+package com.team4.wildlifetracker.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DensityGridTest {
+
+    @Test
+    void testPointsInSameCellAreCountedTogether() {
+        DensityGrid grid = new DensityGrid(10);
+        grid.add(new MapPoint(1L, 11, 12, "Gray Wolf"));
+        grid.add(new MapPoint(2L, 19, 15, "Moose"));
+        grid.add(new MapPoint(3L, 55, 55, "Bald Eagle"));
+
+        assertEquals(2, grid.get(1, 1));
+        assertEquals(1, grid.get(5, 5));
+        assertEquals(0, grid.get(0, 0));
+        assertEquals(2, grid.getMax());
+    }
+
+    @Test
+    void testAddReportsNewMax() {
+        DensityGrid grid = new DensityGrid(10);
+
+        assertTrue(grid.add(new MapPoint(1L, 5, 5, null)));
+        assertFalse(grid.add(new MapPoint(2L, 50, 50, null)));
+        assertTrue(grid.add(new MapPoint(3L, 5, 5, null)));
+    }
+
+    @Test
+    void testRemoveRescansMax() {
+        DensityGrid grid = new DensityGrid(10);
+        MapPoint a = new MapPoint(1L, 5, 5, null);
+        MapPoint b = new MapPoint(2L, 5, 5, null);
+        MapPoint c = new MapPoint(3L, 50, 50, null);
+        grid.add(a);
+        grid.add(b);
+        grid.add(c);
+
+        assertFalse(grid.remove(c));
+        assertEquals(2, grid.getMax());
+        assertTrue(grid.remove(a));
+        assertEquals(1, grid.getMax());
+        assertFalse(grid.remove(c));
+    }
+
+    @Test
+    void testEdgeCoordinatesStayOnGrid() {
+        DensityGrid grid = new DensityGrid(8);
+
+        assertEquals(0, grid.cellOf(0));
+        assertEquals(7, grid.cellOf(100));
+        assertEquals(4, grid.cellOf(50));
+    }
+}
@@ -0,0 +1,73 @@
+package com.team4.wildlifetracker.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    @Test
+    void testTokenize() {
+        assertEquals(List.of("gray", "wolf", "near", "lot", "4b"), InvertedIndex.tokenize("Gray Wolf, near Lot-4B!"));
+        assertTrue(InvertedIndex.tokenize("  ").isEmpty());
+        assertTrue(InvertedIndex.tokenize(null).isEmpty());
+    }
+
+    @Test
+    void testPrefixMatch() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, Map.of("Gray Wolf", 3));
+        index.put(2L, Map.of("Bald Eagle", 3));
+
+        assertEquals(List.of(1L), index.search("wol"));
+        assertEquals(List.of(1L), index.search("WOLF"));
+        assertTrue(index.search("olf").isEmpty());
+    }
+
+    @Test
+    void testAllQueryTokensMustMatch() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, Map.of("Gray Wolf", 3, "Yellowstone", 2));
+        index.put(2L, Map.of("Red Wolf", 3, "Alaska", 2));
+
+        assertEquals(List.of(2L), index.search("wolf alaska"));
+        assertTrue(index.search("wolf eagle").isEmpty());
+    }
+
+    @Test
+    void testRankingByFieldWeight() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, Map.of("Bald Eagle", 3, "Seen near the wolf den", 1));
+        index.put(2L, Map.of("Gray Wolf", 3));
+        index.put(3L, Map.of("Moose", 3, "Wolf Creek", 2));
+
+        assertEquals(List.of(2L, 3L, 1L), index.search("wolf"));
+    }
+
+    @Test
+    void testExactMatchOutranksPrefixAndTiesPreferNewest() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, Map.of("Wolfdog", 3));
+        index.put(2L, Map.of("Gray Wolf", 3));
+        index.put(3L, Map.of("Red Wolf", 3));
+
+        assertEquals(List.of(3L, 2L, 1L), index.search("wolf"));
+    }
+
+    @Test
+    void testPutReplacesAndRemove() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1L, Map.of("Gray Wolf", 3));
+        index.put(1L, Map.of("Bald Eagle", 3));
+
+        assertTrue(index.search("wolf").isEmpty());
+        assertEquals(List.of(1L), index.search("eagle"));
+
+        index.remove(1L);
+        assertTrue(index.search("eagle").isEmpty());
+        assertEquals(0, index.size());
+    }
+}
@@ -0,0 +1,90 @@
+package com.team4.wildlifetracker.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankedTreeTest {
+
+    @Test
+    void testAddAndRank() {
+        RankedTree<Integer> tree = new RankedTree<>(Comparator.naturalOrder());
+        tree.add(30);
+        tree.add(10);
+        tree.add(20);
+
+        assertEquals(3, tree.size());
+        assertEquals(0, tree.rankOf(10));
+        assertEquals(1, tree.rankOf(20));
+        assertEquals(2, tree.rankOf(30));
+        assertEquals(-1, tree.rankOf(15));
+    }
+
+    @Test
+    void testAddDuplicate() {
+        RankedTree<Integer> tree = new RankedTree<>(Comparator.naturalOrder());
+
+        assertTrue(tree.add(5));
+        assertFalse(tree.add(5));
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    void testRemove() {
+        RankedTree<Integer> tree = new RankedTree<>(Comparator.naturalOrder());
+        tree.add(1);
+        tree.add(2);
+        tree.add(3);
+
+        assertTrue(tree.remove(2));
+        assertFalse(tree.remove(2));
+        assertEquals(List.of(1, 3), tree.toList());
+        assertEquals(1, tree.rankOf(3));
+    }
+
+    @Test
+    void testGetAndFirst() {
+        RankedTree<String> tree = new RankedTree<>(Comparator.reverseOrder());
+        tree.add("a");
+        tree.add("c");
+        tree.add("b");
+
+        assertEquals("c", tree.get(0));
+        assertEquals("a", tree.get(2));
+        assertEquals(List.of("c", "b"), tree.first(2));
+        assertEquals(List.of("c", "b", "a"), tree.first(10));
+        assertTrue(tree.first(0).isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.get(3));
+    }
+
+    @Test
+    void testMatchesSortedSetUnderRandomOperations() {
+        RankedTree<Integer> tree = new RankedTree<>(Comparator.naturalOrder());
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5000; i++) {
+            int value = random.nextInt(500);
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(value), tree.add(value));
+            } else {
+                assertEquals(expected.remove(value), tree.remove(value));
+            }
+        }
+
+        List<Integer> sorted = new ArrayList<>(expected);
+        assertEquals(sorted, tree.toList());
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(i, tree.rankOf(sorted.get(i)));
+            assertEquals(sorted.get(i), tree.get(i));
+        }
+        assertEquals(Collections.emptyList(), new RankedTree<Integer>(Comparator.naturalOrder()).toList());
+    }
+}
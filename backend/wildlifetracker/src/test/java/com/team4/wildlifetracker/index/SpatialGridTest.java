@@ -0,0 +1,90 @@
+package com.team4.wildlifetracker.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialGridTest {
+
+    private List<Long> ids(List<MapPoint> points) {
+        return points.stream().map(MapPoint::getId).sorted().toList();
+    }
+
+    @Test
+    void testQueryReturnsPointsInsideBox() {
+        SpatialGrid grid = new SpatialGrid(4);
+        grid.put(new MapPoint(1L, 10, 10, "Gray Wolf"));
+        grid.put(new MapPoint(2L, 50, 50, "Bald Eagle"));
+        grid.put(new MapPoint(3L, 12, 14, "Moose"));
+
+        assertEquals(List.of(1L, 3L), ids(grid.query(0, 0, 20, 20, 0, 100)));
+        assertEquals(List.of(2L), ids(grid.query(50, 50, 50, 50, 0, 100)));
+        assertTrue(grid.query(60, 60, 100, 100, 0, 100).isEmpty());
+    }
+
+    @Test
+    void testPutReplacesExistingPoint() {
+        SpatialGrid grid = new SpatialGrid(4);
+        grid.put(new MapPoint(1L, 10, 10, "Gray Wolf"));
+        grid.put(new MapPoint(1L, 80, 80, "Gray Wolf"));
+
+        assertEquals(1, grid.size());
+        assertTrue(grid.query(0, 0, 20, 20, 0, 100).isEmpty());
+        assertEquals(List.of(1L), ids(grid.query(70, 70, 90, 90, 0, 100)));
+    }
+
+    @Test
+    void testRemove() {
+        SpatialGrid grid = new SpatialGrid(4);
+        grid.put(new MapPoint(1L, 10, 10, "Gray Wolf"));
+
+        assertNotNull(grid.remove(1L));
+        assertNull(grid.remove(1L));
+        assertEquals(0, grid.size());
+        assertTrue(grid.query(0, 0, 100, 100, 0, 100).isEmpty());
+    }
+
+    @Test
+    void testLimitAndSpacing() {
+        SpatialGrid grid = new SpatialGrid(4);
+        long id = 1;
+        for (int x = 0; x < 10; x++) {
+            for (int y = 0; y < 10; y++) {
+                grid.put(new MapPoint(id++, x, y, "Gray Wolf"));
+            }
+        }
+
+        assertEquals(5, grid.query(0, 0, 100, 100, 0, 5).size());
+        // 10x10 points thinned to one per 5x5 square
+        assertEquals(4, grid.query(0, 0, 100, 100, 5, 100).size());
+    }
+
+    @Test
+    void testMatchesLinearScanUnderRandomPoints() {
+        SpatialGrid grid = new SpatialGrid(4);
+        List<MapPoint> all = new ArrayList<>();
+        Random random = new Random(42);
+        for (long id = 1; id <= 2000; id++) {
+            MapPoint point = new MapPoint(id, random.nextInt(101), random.nextInt(101), "Gray Wolf");
+            grid.put(point);
+            all.add(point);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            int minX = random.nextInt(101);
+            int minY = random.nextInt(101);
+            int maxX = minX + random.nextInt(101 - minX);
+            int maxY = minY + random.nextInt(101 - minY);
+            List<Long> expected = all.stream()
+                    .filter(p -> p.getX() >= minX && p.getX() <= maxX && p.getY() >= minY && p.getY() <= maxY)
+                    .map(MapPoint::getId)
+                    .sorted()
+                    .toList();
+            assertEquals(expected, ids(grid.query(minX, minY, maxX, maxY, 0, Integer.MAX_VALUE)));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.team4.wildlifetracker.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpeciesTrieTest {
+
+    private List<String> names(List<SpeciesTrie.Suggestion> suggestions) {
+        return suggestions.stream().map(SpeciesTrie.Suggestion::getName).toList();
+    }
+
+    @Test
+    void testSuggestRanksByWeight() {
+        SpeciesTrie trie = new SpeciesTrie(10);
+        trie.put("Gray Wolf", 5);
+        trie.put("Gray Fox", 9);
+        trie.put("Grizzly Bear", 1);
+        trie.put("Bald Eagle", 20);
+
+        assertEquals(List.of("Gray Fox", "Gray Wolf", "Grizzly Bear"), names(trie.suggest("gr", 10)));
+        assertEquals(List.of("Gray Fox", "Gray Wolf"), names(trie.suggest("GRAY", 10)));
+        assertEquals(List.of("Gray Fox"), names(trie.suggest("gr", 1)));
+        assertTrue(trie.suggest("moose", 10).isEmpty());
+    }
+
+    @Test
+    void testAddWeightReorders() {
+        SpeciesTrie trie = new SpeciesTrie(10);
+        trie.put("Gray Wolf", 5);
+        trie.put("Gray Fox", 9);
+
+        trie.addWeight("gray wolf", 10);
+        trie.addWeight("Gray Fox", -20);
+
+        assertEquals(List.of("Gray Wolf", "Gray Fox"), names(trie.suggest("gray", 10)));
+        assertEquals(15, trie.find("GRAY WOLF").getWeight());
+        assertEquals(0, trie.find("Gray Fox").getWeight());
+    }
+
+    @Test
+    void testCachedTopListRefillsAfterRemove() {
+        SpeciesTrie trie = new SpeciesTrie(2);
+        trie.put("Moose", 3);
+        trie.put("Mountain Lion", 2);
+        trie.put("Mourning Dove", 1);
+
+        assertEquals(List.of("Moose", "Mountain Lion"), names(trie.suggest("mo", 10)));
+
+        assertTrue(trie.remove("Moose"));
+        assertFalse(trie.remove("Moose"));
+        assertEquals(List.of("Mountain Lion", "Mourning Dove"), names(trie.suggest("mo", 10)));
+        assertTrue(trie.suggest("moos", 10).isEmpty());
+        assertEquals(2, trie.size());
+    }
+
+    @Test
+    void testPrefixOfAnotherName() {
+        SpeciesTrie trie = new SpeciesTrie(10);
+        trie.put("Owl", 1);
+        trie.put("Owlet Moth", 2);
+
+        assertEquals(List.of("Owlet Moth", "Owl"), names(trie.suggest("owl", 10)));
+        trie.remove("Owlet Moth");
+        assertEquals(List.of("Owl"), names(trie.suggest("owl", 10)));
+        assertNull(trie.find("Owlet"));
+    }
+}
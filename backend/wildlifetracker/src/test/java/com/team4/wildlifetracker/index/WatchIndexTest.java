@@ -0,0 +1,70 @@
+package com.team4.wildlifetracker.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WatchIndexTest {
+
+    @Test
+    void testMatchesSpeciesAndArea() {
+        WatchIndex index = new WatchIndex();
+        index.put(1L, 10L, "Gray Wolf", null, null, null, null);
+        index.put(2L, 20L, null, 0, 0, 50, 50);
+        index.put(3L, 30L, "Gray Wolf", 60, 60, 100, 100);
+        index.put(4L, 40L, "Moose", null, null, null, null);
+
+        assertEquals(Set.of(10L, 20L), index.findWatchers("Gray Wolf", 50, 50));
+        assertEquals(Set.of(10L, 30L), index.findWatchers("Gray Wolf", 60, 100));
+        assertEquals(Set.of(20L), index.findWatchers("Bald Eagle", 0, 10));
+        assertTrue(index.findWatchers("Bald Eagle", 51, 10).isEmpty());
+    }
+
+    @Test
+    void testSightingWithoutPositionOnlyMatchesWatchesWithoutArea() {
+        WatchIndex index = new WatchIndex();
+        index.put(1L, 10L, "Gray Wolf", null, null, null, null);
+        index.put(2L, 20L, "Gray Wolf", 0, 0, 100, 100);
+        index.put(3L, 30L, null, 0, 0, 100, 100);
+
+        assertEquals(Set.of(10L), index.findWatchers("Gray Wolf", null, null));
+        assertTrue(index.findWatchers(null, null, null).isEmpty());
+    }
+
+    @Test
+    void testUserWithSeveralMatchingWatchesIsReturnedOnce() {
+        WatchIndex index = new WatchIndex();
+        index.put(1L, 10L, "Gray Wolf", null, null, null, null);
+        index.put(2L, 10L, null, 0, 0, 100, 100);
+
+        assertEquals(Set.of(10L), index.findWatchers("Gray Wolf", 5, 5));
+    }
+
+    @Test
+    void testRemoveAndRemoveUser() {
+        WatchIndex index = new WatchIndex();
+        index.put(1L, 10L, "Gray Wolf", null, null, null, null);
+        index.put(2L, 20L, "Gray Wolf", null, null, null, null);
+        index.put(3L, 20L, null, null, null, null, null);
+
+        index.remove(1L);
+        assertEquals(Set.of(20L), index.findWatchers("Gray Wolf", 5, 5));
+
+        index.removeUser(20L);
+        assertTrue(index.findWatchers("Gray Wolf", 5, 5).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void testPutReplacesWatchWithSameId() {
+        WatchIndex index = new WatchIndex();
+        index.put(1L, 10L, "Gray Wolf", null, null, null, null);
+        index.put(1L, 10L, "Moose", null, null, null, null);
+
+        assertTrue(index.findWatchers("Gray Wolf", 5, 5).isEmpty());
+        assertEquals(Set.of(10L), index.findWatchers("Moose", 5, 5));
+        assertEquals(1, index.size());
+    }
+}
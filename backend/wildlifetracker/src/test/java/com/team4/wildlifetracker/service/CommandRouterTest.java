@@ -3,6 +3,7 @@ package com.team4.wildlifetracker.service;
 import com.team4.wildlifetracker.dto.Command;
 import com.team4.wildlifetracker.dto.CommandResponse;
 import com.team4.wildlifetracker.dto.LeaderboardEntry;
+import com.team4.wildlifetracker.dto.SightingResponse;
 import com.team4.wildlifetracker.dto.UserResponse;
 import com.team4.wildlifetracker.model.Notification;
 import com.team4.wildlifetracker.model.Sighting;
@@ -245,7 +246,8 @@ class CommandRouterTest {
         params.put("id", 1L);
         command.setParameters(params);
 
-        when(sightingService.findById(1L)).thenReturn(testSighting);
+        SightingResponse sighting = SightingResponse.fromEntity(testSighting);
+        when(sightingService.findByIdAsDto(1L)).thenReturn(sighting);
 
         // Act
         CommandResponse result = commandRouter.route(command);
@@ -253,8 +255,8 @@ class CommandRouterTest {
         // Assert
         assertTrue(result.isSuccess());
         assertEquals("Sighting retrieved", result.getMessage());
-        assertEquals(testSighting, result.getData());
-        verify(sightingService).findById(1L);
+        assertEquals(sighting, result.getData());
+        verify(sightingService).findByIdAsDto(1L);
     }
 
     @Test
@@ -265,8 +267,8 @@ class CommandRouterTest {
         command.setAction("getall");
         command.setParameters(new HashMap<>());
 
-        List<Sighting> sightings = List.of(testSighting);
-        when(sightingService.findAll()).thenReturn(sightings);
+        List<SightingResponse> sightings = List.of(SightingResponse.fromEntity(testSighting));
+        when(sightingService.findAllAsDto()).thenReturn(sightings);
 
         // Act
         CommandResponse result = commandRouter.route(command);
@@ -275,7 +277,7 @@ class CommandRouterTest {
         assertTrue(result.isSuccess());
         assertEquals("Sightings retrieved", result.getMessage());
         assertEquals(sightings, result.getData());
-        verify(sightingService).findAll();
+        verify(sightingService).findAllAsDto();
     }
 
     @Test
@@ -702,7 +704,7 @@ class CommandRouterTest {
         params.put("id", 1L);
         command.setParameters(params);
 
-        when(sightingService.findById(1L)).thenReturn(testSighting);
+        when(sightingService.findByIdAsDto(1L)).thenReturn(SightingResponse.fromEntity(testSighting));
 
         // Act
         CommandResponse result = commandRouter.route(command);
@@ -723,7 +725,7 @@ class CommandRouterTest {
         params.put("id", 1L);
         command.setParameters(params);
 
-        when(sightingService.findById(1L)).thenThrow(new RuntimeException("Database error"));
+        when(sightingService.findByIdAsDto(1L)).thenThrow(new RuntimeException("Database error"));
 
         // Act
         CommandResponse result = commandRouter.route(command);
@@ -0,0 +1,149 @@
+package com.team4.wildlifetracker.service;
+
+import com.team4.wildlifetracker.dto.SightingResponse;
+import com.team4.wildlifetracker.event.SightingEvent;
+import com.team4.wildlifetracker.index.MapPoint;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HeatmapTileServiceTest {
+
+    @Mock
+    private SightingRepository sightingRepository;
+
+    @InjectMocks
+    private HeatmapTileService heatmapTileService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(sightingRepository.findAllMapPoints()).thenReturn(List.of(
+                new MapPoint(1L, 10, 10, "Gray Wolf"),
+                new MapPoint(2L, 10, 10, "Gray Wolf"),
+                new MapPoint(3L, 12, 14, "Moose"),
+                new MapPoint(4L, 90, 90, "Bald Eagle")));
+    }
+
+    private SightingEvent event(SightingEvent.Type type, Long id, Integer x, Integer y, String species) {
+        return new SightingEvent(type, new SightingResponse(id, species, "Campus", null, null,
+                LocalDateTime.now(), x, y, 1L, "user", null));
+    }
+
+    private BufferedImage decode(HeatmapTileService.Tile tile) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(tile.getPng()));
+    }
+
+    // ==================== RENDER TESTS ====================
+
+    @Test
+    void testGetTile_DrawsDensityWhereSightingsAre() throws IOException {
+        // Act
+        BufferedImage image = decode(heatmapTileService.getTile(0, 0, 0));
+
+        // Assert
+        assertEquals(HeatmapTileService.TILE_SIZE, image.getWidth());
+        assertEquals(HeatmapTileService.TILE_SIZE, image.getHeight());
+        // (10, 10) percent lands in cell 3 of 32, centered on pixel 28
+        assertTrue((image.getRGB(28, 28) >>> 24) > 0);
+        assertEquals(0, image.getRGB(128, 128) >>> 24);
+    }
+
+    @Test
+    void testGetTile_EmptyTilesShareOneImage() throws IOException {
+        // Act
+        HeatmapTileService.Tile topRight = heatmapTileService.getTile(1, 1, 0);
+        HeatmapTileService.Tile bottomLeft = heatmapTileService.getTile(1, 0, 1);
+
+        // Assert
+        assertSame(topRight, bottomLeft);
+        assertEquals(0, decode(topRight).getRGB(128, 128) >>> 24);
+    }
+
+    @Test
+    void testGetTile_CachedUntilChange() {
+        // Act
+        HeatmapTileService.Tile first = heatmapTileService.getTile(1, 0, 0);
+        HeatmapTileService.Tile second = heatmapTileService.getTile(1, 0, 0);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(first.getEtag(), second.getEtag());
+        verify(sightingRepository, times(1)).findAllMapPoints();
+    }
+
+    @Test
+    void testGetTile_RejectsUnknownTile() {
+        assertThrows(IllegalArgumentException.class, () -> heatmapTileService.getTile(1, 2, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> heatmapTileService.getTile(HeatmapTileService.MAX_ZOOM + 1, 0, 0));
+    }
+
+    // ==================== INCREMENTAL UPDATE TESTS ====================
+
+    @Test
+    void testOnSightingChanged_EvictsOnlyNearbyTiles() {
+        // Arrange
+        HeatmapTileService.Tile campus = heatmapTileService.getTile(1, 0, 0);
+        HeatmapTileService.Tile lake = heatmapTileService.getTile(1, 1, 1);
+
+        // Act - a single sighting in an empty cell doesn't change the fullest cell
+        heatmapTileService.onSightingChanged(event(SightingEvent.Type.CREATED, 5L, 95, 95, "Moose"));
+
+        // Assert
+        assertSame(campus, heatmapTileService.getTile(1, 0, 0));
+        assertNotSame(lake, heatmapTileService.getTile(1, 1, 1));
+    }
+
+    @Test
+    void testOnSightingChanged_NewMaxRescalesLevel() {
+        // Arrange
+        HeatmapTileService.Tile campus = heatmapTileService.getTile(1, 0, 0);
+        HeatmapTileService.Tile lake = heatmapTileService.getTile(1, 1, 1);
+
+        // Act
+        heatmapTileService.onSightingChanged(event(SightingEvent.Type.CREATED, 5L, 10, 10, "Gray Wolf"));
+
+        // Assert
+        assertNotSame(campus, heatmapTileService.getTile(1, 0, 0));
+        assertNotSame(lake, heatmapTileService.getTile(1, 1, 1));
+    }
+
+    @Test
+    void testOnSightingChanged_DeletedClearsTile() throws IOException {
+        // Arrange
+        heatmapTileService.getTile(1, 1, 1);
+
+        // Act
+        heatmapTileService.onSightingChanged(event(SightingEvent.Type.DELETED, 4L, 90, 90, "Bald Eagle"));
+
+        // Assert
+        assertSame(heatmapTileService.getTile(1, 1, 0), heatmapTileService.getTile(1, 1, 1));
+    }
+
+    @Test
+    void testOnSightingChanged_UnmovedEditKeepsCache() {
+        // Arrange
+        HeatmapTileService.Tile before = heatmapTileService.getTile(0, 0, 0);
+
+        // Act
+        heatmapTileService.onSightingChanged(event(SightingEvent.Type.UPDATED, 1L, 10, 10, "Red Wolf"));
+
+        // Assert
+        assertSame(before, heatmapTileService.getTile(0, 0, 0));
+    }
+}
@@ -0,0 +1,109 @@
+package com.team4.wildlifetracker.service;
+
+import com.team4.wildlifetracker.repository.SightingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageVariantServiceTest {
+
+    @Mock
+    private SightingRepository sightingRepository;
+
+    private ImageVariantService imageVariantService;
+    private String imageUrl;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        imageVariantService = new ImageVariantService(sightingRepository, 1, 10);
+
+        // A 2000x1000 PNG in the upload directory
+        String filename = "sighting_" + UUID.randomUUID() + ".png";
+        imageUrl = "/uploads/sighting-images/" + filename;
+        Path original = Paths.get("uploads/sighting-images/" + filename);
+        Files.createDirectories(original.getParent());
+        ImageIO.write(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_ARGB), "png", original.toFile());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        imageVariantService.shutdown();
+        for (ImageVariantService.Size size : ImageVariantService.Size.values()) {
+            Files.deleteIfExists(Paths.get(imageVariantService.variantUrl(imageUrl, size).substring(1)));
+        }
+    }
+
+    // ==================== VARIANT URL TESTS ====================
+
+    @Test
+    void testVariantUrl() {
+        String url = "/uploads/sighting-images/sighting_abc.png";
+
+        assertEquals("/uploads/sighting-images/thumb/sighting_abc.jpg",
+                imageVariantService.variantUrl(url, ImageVariantService.Size.THUMBNAIL));
+        assertEquals("/uploads/sighting-images/web/sighting_abc.jpg",
+                imageVariantService.variantUrl(url, ImageVariantService.Size.WEB));
+        assertEquals(url, imageVariantService.variantUrl(url, ImageVariantService.Size.ORIGINAL));
+
+        String hash = "ab".repeat(32);
+        String blobUrl = "/uploads/blobs/ab/ab/" + hash + ".png";
+        assertEquals("/uploads/blobs/ab/ab/" + hash + ".thumb.jpg",
+                imageVariantService.variantUrl(blobUrl, ImageVariantService.Size.THUMBNAIL));
+        assertEquals("https://example.com/a.png",
+                imageVariantService.variantUrl("https://example.com/a.png", ImageVariantService.Size.WEB));
+    }
+
+    // ==================== GENERATION TESTS ====================
+
+    @Test
+    void testGenerateVariants_ScalesToBounds() throws Exception {
+        // Act
+        boolean generated = imageVariantService.generateVariants(imageUrl);
+
+        // Assert
+        assertTrue(generated);
+        BufferedImage thumbnail = ImageIO.read(Paths.get(
+                imageVariantService.variantUrl(imageUrl, ImageVariantService.Size.THUMBNAIL).substring(1)).toFile());
+        BufferedImage web = ImageIO.read(Paths.get(
+                imageVariantService.variantUrl(imageUrl, ImageVariantService.Size.WEB).substring(1)).toFile());
+        assertEquals(200, thumbnail.getWidth());
+        assertEquals(100, thumbnail.getHeight());
+        assertEquals(1024, web.getWidth());
+        assertEquals(512, web.getHeight());
+    }
+
+    @Test
+    void testGenerateVariants_UnreadableImage() throws Exception {
+        // Arrange
+        Files.write(Paths.get(imageUrl.substring(1)), new byte[]{1, 2, 3});
+
+        // Act & Assert
+        assertFalse(imageVariantService.generateVariants(imageUrl));
+        assertFalse(imageVariantService.generateVariants("/uploads/sighting-images/missing.png"));
+    }
+
+    @Test
+    void testSubmit_RecordsVariantUrls() {
+        // Act
+        imageVariantService.submit(imageUrl);
+
+        // Assert
+        verify(sightingRepository, timeout(5000)).setImageVariants(imageUrl,
+                imageVariantService.variantUrl(imageUrl, ImageVariantService.Size.THUMBNAIL),
+                imageVariantService.variantUrl(imageUrl, ImageVariantService.Size.WEB));
+    }
+}
@@ -1,6 +1,8 @@
 package com.team4.wildlifetracker.service;
 
 import com.team4.wildlifetracker.dto.LeaderboardEntry;
+import com.team4.wildlifetracker.dto.UserResponse;
+import com.team4.wildlifetracker.event.UserChangedEvent;
 import com.team4.wildlifetracker.model.User;
 import com.team4.wildlifetracker.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +14,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.lang.reflect.Field;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -327,18 +330,108 @@ class LeaderboardServiceTest {
     @Test
     void testGetLeaderboard_LargeNumberOfUsers() {
         // Arrange
-        List<User> manyUsers = Arrays.asList(user2, user1, user3, user1, user2, user3);
+        List<User> manyUsers = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            User user = new User("user" + id, "password");
+            setId(user, id);
+            user.setTotalAnimalsLogged((int) (id % 7));
+            user.setUniqueSpeciesCount((int) (id % 3));
+            manyUsers.add(user);
+        }
         when(userRepository.findAllOrderedByLeaderboardRank()).thenReturn(manyUsers);
 
         // Act
         List<LeaderboardEntry> result = leaderboardService.getLeaderboard();
 
         // Assert
-        assertEquals(6, result.size());
-        // Verify ranks are sequential
+        assertEquals(50, result.size());
+        // Verify ranks are sequential and agree with getUserRank
         for (int i = 0; i < result.size(); i++) {
             assertEquals(i + 1, result.get(i).getRank());
+            assertEquals(i + 1, leaderboardService.getUserRank(result.get(i).getUserId()).getRank());
         }
+        verify(userRepository, times(1)).findAllOrderedByLeaderboardRank();
     }
-}
 
+    // ==================== INCREMENTAL UPDATE TESTS ====================
+
+    @Test
+    void testOnUserChanged_ReordersLeaderboard() {
+        // Arrange
+        when(userRepository.findAllOrderedByLeaderboardRank()).thenReturn(Arrays.asList(user2, user1, user3));
+        leaderboardService.getLeaderboard();
+
+        // Act
+        user3.setTotalAnimalsLogged(20);
+        leaderboardService.onUserChanged(new UserChangedEvent(UserChangedEvent.Type.SAVED, UserResponse.fromEntity(user3)));
+
+        // Assert
+        assertEquals(1, leaderboardService.getUserRank(3L).getRank());
+        assertEquals(2, leaderboardService.getUserRank(2L).getRank());
+        assertEquals(3, leaderboardService.getUserRank(1L).getRank());
+        assertEquals(20, leaderboardService.getTopN(1).get(0).getTotalAnimalsLogged());
+        verify(userRepository, times(1)).findAllOrderedByLeaderboardRank();
+    }
+
+    @Test
+    void testOnUserChanged_AddsNewUser() {
+        // Arrange
+        when(userRepository.findAllOrderedByLeaderboardRank()).thenReturn(Arrays.asList(user2, user1));
+        leaderboardService.getLeaderboard();
+
+        // Act
+        leaderboardService.onUserChanged(new UserChangedEvent(UserChangedEvent.Type.SAVED, UserResponse.fromEntity(user3)));
+
+        // Assert
+        assertEquals(3, leaderboardService.getLeaderboard().size());
+        assertEquals(3, leaderboardService.getUserRank(3L).getRank());
+        assertEquals("user3", leaderboardService.getUserRank(3L).getDisplayName());
+    }
+
+    @Test
+    void testOnUserChanged_ProfileUpdateKeepsIndexedStatistics() {
+        // Arrange
+        when(userRepository.findAllOrderedByLeaderboardRank()).thenReturn(Arrays.asList(user2, user1, user3));
+        leaderboardService.getLeaderboard();
+
+        // Act - a stale entity saved with a new display name
+        user3.setDisplayName("Trail Cam");
+        user3.setTotalAnimalsLogged(0);
+        leaderboardService.onUserChanged(
+                new UserChangedEvent(UserChangedEvent.Type.SAVED, UserResponse.fromEntity(user3), false));
+
+        // Assert
+        LeaderboardEntry entry = leaderboardService.getUserRank(3L);
+        assertEquals("Trail Cam", entry.getDisplayName());
+        assertEquals(5, entry.getTotalAnimalsLogged());
+        assertEquals(3, entry.getRank());
+    }
+
+    @Test
+    void testOnUserChanged_RemovesDeletedUser() {
+        // Arrange
+        when(userRepository.findAllOrderedByLeaderboardRank()).thenReturn(Arrays.asList(user2, user1, user3));
+        leaderboardService.getLeaderboard();
+
+        // Act
+        leaderboardService.onUserChanged(new UserChangedEvent(UserChangedEvent.Type.DELETED, UserResponse.fromEntity(user2)));
+
+        // Assert
+        assertNull(leaderboardService.getUserRank(2L));
+        assertEquals(1, leaderboardService.getUserRank(1L).getRank());
+        assertEquals(2, leaderboardService.getLeaderboard().size());
+    }
+
+    @Test
+    void testOnUserChanged_BeforeLoadIsIgnored() {
+        // Arrange
+        when(userRepository.findAllOrderedByLeaderboardRank()).thenReturn(Arrays.asList(user2, user1));
+
+        // Act
+        leaderboardService.onUserChanged(new UserChangedEvent(UserChangedEvent.Type.SAVED, UserResponse.fromEntity(user3)));
+        List<LeaderboardEntry> result = leaderboardService.getLeaderboard();
+
+        // Assert
+        assertEquals(2, result.size());
+    }
+}
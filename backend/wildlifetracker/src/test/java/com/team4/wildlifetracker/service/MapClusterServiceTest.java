@@ -0,0 +1,134 @@
+package com.team4.wildlifetracker.service;
+
+import com.team4.wildlifetracker.dto.MapCluster;
+import com.team4.wildlifetracker.dto.SightingResponse;
+import com.team4.wildlifetracker.event.SightingEvent;
+import com.team4.wildlifetracker.index.MapPoint;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MapClusterServiceTest {
+
+    @Mock
+    private SightingRepository sightingRepository;
+
+    @InjectMocks
+    private MapClusterService mapClusterService;
+
+    @BeforeEach
+    void setUp() {
+        when(sightingRepository.findAllMapPoints()).thenReturn(List.of(
+                new MapPoint(1L, 10, 10, "Gray Wolf"),
+                new MapPoint(2L, 12, 14, "Gray Wolf"),
+                new MapPoint(3L, 14, 12, "Moose"),
+                new MapPoint(4L, 90, 90, "Bald Eagle")));
+    }
+
+    private SightingEvent event(SightingEvent.Type type, Long id, Integer x, Integer y, String species) {
+        return new SightingEvent(type, new SightingResponse(id, species, "Campus", null, null,
+                LocalDateTime.now(), x, y, 1L, "user", null));
+    }
+
+    // ==================== CLUSTER TESTS ====================
+
+    @Test
+    void testGetClusters_LowZoomGroupsNearbySightings() {
+        // Act
+        List<MapCluster> clusters = mapClusterService.getClusters(0);
+
+        // Assert
+        assertEquals(2, clusters.size());
+        MapCluster campus = clusters.stream().filter(c -> c.getCount() == 3).findFirst().orElseThrow();
+        assertEquals(12.0, campus.getX());
+        assertEquals(12.0, campus.getY());
+        assertEquals("Gray Wolf", campus.getDominantSpecies());
+    }
+
+    @Test
+    void testGetClusters_MaxZoomSeparatesSightings() {
+        // Act
+        List<MapCluster> clusters = mapClusterService.getClusters(MapClusterService.MAX_ZOOM);
+
+        // Assert
+        assertEquals(4, clusters.size());
+    }
+
+    @Test
+    void testGetClusters_CachedUntilChange() {
+        // Act
+        List<MapCluster> first = mapClusterService.getClusters(0);
+        List<MapCluster> second = mapClusterService.getClusters(0);
+
+        // Assert
+        assertSame(first, second);
+        verify(sightingRepository, times(1)).findAllMapPoints();
+    }
+
+    // ==================== INCREMENTAL UPDATE TESTS ====================
+
+    @Test
+    void testOnSightingChanged_CreatedJoinsCluster() {
+        // Arrange
+        mapClusterService.getClusters(0);
+
+        // Act
+        mapClusterService.onSightingChanged(event(SightingEvent.Type.CREATED, 5L, 11, 11, "Moose"));
+        mapClusterService.onSightingChanged(event(SightingEvent.Type.CREATED, 6L, 13, 13, "Moose"));
+
+        // Assert
+        MapCluster campus = mapClusterService.getClusters(0).stream()
+                .filter(c -> c.getX() < 50).findFirst().orElseThrow();
+        assertEquals(5, campus.getCount());
+        assertEquals("Moose", campus.getDominantSpecies());
+    }
+
+    @Test
+    void testOnSightingChanged_UpdatedMovesBetweenClusters() {
+        // Arrange
+        mapClusterService.getClusters(0);
+
+        // Act
+        mapClusterService.onSightingChanged(event(SightingEvent.Type.UPDATED, 4L, 15, 15, "Bald Eagle"));
+
+        // Assert
+        List<MapCluster> clusters = mapClusterService.getClusters(0);
+        assertEquals(1, clusters.size());
+        assertEquals(4, clusters.get(0).getCount());
+    }
+
+    @Test
+    void testOnSightingChanged_DeletedLeavesCluster() {
+        // Arrange
+        mapClusterService.getClusters(0);
+
+        // Act
+        mapClusterService.onSightingChanged(event(SightingEvent.Type.DELETED, 4L, 90, 90, "Bald Eagle"));
+
+        // Assert
+        assertEquals(1, mapClusterService.getClusters(0).size());
+    }
+
+    @Test
+    void testOnSightingChanged_UnmovedEditKeepsCache() {
+        // Arrange
+        List<MapCluster> before = mapClusterService.getClusters(0);
+
+        // Act
+        mapClusterService.onSightingChanged(event(SightingEvent.Type.UPDATED, 1L, 10, 10, "Gray Wolf"));
+
+        // Assert
+        assertSame(before, mapClusterService.getClusters(0));
+    }
+}
@@ -1,5 +1,6 @@
 package com.team4.wildlifetracker.service;
 
+import com.team4.wildlifetracker.event.NotificationEvent;
 import com.team4.wildlifetracker.model.Notification;
 import com.team4.wildlifetracker.model.User;
 import com.team4.wildlifetracker.repository.NotificationRepository;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.lang.reflect.Field;
 import java.util.Arrays;
@@ -26,6 +28,9 @@ class NotificationServiceTest {
     @Mock
     private NotificationRepository notificationRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private NotificationService notificationService;
 
@@ -70,6 +75,7 @@ class NotificationServiceTest {
         assertEquals(testUser, result.getUser());
         assertFalse(result.isRead()); // Should default to false
         verify(notificationRepository).save(any(Notification.class));
+        verify(eventPublisher).publishEvent(any(NotificationEvent.class));
     }
 
     @Test
@@ -291,5 +297,58 @@ class NotificationServiceTest {
         assertTrue(result.stream().anyMatch(n -> n.isRead()));
         assertTrue(result.stream().anyMatch(n -> !n.isRead()));
     }
-}
 
+    // ==================== UNREAD COUNT TESTS ====================
+
+    @Test
+    void testGetUnreadCount_LoadsOnceThenCached() {
+        // Arrange
+        when(notificationRepository.countUnread(1L)).thenReturn(4L);
+
+        // Act
+        long first = notificationService.getUnreadCount(1L);
+        long second = notificationService.getUnreadCount(1L);
+
+        // Assert
+        assertEquals(4L, first);
+        assertEquals(4L, second);
+        verify(notificationRepository, times(1)).countUnread(1L);
+    }
+
+    @Test
+    void testGetUnreadCount_ReloadsAfterCreateAndRead() {
+        // Arrange: the first load already sees the new notification, before its event arrives
+        when(notificationRepository.countUnread(1L)).thenReturn(2L, 2L, 1L);
+        savedNotification.setRead(false);
+        when(notificationRepository.findById(1L)).thenReturn(Optional.of(savedNotification));
+        notificationService.getUnreadCount(1L);
+
+        // Act
+        notificationService.onNotificationCreated(
+                new NotificationEvent(notificationService.toNotificationResponse(testNotification)));
+        long afterCreate = notificationService.getUnreadCount(1L);
+        notificationService.markAsRead(1L);
+        notificationService.markAsRead(1L);
+
+        // Assert
+        assertEquals(2L, afterCreate);
+        assertEquals(1L, notificationService.getUnreadCount(1L));
+        verify(notificationRepository, times(3)).countUnread(1L);
+    }
+
+    @Test
+    void testMarkAllAsRead_SingleUpdateAndReload() {
+        // Arrange
+        when(notificationRepository.countUnread(1L)).thenReturn(3L, 0L);
+        when(notificationRepository.markAllRead(1L)).thenReturn(3);
+        notificationService.getUnreadCount(1L);
+
+        // Act
+        int updated = notificationService.markAllAsRead(1L);
+
+        // Assert
+        assertEquals(3, updated);
+        assertEquals(0L, notificationService.getUnreadCount(1L));
+        verify(notificationRepository, never()).save(any(Notification.class));
+    }
+}
@@ -1,25 +1,39 @@
 package com.team4.wildlifetracker.service;
 
+import com.team4.wildlifetracker.dto.SightingRequest;
+import com.team4.wildlifetracker.dto.SightingResponse;
+import com.team4.wildlifetracker.event.SightingEvent;
 import com.team4.wildlifetracker.model.Sighting;
 import com.team4.wildlifetracker.model.User;
+import com.team4.wildlifetracker.repository.ReportRepository;
+import com.team4.wildlifetracker.repository.SightingBatchRepository;
 import com.team4.wildlifetracker.repository.SightingRepository;
 import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.storage.ImageStorage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.lang.reflect.Field;
-import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,9 +42,30 @@ class SightingServiceTest {
     @Mock
     private SightingRepository sightingRepository;
 
+    @Mock
+    private SightingBatchRepository sightingBatchRepository;
+
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ReportRepository reportRepository;
+
+    @Mock
+    private UserStatisticsService userStatisticsService;
+
+    @Mock
+    private SpeciesActivityService speciesActivityService;
+
+    @Mock
+    private ImageVariantService imageVariantService;
+
+    @Mock
+    private ImageStorage imageStorage;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private SightingService sightingService;
 
@@ -67,8 +102,6 @@ class SightingServiceTest {
     void testCreateSighting_Success() {
         // Arrange
         when(sightingRepository.save(any(Sighting.class))).thenReturn(savedSighting);
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(sightingRepository.findByUserId(1L)).thenReturn(List.of(savedSighting));
 
         // Act
         Sighting result = sightingService.createSighting(testSighting);
@@ -79,8 +112,7 @@ class SightingServiceTest {
         assertEquals("Gray Wolf", result.getSpecies());
         assertEquals("Yellowstone", result.getLocation());
         verify(sightingRepository).save(testSighting);
-        verify(userRepository).findById(1L);
-        verify(userRepository).save(testUser);
+        verify(userStatisticsService).recordSighting(1L, "Gray Wolf");
     }
 
     @Test
@@ -96,24 +128,57 @@ class SightingServiceTest {
         assertNotNull(result);
         assertNull(result.getUser());
         verify(sightingRepository).save(sightingWithoutUser);
-        verify(userRepository, never()).findById(anyLong());
+        verify(userStatisticsService, never()).recordSighting(anyLong(), anyString());
     }
 
     @Test
     void testCreateSighting_UpdatesUserStatistics() {
         // Arrange
         when(sightingRepository.save(any(Sighting.class))).thenReturn(savedSighting);
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(sightingRepository.findByUserId(1L)).thenReturn(List.of(savedSighting));
 
         // Act
         sightingService.createSighting(testSighting);
 
         // Assert
-        verify(userRepository).findById(1L);
-        verify(userRepository).save(testUser);
-        assertEquals(1, testUser.getTotalAnimalsLogged());
-        assertEquals(1, testUser.getUniqueSpeciesCount());
+        verify(userStatisticsService).recordSighting(1L, "Gray Wolf");
+        verify(speciesActivityService).recordSighting(savedSighting);
+        verify(imageStorage).acquire("url1");
+        verify(sightingRepository, never()).findByUserId(anyLong());
+    }
+
+    // ==================== BATCH CREATE TESTS ====================
+
+    @Test
+    void testCreateSightings_UpdatesStatisticsOncePerUser() {
+        // Arrange
+        List<SightingRequest> requests = List.of(
+                new SightingRequest("Gray Wolf", "Ridge", null, null, 1L),
+                new SightingRequest("Gray Wolf", "Creek", null, null, 1L),
+                new SightingRequest("Bald Eagle", "Lake", null, null, 1L));
+        when(userRepository.findAllById(List.of(1L))).thenReturn(List.of(testUser));
+        when(sightingBatchRepository.insertAll(anyList())).thenReturn(List.of(10L, 11L, 12L));
+
+        // Act
+        List<SightingResponse> result = sightingService.createSightings(requests);
+
+        // Assert
+        assertEquals(List.of(10L, 11L, 12L), result.stream().map(SightingResponse::getId).toList());
+        assertEquals("testuser", result.get(0).getUsername());
+        verify(userStatisticsService).recordSightings(1L, Map.of("Gray Wolf", 2, "Bald Eagle", 1));
+        verify(userStatisticsService, never()).recordSighting(anyLong(), anyString());
+        verify(eventPublisher, times(3)).publishEvent(any(SightingEvent.class));
+        verify(sightingRepository, never()).save(any(Sighting.class));
+    }
+
+    @Test
+    void testCreateSightings_TooLarge() {
+        // Arrange
+        List<SightingRequest> requests = Collections.nCopies(SightingService.MAX_BATCH_SIZE + 1,
+                new SightingRequest("Gray Wolf", "Ridge", null, null, 1L));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> sightingService.createSightings(requests));
+        verifyNoInteractions(sightingBatchRepository);
     }
 
     // ==================== FIND BY ID TESTS ====================
@@ -189,8 +254,6 @@ class SightingServiceTest {
         
         when(sightingRepository.findById(1L)).thenReturn(Optional.of(savedSighting));
         when(sightingRepository.save(any(Sighting.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(sightingRepository.findByUserId(1L)).thenReturn(List.of(savedSighting));
 
         // Act
         Sighting result = sightingService.update(1L, updatedSighting);
@@ -204,6 +267,22 @@ class SightingServiceTest {
         verify(sightingRepository).save(savedSighting);
     }
 
+    @Test
+    void testUpdate_AcquiresNewImageAndReleasesOld() {
+        // Arrange
+        Sighting updatedSighting = new Sighting("Gray Wolf", "Yellowstone", "Howling at moon", "url2", testUser);
+        when(sightingRepository.findById(1L)).thenReturn(Optional.of(savedSighting));
+        when(sightingRepository.save(any(Sighting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        sightingService.update(1L, updatedSighting);
+
+        // Assert
+        InOrder inOrder = inOrder(imageStorage);
+        inOrder.verify(imageStorage).acquire("url2");
+        inOrder.verify(imageStorage).release("url1");
+    }
+
     @Test
     void testUpdate_NotFound() {
         // Arrange
@@ -227,15 +306,14 @@ class SightingServiceTest {
         
         when(sightingRepository.findById(1L)).thenReturn(Optional.of(savedSighting));
         when(sightingRepository.save(any(Sighting.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(sightingRepository.findByUserId(1L)).thenReturn(List.of(savedSighting));
 
         // Act
         sightingService.update(1L, updatedSighting);
 
         // Assert
-        verify(userRepository).findById(1L);
-        verify(userRepository).save(testUser);
+        verify(userStatisticsService).changeSpecies(1L, "Gray Wolf", "Red Wolf");
+        verify(speciesActivityService).moveSighting(eq("Gray Wolf"), any(), eq("Yellowstone"), same(savedSighting));
+        verify(sightingRepository, never()).findByUserId(anyLong());
     }
 
     // ==================== DELETE TESTS ====================
@@ -244,17 +322,35 @@ class SightingServiceTest {
     void testDelete_Success() {
         // Arrange
         when(sightingRepository.findById(1L)).thenReturn(Optional.of(savedSighting));
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(sightingRepository.findByUserId(1L)).thenReturn(List.of());
 
         // Act
         sightingService.delete(1L);
 
         // Assert
         verify(sightingRepository).findById(1L);
+        verify(reportRepository).deleteAllBySightingId(1L);
         verify(sightingRepository).deleteById(1L);
-        verify(userRepository).findById(1L);
-        verify(userRepository).save(testUser);
+        verify(userStatisticsService).removeSighting(1L, "Gray Wolf");
+    }
+
+    @Test
+    void testDelete_ReleasesImageOnlyAfterCommit() {
+        // Arrange
+        when(sightingRepository.findById(1L)).thenReturn(Optional.of(savedSighting));
+        when(imageStorage.release("url1")).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            sightingService.delete(1L);
+
+            // Assert
+            verify(imageStorage, never()).release(anyString());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(imageStorage).release("url1");
+            verify(imageVariantService).deleteVariants("url1");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
@@ -269,6 +365,7 @@ class SightingServiceTest {
 
         assertEquals("Sighting not found", exception.getMessage());
         verify(sightingRepository).findById(999L);
+        verify(reportRepository, never()).deleteAllBySightingId(anyLong());
         verify(sightingRepository, never()).deleteById(anyLong());
     }
 
@@ -285,84 +382,20 @@ class SightingServiceTest {
         // Assert
         verify(sightingRepository).findById(1L);
         verify(sightingRepository).deleteById(1L);
-        verify(userRepository, never()).findById(anyLong());
+        verify(userStatisticsService, never()).removeSighting(anyLong(), anyString());
     }
 
     @Test
     void testDelete_UpdatesUserStatistics() {
         // Arrange
         when(sightingRepository.findById(1L)).thenReturn(Optional.of(savedSighting));
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(sightingRepository.findByUserId(1L)).thenReturn(List.of()); // No sightings after deletion
 
         // Act
         sightingService.delete(1L);
 
         // Assert
-        verify(userRepository).findById(1L);
-        verify(userRepository).save(testUser);
-        assertEquals(0, testUser.getTotalAnimalsLogged());
-        assertEquals(0, testUser.getUniqueSpeciesCount());
-    }
-
-    // ==================== STATISTICS UPDATE TESTS ====================
-
-    @Test
-    void testUpdateUserStatistics_MultipleSightingsSameSpecies() {
-        // Arrange
-        Sighting sighting1 = new Sighting("Gray Wolf", "Yellowstone", "Description", "url1", testUser);
-        Sighting sighting2 = new Sighting("Gray Wolf", "Yellowstone", "Description", "url2", testUser);
-        List<Sighting> userSightings = Arrays.asList(sighting1, sighting2);
-        
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(sightingRepository.findByUserId(1L)).thenReturn(userSightings);
-        when(sightingRepository.save(any(Sighting.class))).thenReturn(savedSighting);
-
-        // Act
-        sightingService.createSighting(testSighting);
-
-        // Assert
-        verify(userRepository).save(testUser);
-        // After creating one more, should have 3 total but 1 unique species
-    }
-
-    @Test
-    void testUpdateUserStatistics_MultipleUniqueSpecies() {
-        // Arrange
-        Sighting sighting1 = new Sighting("Gray Wolf", "Yellowstone", "Description", "url1", testUser);
-        Sighting sighting2 = new Sighting("Bald Eagle", "Alaska", "Description", "url2", testUser);
-        Sighting sighting3 = new Sighting("Grizzly Bear", "Montana", "Description", "url3", testUser);
-        List<Sighting> userSightings = Arrays.asList(sighting1, sighting2, sighting3);
-        
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(sightingRepository.findByUserId(1L)).thenReturn(userSightings);
-        when(sightingRepository.save(any(Sighting.class))).thenReturn(savedSighting);
-
-        // Act
-        sightingService.createSighting(testSighting);
-
-        // Assert
-        verify(userRepository).save(testUser);
-        // Should update unique species count to 3
-    }
-
-    @Test
-    void testUpdateUserStatistics_UpdatesLastActivityDate() {
-        // Arrange
-        LocalDateTime beforeUpdate = LocalDateTime.now().minusHours(1);
-        testUser.setLastActivityDate(beforeUpdate);
-        
-        when(sightingRepository.save(any(Sighting.class))).thenReturn(savedSighting);
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(sightingRepository.findByUserId(1L)).thenReturn(List.of(savedSighting));
-
-        // Act
-        sightingService.createSighting(testSighting);
-
-        // Assert
-        verify(userRepository).save(testUser);
-        assertNotNull(testUser.getLastActivityDate());
-        assertTrue(testUser.getLastActivityDate().isAfter(beforeUpdate));
+        verify(userStatisticsService).removeSighting(1L, "Gray Wolf");
+        verify(speciesActivityService).removeSighting(savedSighting);
+        verify(sightingRepository, never()).findByUserId(anyLong());
     }
 }
-
@@ -0,0 +1,166 @@
+package com.team4.wildlifetracker.service;
+
+import com.team4.wildlifetracker.dto.SightingResponse;
+import com.team4.wildlifetracker.dto.SpeciesSuggestion;
+import com.team4.wildlifetracker.event.SightingEvent;
+import com.team4.wildlifetracker.event.SpeciesEvent;
+import com.team4.wildlifetracker.model.Species;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import com.team4.wildlifetracker.repository.SpeciesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpeciesAutocompleteServiceTest {
+
+    @Mock
+    private SpeciesRepository speciesRepository;
+
+    @Mock
+    private SightingRepository sightingRepository;
+
+    @InjectMocks
+    private SpeciesAutocompleteService autocompleteService;
+
+    @BeforeEach
+    void setUp() {
+        when(speciesRepository.findAll()).thenReturn(List.of(
+                new Species("Gray Wolf", "Mammal"),
+                new Species("Great Horned Owl", "Bird")));
+        when(sightingRepository.countBySpecies()).thenReturn(List.<Object[]>of(
+                new Object[]{"Gray Wolf", 4L},
+                new Object[]{"Grizzly Bear", 7L}));
+    }
+
+    private static SightingResponse sighting(String species) {
+        return new SightingResponse(1L, species, "Campus", null, null,
+                LocalDateTime.now(), null, null, 1L, "user", null);
+    }
+
+    private SightingEvent sightingEvent(SightingEvent.Type type, String species) {
+        return new SightingEvent(type, sighting(species));
+    }
+
+    private List<String> names(List<SpeciesSuggestion> suggestions) {
+        return suggestions.stream().map(SpeciesSuggestion::getName).toList();
+    }
+
+    // ==================== SUGGEST TESTS ====================
+
+    @Test
+    void testSuggest_CombinesSpeciesTableAndSightings() {
+        // Act
+        List<SpeciesSuggestion> suggestions = autocompleteService.suggest("gr", 10);
+
+        // Assert
+        assertEquals(List.of("Grizzly Bear", "Gray Wolf", "Great Horned Owl"), names(suggestions));
+        assertEquals(7L, suggestions.get(0).getSightingCount());
+        assertEquals(0L, suggestions.get(2).getSightingCount());
+    }
+
+    @Test
+    void testSuggest_LoadsOnce() {
+        // Act
+        autocompleteService.suggest("gr", 10);
+        autocompleteService.suggest("gray", 10);
+
+        // Assert
+        verify(sightingRepository, times(1)).countBySpecies();
+    }
+
+    // ==================== INCREMENTAL UPDATE TESTS ====================
+
+    @Test
+    void testOnSightingChanged_CreatedAndDeletedAdjustCounts() {
+        // Arrange
+        autocompleteService.suggest("gr", 10);
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            autocompleteService.onSightingChanged(sightingEvent(SightingEvent.Type.CREATED, "Gray Wolf"));
+        }
+        autocompleteService.onSightingChanged(sightingEvent(SightingEvent.Type.DELETED, "Grizzly Bear"));
+
+        // Assert
+        List<SpeciesSuggestion> suggestions = autocompleteService.suggest("gr", 10);
+        assertEquals(List.of("Gray Wolf", "Grizzly Bear", "Great Horned Owl"), names(suggestions));
+        assertEquals(8L, suggestions.get(0).getSightingCount());
+        verify(sightingRepository, times(1)).countBySpecies();
+    }
+
+    @Test
+    void testOnSightingChanged_UpdatedMovesCountBetweenSpecies() {
+        // Arrange
+        autocompleteService.suggest("gr", 10);
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            autocompleteService.onSightingChanged(new SightingEvent(SightingEvent.Type.UPDATED,
+                    sighting("Gray Wolf"), "Grizzly Bear"));
+        }
+        autocompleteService.onSightingChanged(new SightingEvent(SightingEvent.Type.UPDATED,
+                sighting("Gray Wolf"), "Gray Wolf"));
+
+        // Assert
+        List<SpeciesSuggestion> suggestions = autocompleteService.suggest("gr", 10);
+        assertEquals(List.of("Gray Wolf", "Grizzly Bear", "Great Horned Owl"), names(suggestions));
+        assertEquals(8L, suggestions.get(0).getSightingCount());
+        assertEquals(3L, suggestions.get(1).getSightingCount());
+        verify(sightingRepository, times(1)).countBySpecies();
+    }
+
+    @Test
+    void testOnSightingChanged_DuringRebuildTriggersAnotherRebuild() {
+        // Arrange: a sighting commits while the counts are being read, so it may or may not be in them
+        when(sightingRepository.countBySpecies()).thenAnswer(invocation -> {
+            autocompleteService.onSightingChanged(sightingEvent(SightingEvent.Type.CREATED, "Gray Wolf"));
+            return List.<Object[]>of(new Object[]{"Gray Wolf", 5L});
+        }).thenReturn(List.<Object[]>of(new Object[]{"Gray Wolf", 5L}));
+
+        // Act
+        List<SpeciesSuggestion> first = autocompleteService.suggest("gray", 10);
+        List<SpeciesSuggestion> second = autocompleteService.suggest("gray", 10);
+        autocompleteService.suggest("gray", 10);
+
+        // Assert: the event isn't counted on top of the reread, and the second read is trusted
+        assertEquals(5L, first.get(0).getSightingCount());
+        assertEquals(5L, second.get(0).getSightingCount());
+        verify(sightingRepository, times(2)).countBySpecies();
+    }
+
+    @Test
+    void testOnSpeciesChanged_CreatedAddsName() {
+        // Arrange
+        autocompleteService.suggest("gr", 10);
+
+        // Act
+        autocompleteService.onSpeciesChanged(new SpeciesEvent(SpeciesEvent.Type.CREATED, 3L, "Green Heron"));
+
+        // Assert
+        assertTrue(names(autocompleteService.suggest("gre", 10)).contains("Green Heron"));
+        verify(speciesRepository, times(1)).findAll();
+    }
+
+    @Test
+    void testOnSpeciesChanged_UpdatedTriggersRebuild() {
+        // Arrange
+        autocompleteService.suggest("gr", 10);
+
+        // Act
+        autocompleteService.onSpeciesChanged(new SpeciesEvent(SpeciesEvent.Type.UPDATED, 1L, "Grey Wolf"));
+        autocompleteService.suggest("gr", 10);
+
+        // Assert
+        verify(speciesRepository, times(2)).findAll();
+    }
+}
@@ -4,6 +4,7 @@ import com.team4.wildlifetracker.dto.ProfileUpdateRequest;
 import com.team4.wildlifetracker.dto.UserResponse;
 import com.team4.wildlifetracker.model.User;
 import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.storage.ImageStorage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,6 +31,9 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ImageStorage imageStorage;
+
     @InjectMocks
     private UserService userService;
 
@@ -316,8 +320,7 @@ class UserServiceTest {
         MultipartFile file = mock(MultipartFile.class);
         when(file.isEmpty()).thenReturn(false);
         when(file.getContentType()).thenReturn("image/jpeg");
-        when(file.getOriginalFilename()).thenReturn("photo.jpg");
-        when(file.getInputStream()).thenReturn(new java.io.ByteArrayInputStream(new byte[100]));
+        when(imageStorage.store(file)).thenReturn("/uploads/blobs/ab/cd/abcd.jpg");
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(savedUser));
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -326,11 +329,11 @@ class UserServiceTest {
         String result = userService.uploadProfilePicture(1L, file);
 
         // Assert
-        assertNotNull(result);
-        assertTrue(result.startsWith("/uploads/profile-pictures/"));
-        assertTrue(result.contains("profile_1_"));
+        assertEquals("/uploads/blobs/ab/cd/abcd.jpg", result);
+        assertEquals(result, savedUser.getProfilePictureUrl());
         verify(userRepository).findById(1L);
         verify(userRepository).save(savedUser);
+        verify(imageStorage, never()).release(anyString());
     }
 
     @Test
@@ -404,23 +407,22 @@ class UserServiceTest {
     }
 
     @Test
-    void testUploadProfilePicture_NoFileExtension() throws IOException {
+    void testUploadProfilePicture_ReleasesPreviousPicture() throws IOException {
         // Arrange
         MultipartFile file = mock(MultipartFile.class);
         when(file.isEmpty()).thenReturn(false);
-        when(file.getContentType()).thenReturn("image/jpeg");
-        when(file.getOriginalFilename()).thenReturn("photo"); // No extension
-        when(file.getInputStream()).thenReturn(new java.io.ByteArrayInputStream(new byte[100]));
+        when(file.getContentType()).thenReturn("image/png");
+        when(imageStorage.store(file)).thenReturn("/uploads/blobs/12/34/1234.png");
+        savedUser.setProfilePictureUrl("/uploads/blobs/ab/cd/abcd.jpg");
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(savedUser));
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
-        String result = userService.uploadProfilePicture(1L, file);
+        userService.uploadProfilePicture(1L, file);
 
         // Assert
-        assertNotNull(result);
-        assertTrue(result.endsWith(".jpg")); // Should default to .jpg
+        assertEquals("/uploads/blobs/12/34/1234.png", savedUser.getProfilePictureUrl());
+        verify(imageStorage).release("/uploads/blobs/ab/cd/abcd.jpg");
     }
 }
-
@@ -0,0 +1,230 @@
+package com.team4.wildlifetracker.service;
+
+import com.team4.wildlifetracker.dto.UserResponse;
+import com.team4.wildlifetracker.event.UserChangedEvent;
+import com.team4.wildlifetracker.model.User;
+import com.team4.wildlifetracker.model.UserSpeciesCount;
+import com.team4.wildlifetracker.repository.SightingRepository;
+import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.repository.UserSpeciesCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserStatisticsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserSpeciesCountRepository speciesCountRepository;
+
+    @Mock
+    private SightingRepository sightingRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private UserStatisticsService userStatisticsService;
+
+    private User testUser;
+
+    // Helper method to set ID using reflection
+    private void setId(User user, Long id) {
+        try {
+            Field idField = User.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(user, id);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to set ID", e);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User("testuser", "password123");
+        setId(testUser, 1L);
+        lenient().when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+        lenient().when(userRepository.adjustStatistics(eq(1L), anyInt(), any())).thenReturn(1);
+        lenient().when(userRepository.findResponseById(1L))
+                .thenReturn(Optional.of(new UserResponse(1L, "testuser", null, null, null, 2, 1, null)));
+    }
+
+    // ==================== RECORD SIGHTING TESTS ====================
+
+    @Test
+    void testRecordSighting_UpsertsSpeciesCounter() {
+        // Act
+        userStatisticsService.recordSighting(1L, "Gray Wolf");
+
+        // Assert
+        verify(speciesCountRepository).add(1L, "Gray Wolf", 1);
+        verify(speciesCountRepository, never()).save(any(UserSpeciesCount.class));
+        verify(sightingRepository, never()).findByUserId(anyLong());
+        verify(userRepository).adjustStatistics(eq(1L), eq(1), any());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void testRecordSighting_WithoutSpecies() {
+        // Act
+        userStatisticsService.recordSighting(1L, null);
+
+        // Assert
+        verify(speciesCountRepository).add(1L, "", 1);
+        verify(userRepository).adjustStatistics(eq(1L), eq(1), any());
+    }
+
+    @Test
+    void testRecordSighting_PublishesNewTotals() {
+        // Act
+        userStatisticsService.recordSighting(1L, "Gray Wolf");
+
+        // Assert
+        ArgumentCaptor<UserChangedEvent> event = ArgumentCaptor.forClass(UserChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(UserChangedEvent.Type.SAVED, event.getValue().getType());
+        assertEquals(2, event.getValue().getUser().getTotalAnimalsLogged());
+    }
+
+    @Test
+    void testRecordSighting_UserNotFound() {
+        // Arrange
+        when(userRepository.adjustStatistics(eq(999L), anyInt(), any())).thenReturn(0);
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+            userStatisticsService.recordSighting(999L, "Gray Wolf");
+        });
+
+        assertEquals("User not found", exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testRecordSightings_BatchUpdatesUserOnce() {
+        // Act
+        userStatisticsService.recordSightings(1L, Map.of("Gray Wolf", 3, "Bald Eagle", 1));
+
+        // Assert
+        verify(speciesCountRepository).add(1L, "Gray Wolf", 3);
+        verify(speciesCountRepository).add(1L, "Bald Eagle", 1);
+        verify(speciesCountRepository, never()).save(any(UserSpeciesCount.class));
+        verify(userRepository, times(1)).adjustStatistics(eq(1L), eq(4), any());
+    }
+
+    // ==================== REMOVE SIGHTING TESTS ====================
+
+    @Test
+    void testRemoveSighting_LastOfSpecies() {
+        // Arrange
+        when(speciesCountRepository.decrement(1L, "Gray Wolf")).thenReturn(1);
+
+        // Act
+        userStatisticsService.removeSighting(1L, "Gray Wolf");
+
+        // Assert
+        verify(speciesCountRepository).deleteIfEmpty(1L, "Gray Wolf");
+        verify(userRepository).adjustStatistics(eq(1L), eq(-1), any());
+    }
+
+    @Test
+    void testRemoveSighting_NoCounterForSpecies() {
+        // Arrange
+        when(speciesCountRepository.decrement(1L, "Gray Wolf")).thenReturn(0);
+
+        // Act
+        userStatisticsService.removeSighting(1L, "Gray Wolf");
+
+        // Assert
+        verify(speciesCountRepository, never()).deleteIfEmpty(anyLong(), anyString());
+        verify(userRepository).adjustStatistics(eq(1L), eq(-1), any());
+    }
+
+    // ==================== CHANGE SPECIES TESTS ====================
+
+    @Test
+    void testChangeSpecies_MovesCounter() {
+        // Arrange
+        when(speciesCountRepository.decrement(1L, "Gray Wolf")).thenReturn(1);
+
+        // Act
+        userStatisticsService.changeSpecies(1L, "Gray Wolf", "Red Wolf");
+
+        // Assert
+        verify(speciesCountRepository).deleteIfEmpty(1L, "Gray Wolf");
+        verify(speciesCountRepository).add(1L, "Red Wolf", 1);
+        verify(userRepository).adjustStatistics(eq(1L), eq(0), any());
+    }
+
+    @Test
+    void testChangeSpecies_SameSpecies() {
+        // Act
+        userStatisticsService.changeSpecies(1L, "Gray Wolf", "Gray Wolf");
+
+        // Assert
+        verify(speciesCountRepository, never()).add(anyLong(), anyString(), anyLong());
+        verify(speciesCountRepository, never()).decrement(anyLong(), anyString());
+        verify(userRepository).adjustStatistics(eq(1L), eq(0), any());
+    }
+
+    // ==================== RECONCILE TESTS ====================
+
+    @Test
+    void testReconcileUser_NoDrift() {
+        // Arrange
+        when(sightingRepository.countSpeciesByUserId(1L))
+                .thenReturn(List.<Object[]>of(new Object[]{"Gray Wolf", 2L}));
+        when(speciesCountRepository.findByUserId(1L))
+                .thenReturn(List.of(new UserSpeciesCount(testUser, "Gray Wolf", 2L)));
+
+        // Act
+        boolean repaired = userStatisticsService.reconcileUser(1L);
+
+        // Assert
+        assertFalse(repaired);
+        verify(speciesCountRepository, never()).deleteByUserId(anyLong());
+        verify(userRepository, never()).setStatistics(anyLong(), anyInt(), anyInt());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testReconcileUser_RepairsDrift() {
+        // Arrange
+        when(sightingRepository.countSpeciesByUserId(1L)).thenReturn(List.<Object[]>of(
+                new Object[]{"Gray Wolf", 2L},
+                new Object[]{"Bald Eagle", 3L}));
+        when(speciesCountRepository.findByUserId(1L))
+                .thenReturn(List.of(new UserSpeciesCount(testUser, "Gray Wolf", 2L)));
+
+        // Act
+        boolean repaired = userStatisticsService.reconcileUser(1L);
+
+        // Assert
+        assertTrue(repaired);
+        verify(speciesCountRepository).deleteByUserId(1L);
+        verify(speciesCountRepository, times(2)).save(any(UserSpeciesCount.class));
+        verify(userRepository).setStatistics(1L, 5, 2);
+        verify(eventPublisher).publishEvent(any(UserChangedEvent.class));
+    }
+}
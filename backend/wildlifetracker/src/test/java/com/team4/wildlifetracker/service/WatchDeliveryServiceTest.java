@@ -0,0 +1,234 @@
+package com.team4.wildlifetracker.service;
+
+import com.team4.wildlifetracker.dto.SightingResponse;
+import com.team4.wildlifetracker.dto.UserResponse;
+import com.team4.wildlifetracker.dto.WatchResponse;
+import com.team4.wildlifetracker.event.NotificationEvent;
+import com.team4.wildlifetracker.event.SightingEvent;
+import com.team4.wildlifetracker.event.UserChangedEvent;
+import com.team4.wildlifetracker.event.WatchEvent;
+import com.team4.wildlifetracker.model.Notification;
+import com.team4.wildlifetracker.model.User;
+import com.team4.wildlifetracker.repository.NotificationBatchRepository;
+import com.team4.wildlifetracker.repository.UserRepository;
+import com.team4.wildlifetracker.repository.WatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WatchDeliveryServiceTest {
+
+    @Mock
+    private WatchRepository watchRepository;
+
+    @Mock
+    private NotificationBatchRepository notificationBatchRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private WatchDeliveryService watchDeliveryService;
+
+    // Helper method to set ID using reflection
+    private static User user(Long id) {
+        User user = new User("user" + id, "password123");
+        try {
+            Field idField = User.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(user, id);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to set ID", e);
+        }
+        return user;
+    }
+
+    private static SightingResponse sighting(Long id, String species, Integer x, Integer y, Long userId) {
+        return new SightingResponse(id, species, "Ridge", null, null, null, null,
+                LocalDateTime.now(), x, y, userId, "user" + userId, null);
+    }
+
+    private void watch(long watchId, long userId, String species, Integer minX, Integer minY, Integer maxX, Integer maxY) {
+        WatchResponse watch = new WatchResponse();
+        watch.setId(watchId);
+        watch.setUserId(userId);
+        watch.setSpecies(species);
+        watch.setMinX(minX);
+        watch.setMinY(minY);
+        watch.setMaxX(maxX);
+        watch.setMaxY(maxY);
+        watchDeliveryService.onWatchChanged(new WatchEvent(WatchEvent.Type.CREATED, watch));
+    }
+
+    @BeforeEach
+    void setUp() {
+        // The worker thread isn't started; tests call deliver() directly
+        watchDeliveryService = new WatchDeliveryService(watchRepository, notificationBatchRepository,
+                userRepository, eventPublisher, transactionManager, 100, 0);
+        lenient().when(userRepository.getReferenceById(anyLong()))
+                .thenAnswer(invocation -> user(invocation.getArgument(0)));
+        lenient().when(notificationBatchRepository.insertAll(anyList()))
+                .thenAnswer(invocation -> {
+                    List<Notification> batch = invocation.getArgument(0);
+                    return batch.stream().map(n -> 100L + n.getUser().getId()).toList();
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Notification> insertedNotifications() {
+        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationBatchRepository).insertAll(captor.capture());
+        return captor.getValue();
+    }
+
+    // ==================== DELIVERY TESTS ====================
+
+    @Test
+    void testDeliver_SingleSightingNotifiesEachWatcher() {
+        // Arrange
+        watch(1L, 2L, "Gray Wolf", null, null, null, null);
+        watch(2L, 3L, null, 30, 50, 50, 70);
+        watch(3L, 4L, "Moose", null, null, null, null);
+
+        // Act
+        int delivered = watchDeliveryService.deliver(List.of(sighting(10L, "Gray Wolf", 40, 60, 1L)));
+
+        // Assert
+        assertEquals(2, delivered);
+        List<Notification> notifications = insertedNotifications();
+        assertEquals(2L, notifications.get(0).getUser().getId());
+        assertEquals(3L, notifications.get(1).getUser().getId());
+        assertEquals("New Gray Wolf sighting at Ridge", notifications.get(0).getMessage());
+
+        ArgumentCaptor<NotificationEvent> events = ArgumentCaptor.forClass(NotificationEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertEquals(102L, events.getAllValues().get(0).getNotification().getId());
+        assertEquals(3L, events.getAllValues().get(1).getUserId());
+    }
+
+    @Test
+    void testDeliver_BurstIsCoalescedPerWatcher() {
+        // Arrange
+        watch(1L, 2L, null, 0, 0, 50, 50);
+
+        // Act
+        int delivered = watchDeliveryService.deliver(List.of(
+                sighting(10L, "Gray Wolf", 10, 10, 1L),
+                sighting(11L, "Moose", 20, 20, 1L),
+                sighting(12L, "Gray Wolf", 30, 30, 1L)));
+
+        // Assert
+        assertEquals(1, delivered);
+        List<Notification> notifications = insertedNotifications();
+        assertEquals(1, notifications.size());
+        assertEquals("3 new sightings you are watching: Gray Wolf, Moose", notifications.get(0).getMessage());
+    }
+
+    @Test
+    void testDeliver_ReporterIsNotNotified() {
+        // Arrange
+        watch(1L, 1L, "Gray Wolf", null, null, null, null);
+
+        // Act
+        int delivered = watchDeliveryService.deliver(List.of(sighting(10L, "Gray Wolf", null, null, 1L)));
+
+        // Assert
+        assertEquals(0, delivered);
+        verify(notificationBatchRepository, never()).insertAll(anyList());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testDeliver_SightingWithoutPositionOnlyMatchesWatchesWithoutArea() {
+        // Arrange
+        watch(1L, 2L, "Moose", null, null, null, null);
+        watch(2L, 3L, "Moose", 0, 0, 100, 100);
+
+        // Act
+        watchDeliveryService.deliver(List.of(sighting(10L, "Moose", null, null, 1L)));
+
+        // Assert
+        List<Notification> notifications = insertedNotifications();
+        assertEquals(1, notifications.size());
+        assertEquals(2L, notifications.get(0).getUser().getId());
+    }
+
+    @Test
+    void testDeliver_DeletedWatchesNoLongerMatch() {
+        // Arrange
+        watch(1L, 2L, "Moose", null, null, null, null);
+        watch(2L, 3L, "Moose", null, null, null, null);
+        WatchResponse removed = new WatchResponse();
+        removed.setId(1L);
+        watchDeliveryService.onWatchChanged(new WatchEvent(WatchEvent.Type.DELETED, removed));
+        UserResponse deletedUser = new UserResponse();
+        deletedUser.setId(3L);
+        watchDeliveryService.onUserChanged(new UserChangedEvent(UserChangedEvent.Type.DELETED, deletedUser));
+
+        // Act
+        int delivered = watchDeliveryService.deliver(List.of(sighting(10L, "Moose", 5, 5, 1L)));
+
+        // Assert
+        assertEquals(0, delivered);
+        verifyNoInteractions(notificationBatchRepository);
+    }
+
+    // ==================== QUEUE TESTS ====================
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testOnSightingChanged_QueuesOnlyNewlyReportedSightings() throws Exception {
+        // Act
+        watchDeliveryService.onSightingChanged(new SightingEvent(SightingEvent.Type.CREATED,
+                sighting(10L, "Moose", 5, 5, 1L)));
+        watchDeliveryService.onSightingChanged(new SightingEvent(SightingEvent.Type.CREATED,
+                sighting(11L, "Moose", 5, 5, 1L), true));
+        watchDeliveryService.onSightingChanged(new SightingEvent(SightingEvent.Type.UPDATED,
+                sighting(10L, "Elk", 5, 5, 1L)));
+
+        // Assert
+        Field queueField = WatchDeliveryService.class.getDeclaredField("queue");
+        queueField.setAccessible(true);
+        BlockingQueue<SightingResponse> queue = (BlockingQueue<SightingResponse>) queueField.get(watchDeliveryService);
+        assertEquals(1, queue.size());
+        assertEquals(10L, queue.peek().getId());
+    }
+
+    // ==================== MESSAGE TESTS ====================
+
+    @Test
+    void testMessage_SummaryListsAtMostThreeSpecies() {
+        // Act
+        String message = WatchDeliveryService.message(List.of(
+                sighting(1L, "Gray Wolf", 1, 1, 1L),
+                sighting(2L, "Moose", 1, 1, 1L),
+                sighting(3L, "Elk", 1, 1, 1L),
+                sighting(4L, "Lynx", 1, 1, 1L),
+                sighting(5L, "Otter", 1, 1, 1L)));
+
+        // Assert
+        assertEquals("5 new sightings you are watching: Gray Wolf, Moose, Elk and 2 more", message);
+    }
+}
@@ -0,0 +1,112 @@
+package com.team4.wildlifetracker.storage;
+
+import com.team4.wildlifetracker.repository.ImageBlobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ContentAddressedImageStorageTest {
+
+    @Autowired
+    private ImageBlobRepository blobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path root;
+
+    private ContentAddressedImageStorage imageStorage;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() {
+        // Files go to a temporary directory instead of the served uploads directory
+        imageStorage = new ContentAddressedImageStorage(blobRepository, transactionManager, root);
+        // Unique per test so blobs from other tests never collide
+        content = ("image-" + UUID.randomUUID()).getBytes();
+    }
+
+    private Path fileOf(String url) {
+        return root.resolve(url.substring(ContentAddressedImageStorage.URL_PREFIX.length()));
+    }
+
+    private MockMultipartFile upload(String name, byte[] bytes) {
+        return new MockMultipartFile("file", name, "image/png", bytes);
+    }
+
+    @Test
+    void testStore_IdenticalContentStoredOnce() throws Exception {
+        String first = imageStorage.store(upload("a.png", content));
+        String second = imageStorage.store(upload("b.png", content));
+
+        assertEquals(first, second);
+        assertTrue(first.startsWith(ContentAddressedImageStorage.URL_PREFIX));
+        assertTrue(first.endsWith(".png"));
+        assertTrue(Files.exists(fileOf(first)));
+        assertEquals(2, blobRepository.findBySha256(ContentAddressedImageStorage.hashOf(first)).orElseThrow().getRefCount());
+    }
+
+    @Test
+    void testStore_DifferentContentStoredSeparately() throws Exception {
+        String first = imageStorage.store(upload("a.png", content));
+        String second = imageStorage.store(upload("a.png", (new String(content) + "!").getBytes()));
+
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void testRelease_DeletesWithLastReference() throws Exception {
+        String url = imageStorage.store(upload("a.png", content));
+        imageStorage.store(upload("a.png", content));
+
+        assertFalse(imageStorage.release(url));
+        assertTrue(Files.exists(fileOf(url)));
+
+        assertTrue(imageStorage.release(url));
+        assertFalse(Files.exists(fileOf(url)));
+        assertTrue(blobRepository.findBySha256(ContentAddressedImageStorage.hashOf(url)).isEmpty());
+
+        assertFalse(imageStorage.release(url));
+    }
+
+    @Test
+    void testAcquire_FirstReferrerClaimsTheUpload() throws Exception {
+        String url = imageStorage.store(upload("a.png", content));
+
+        // The first sighting takes over the upload's reference, a second one reusing the URL adds its own
+        assertTrue(imageStorage.acquire(url));
+        assertTrue(imageStorage.acquire(url));
+        assertEquals(2, blobRepository.findBySha256(ContentAddressedImageStorage.hashOf(url)).orElseThrow().getRefCount());
+
+        assertFalse(imageStorage.release(url));
+        assertTrue(Files.exists(fileOf(url)));
+        assertTrue(imageStorage.release(url));
+        assertFalse(Files.exists(fileOf(url)));
+    }
+
+    @Test
+    void testAcquire_IgnoresUnknownBlobsAndOtherUrls() {
+        assertFalse(imageStorage.acquire("/uploads/blobs/ab/cd/abcd" + "0".repeat(60) + ".png"));
+        assertFalse(imageStorage.acquire("/uploads/profile-pictures/profile_1.jpg"));
+        assertFalse(imageStorage.acquire(null));
+    }
+
+    @Test
+    void testRelease_IgnoresOtherUrls() {
+        assertFalse(imageStorage.isStored("/uploads/profile-pictures/profile_1.jpg"));
+        assertFalse(imageStorage.release("/uploads/profile-pictures/profile_1.jpg"));
+        assertFalse(imageStorage.release("/uploads/blobs/../secret.png"));
+    }
+}
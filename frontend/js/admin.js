@@ -1,6 +1,7 @@
 // Admin Dashboard JavaScript
 
 const API_BASE = 'http://localhost:8080/api';
+const TABLE_PAGE_SIZE = 100;
 
 // Load all dashboard data
 async function loadDashboard() {
@@ -28,11 +29,8 @@ async function loadDashboard() {
     // Display user leaderboard
     displayLeaderboard();
     
-    // Display all sightings in table
-    displaySightingsTable(sightings);
-    
-    // Setup search functionality
-    setupSearch(sightings);
+    // Display the most recent sightings in table
+    loadSightingsTable();
     
   } catch (error) {
     console.error('Error loading dashboard:', error);
@@ -124,16 +122,15 @@ async function displayLeaderboard() {
 }
 
 // Display sightings in table
-function displaySightingsTable(sightings, filteredSightings = null) {
+function displaySightingsTable(sightings) {
   const tbody = document.getElementById('sightingsTableBody');
-  const dataToShow = filteredSightings || sightings;
   
-  if (dataToShow.length === 0) {
+  if (sightings.length === 0) {
     tbody.innerHTML = '<tr><td colspan="5" class="empty-message">No sightings found</td></tr>';
     return;
   }
   
-  tbody.innerHTML = dataToShow.map(sighting => {
+  tbody.innerHTML = sightings.map(sighting => {
     const date = sighting.timestamp 
       ? new Date(sighting.timestamp).toLocaleDateString('en-US', { year: 'numeric', month: '2-digit', day: '2-digit' })
       : 'N/A';
@@ -155,32 +152,52 @@ function displaySightingsTable(sightings, filteredSightings = null) {
 }
 
 // Setup search functionality
-function setupSearch(sightings) {
+// Filtering runs on the server, so the table never needs the full sighting list
+function setupSearch() {
   const searchInput = document.getElementById('searchInput');
-  let allSightings = sightings;
+  let debounceTimer = null;
   
   searchInput.addEventListener('input', (e) => {
-    const query = e.target.value.toLowerCase().trim();
-    
-    if (query === '') {
-      displaySightingsTable(allSightings);
-      return;
-    }
-    
-    const filtered = allSightings.filter(sighting => {
-      const species = (sighting.species || '').toLowerCase();
-      const location = (sighting.location || '').toLowerCase();
-      const displayName = (sighting.displayName || '').toLowerCase();
-      
-      return species.includes(query) || 
-             location.includes(query) || 
-             displayName.includes(query);
-    });
-    
-    displaySightingsTable(allSightings, filtered);
+    const query = e.target.value.trim();
+    clearTimeout(debounceTimer);
+    debounceTimer = setTimeout(() => {
+      if (query === '') {
+        loadSightingsTable();
+      } else {
+        searchSightingsTable(query);
+      }
+    }, 300);
   });
 }
 
+// Load the most recent sightings into the table
+async function loadSightingsTable() {
+  try {
+    const response = await fetch(`${API_BASE}/sightings/query?limit=${TABLE_PAGE_SIZE}`);
+    if (!response.ok) {
+      throw new Error('Failed to load sightings');
+    }
+    const page = await response.json();
+    displaySightingsTable(page.items);
+  } catch (error) {
+    console.error('Error loading sightings table:', error);
+  }
+}
+
+// Load the best matches for a search into the table
+async function searchSightingsTable(query) {
+  try {
+    const response = await fetch(`${API_BASE}/search?query=${encodeURIComponent(query)}&limit=${TABLE_PAGE_SIZE}`);
+    if (!response.ok) {
+      throw new Error('Search failed');
+    }
+    const page = await response.json();
+    displaySightingsTable(page.items);
+  } catch (error) {
+    console.error('Search error:', error);
+  }
+}
+
 // View sighting details
 function viewSighting(id) {
   // For now, just show an alert. You can create a modal or detail page later
@@ -243,6 +260,7 @@ function showError(message) {
 
 // Initialize on page load
 document.addEventListener('DOMContentLoaded', () => {
+  setupSearch();
   loadDashboard();
 });
 
@@ -27,7 +27,8 @@ const LOCATION_COORDINATES = {
   'EVK': { x: 68, y: 55 },
 };
 
-let allSightings = [];
+let allSightings = [];     // markers for the part of the map currently on screen
+let recentSightings = [];  // newest sightings for the grid
 let filteredSightings = [];
 let searchHistory = [];
 
@@ -45,23 +46,257 @@ document.addEventListener('DOMContentLoaded', () => {
   setupSearch();
   loadSearchHistory();
   
-  // Set up live updates (refresh every 30 seconds)
-  setInterval(loadSightings, 30000);
+  // Scrolling or resizing changes which part of the map is visible and at what zoom;
+  // clusters cover the whole map, so scrolling only matters for individual markers
+  window.addEventListener('scroll', () => {
+    if (!mapClusters) scheduleMapReload();
+  }, { passive: true });
+  window.addEventListener('resize', () => {
+    scheduleMapReload();
+    loadHeatmap();
+  });
+  
+  // Set up live updates pushed by the server
+  connectLiveUpdates();
 });
 
-// Load sightings from API
-async function loadSightings() {
+// Apply sighting changes as the server pushes them, instead of reloading every sighting
+function connectLiveUpdates() {
+  if (!window.EventSource) {
+    setInterval(loadSightings, 30000);
+    return;
+  }
+
+  const source = new EventSource(`${API_BASE}/live`);
+  let connectedBefore = false;
+
+  source.onopen = () => {
+    // Changes made while reconnecting were missed, so reload once
+    if (connectedBefore) loadSightings();
+    connectedBefore = true;
+  };
+
+  const upsert = (event) => {
+    const sighting = JSON.parse(event.data);
+    allSightings = allSightings.filter(s => s.id !== sighting.id);
+    if (isInMapBounds(sighting)) allSightings.unshift(sighting);
+    recentSightings = newestFirst([sighting, ...recentSightings.filter(s => s.id !== sighting.id)])
+      .slice(0, RECENT_SIGHTINGS);
+    refreshSightings();
+  };
+  source.addEventListener('sighting.created', upsert);
+  source.addEventListener('sighting.updated', upsert);
+  source.addEventListener('sighting.deleted', (event) => {
+    const sighting = JSON.parse(event.data);
+    allSightings = allSightings.filter(s => s.id !== sighting.id);
+    if (recentSightings.some(s => s.id === sighting.id)) {
+      // Refill the grid with the next newest sighting
+      recentSightings = recentSightings.filter(s => s.id !== sighting.id);
+      loadRecentSightings();
+    }
+    refreshSightings();
+  });
+
+  // Sent when this page fell too far behind; its missed changes were dropped
+  source.addEventListener('resync', loadSightings);
+}
+
+function isSearching() {
+  const searchInput = document.getElementById('searchInput');
+  return !!(searchInput && searchInput.value.trim());
+}
+
+// Redraw after a pushed change; search results on screen stay until the next search
+function refreshSightings() {
+  loadHeatmap();
+  // Cluster counts come from the server, so fetch them again once the changes settle
+  if (mapClusters) scheduleMapReload();
+  if (isSearching()) return;
+
+  filteredSightings = allSightings;
+  if (!mapClusters) displayMapMarkers(allSightings);
+  displaySightingsGrid(recentSightings);
+}
+
+// Load the markers on screen and the newest sightings; neither downloads every sighting
+function loadSightings() {
+  loadMapLayer();
+  loadRecentSightings();
+  loadHeatmap();
+}
+
+const RECENT_SIGHTINGS = 10;
+
+async function loadRecentSightings() {
   try {
-    const response = await fetch(`${API_BASE}/sightings`);
+    const response = await fetch(`${API_BASE}/sightings/query?limit=${RECENT_SIGHTINGS}`);
     if (!response.ok) {
-      throw new Error('Failed to load sightings');
+      throw new Error('Failed to load recent sightings');
     }
     
-    allSightings = await response.json();
-    filteredSightings = allSightings;
+    recentSightings = (await response.json()).items;
+    if (!isSearching()) displaySightingsGrid(recentSightings);
     
+  } catch (error) {
+    console.error('Error loading sightings:', error);
+    showError('Failed to load sightings');
+  }
+}
+
+// Map zoom levels follow the displayed size: zoom z spans the map width with 2^z tiles of 256px
+const MAP_TILE_SIZE = 256;
+const MARKER_MAX_ZOOM = 4;  // past this the server stops thinning markers
+// Below this zoom the map shows one badge per cluster instead of individual markers
+const INDIVIDUAL_MARKER_ZOOM = 3;
+const CLUSTER_BASE_CELL_SIZE = 32;  // percent of the map per cluster cell at zoom 0, halving per level
+const MAP_RELOAD_DELAY_MS = 200;
+
+let mapBounds = null;
+let mapClusters = null;  // clusters on screen, null while individual markers are shown
+let mapReloadTimer = null;
+let markerRequest = 0;
+
+function mapZoom(maxZoom) {
+  const mapImg = document.getElementById('campusMap');
+  const width = (mapImg && mapImg.getBoundingClientRect().width) || MAP_TILE_SIZE;
+  return Math.max(0, Math.min(maxZoom, Math.ceil(Math.log2(width / MAP_TILE_SIZE))));
+}
+
+// Part of the map inside the window, in percent of the map; null when it is scrolled out of view
+function visibleMapBounds() {
+  const rect = document.getElementById('campusMap').getBoundingClientRect();
+  const left = Math.max(rect.left, 0);
+  const right = Math.min(rect.right, window.innerWidth);
+  const top = Math.max(rect.top, 0);
+  const bottom = Math.min(rect.bottom, window.innerHeight);
+  if (!rect.width || !rect.height || left >= right || top >= bottom) return null;
+
+  const percent = (offset, size) => Math.max(0, Math.min(100, offset / size * 100));
+  return {
+    minX: Math.floor(percent(left - rect.left, rect.width)),
+    minY: Math.floor(percent(top - rect.top, rect.height)),
+    maxX: Math.ceil(percent(right - rect.left, rect.width)),
+    maxY: Math.ceil(percent(bottom - rect.top, rect.height))
+  };
+}
+
+function isInMapBounds(sighting) {
+  return !!mapBounds && sighting.pixelX != null && sighting.pixelY != null &&
+         sighting.pixelX >= mapBounds.minX && sighting.pixelX <= mapBounds.maxX &&
+         sighting.pixelY >= mapBounds.minY && sighting.pixelY <= mapBounds.maxY;
+}
+
+function scheduleMapReload() {
+  clearTimeout(mapReloadTimer);
+  mapReloadTimer = setTimeout(loadMapLayer, MAP_RELOAD_DELAY_MS);
+}
+
+// Zoomed out, show server-side clusters; zoomed in, individual markers for the visible part of the map
+async function loadMapLayer() {
+  const mapImg = document.getElementById('campusMap');
+  if (!mapImg.complete) {
+    mapImg.addEventListener('load', loadMapLayer, { once: true });
+    return;
+  }
+
+  const request = ++markerRequest;
+  const zoom = mapZoom(MARKER_MAX_ZOOM);
+  if (zoom < INDIVIDUAL_MARKER_ZOOM) {
+    loadMapClusters(zoom, request);
+    return;
+  }
+
+  const bounds = visibleMapBounds();
+  try {
+    let sightings = [];
+    if (bounds) {
+      const params = new URLSearchParams({ ...bounds, zoom });
+      const response = await fetch(`${API_BASE}/sightings/viewport?${params}`);
+      if (!response.ok) {
+        throw new Error('Failed to load sightings');
+      }
+      sightings = await response.json();
+    }
+    // A later scroll or resize already asked for newer markers
+    if (request !== markerRequest) return;
+
+    mapBounds = bounds;
+    mapClusters = null;
+    allSightings = sightings;
+    if (isSearching()) return;
+    filteredSightings = allSightings;
     displayMapMarkers(allSightings);
-    displaySightingsGrid(allSightings);
+    
+  } catch (error) {
+    console.error('Error loading sightings:', error);
+    showError('Failed to load sightings');
+  }
+}
+
+async function loadMapClusters(zoom, request) {
+  try {
+    const response = await fetch(`${API_BASE}/map/clusters?zoom=${zoom}`);
+    if (!response.ok) {
+      throw new Error('Failed to load map clusters');
+    }
+    const clusters = await response.json();
+    if (request !== markerRequest) return;
+
+    mapBounds = null;
+    mapClusters = clusters;
+    allSightings = [];
+    if (isSearching()) return;
+    filteredSightings = allSightings;
+    displayMapClusters(clusters, zoom);
+    
+  } catch (error) {
+    console.error('Error loading map clusters:', error);
+    showError('Failed to load sightings');
+  }
+}
+
+// One badge per cluster with its sighting count and most common species
+function displayMapClusters(clusters, zoom) {
+  const markersContainer = document.getElementById('sightingMarkers');
+  markersContainer.innerHTML = '';
+  
+  clusters.forEach(cluster => {
+    const badge = document.createElement('div');
+    badge.className = 'sighting-cluster';
+    badge.style.left = `${cluster.x}%`;
+    badge.style.top = `${cluster.y}%`;
+    badge.title = `${cluster.count} sighting${cluster.count === 1 ? '' : 's'}, mostly ${cluster.dominantSpecies || 'unknown species'}`;
+    
+    const count = document.createElement('span');
+    count.className = 'sighting-cluster-count';
+    count.textContent = cluster.count;
+    const species = document.createElement('span');
+    species.className = 'sighting-cluster-species';
+    species.textContent = cluster.dominantSpecies || '';
+    badge.append(count, species);
+    
+    badge.onclick = () => showClusterSightings(cluster, zoom);
+    markersContainer.appendChild(badge);
+  });
+}
+
+// List a cluster's sightings in the grid, fetched for the grid cell the cluster was built from
+async function showClusterSightings(cluster, zoom) {
+  const cellSize = CLUSTER_BASE_CELL_SIZE >> zoom;
+  const minX = Math.floor(cluster.x / cellSize) * cellSize;
+  const minY = Math.floor(cluster.y / cellSize) * cellSize;
+  const params = new URLSearchParams({
+    minX, minY, maxX: minX + cellSize - 1, maxY: minY + cellSize - 1, zoom: MARKER_MAX_ZOOM
+  });
+  
+  try {
+    const response = await fetch(`${API_BASE}/sightings/viewport?${params}`);
+    if (!response.ok) {
+      throw new Error('Failed to load sightings');
+    }
+    filteredSightings = await response.json();
+    displaySightingsGrid(filteredSightings);
+    document.getElementById('sightingsGrid').scrollIntoView({ behavior: 'smooth' });
     
   } catch (error) {
     console.error('Error loading sightings:', error);
@@ -84,6 +319,37 @@ function displayMapMarkers(sightings) {
   }
 }
 
+// Heatmap tiles are rendered by the server; zoom z covers the map with 2^z x 2^z tiles
+const HEATMAP_MAX_ZOOM = 3;
+
+// Lay heatmap tiles over the map at the zoom level closest to its displayed size
+function loadHeatmap() {
+  const layer = document.getElementById('heatmapLayer');
+  const mapImg = document.getElementById('campusMap');
+  if (!layer || !mapImg) return;
+
+  const zoom = mapZoom(HEATMAP_MAX_ZOOM);
+  const tiles = 1 << zoom;
+  const tileSpan = 100 / tiles;
+
+  // Tiles revalidate by ETag, so re-requesting unchanged ones is cheap
+  const fragment = document.createDocumentFragment();
+  for (let y = 0; y < tiles; y++) {
+    for (let x = 0; x < tiles; x++) {
+      const tile = document.createElement('img');
+      tile.className = 'heatmap-tile';
+      tile.alt = '';
+      tile.src = `${API_BASE}/map/heatmap/${zoom}/${x}/${y}.png`;
+      tile.style.left = `${x * tileSpan}%`;
+      tile.style.top = `${y * tileSpan}%`;
+      tile.style.width = `${tileSpan}%`;
+      tile.style.height = `${tileSpan}%`;
+      fragment.appendChild(tile);
+    }
+  }
+  layer.replaceChildren(fragment);
+}
+
 // Place markers on the map
 function placeMarkers(sightings, mapImg) {
   const markersContainer = document.getElementById('sightingMarkers');
@@ -147,14 +413,7 @@ function displaySightingsGrid(sightings) {
     return;
   }
   
-  // Sort by date (newest first)
-  const sorted = [...sightings].sort((a, b) => {
-    const dateA = new Date(a.timestamp || 0);
-    const dateB = new Date(b.timestamp || 0);
-    return dateB - dateA;
-  });
-  
-  grid.innerHTML = sorted.slice(0, 10).map(sighting => {
+  grid.innerHTML = newestFirst(sightings).slice(0, RECENT_SIGHTINGS).map(sighting => {
     const date = sighting.timestamp 
       ? new Date(sighting.timestamp).toLocaleDateString('en-US', { year: 'numeric', month: '2-digit', day: '2-digit' })
       : 'Unknown';
@@ -174,10 +433,20 @@ function displaySightingsGrid(sightings) {
   }).join('');
 }
 
+// Sort by date (newest first)
+function newestFirst(sightings) {
+  return [...sightings].sort((a, b) => {
+    const dateA = new Date(a.timestamp || 0);
+    const dateB = new Date(b.timestamp || 0);
+    return dateB - dateA;
+  });
+}
+
 // Show sighting details modal by ID
 async function showSightingDetailsById(id) {
   // Find sighting in current list
   const sighting = allSightings.find(s => s.id === id) || 
+                   recentSightings.find(s => s.id === id) ||
                    filteredSightings.find(s => s.id === id);
   
   if (sighting) {
@@ -213,7 +482,8 @@ function showSightingDetails(sighting) {
   // Match the profile page logic: convert relative paths to absolute URLs
   let imageHtml = '';
   if (sighting.imageUrl) {
-    let imageSrc = sighting.imageUrl;
+    // Prefer the web-sized variant once the server has generated it
+    let imageSrc = sighting.webImageUrl || sighting.imageUrl;
     // If it's a relative path, make it absolute
     if (!imageSrc.startsWith('http') && !imageSrc.startsWith('data:')) {
       imageSrc = `http://localhost:8080${imageSrc}`;
@@ -347,11 +617,12 @@ async function performSearch(query) {
   }
 }
 
-// Client-side search fallback
+// Client-side search fallback over the sightings already loaded
 function performClientSearch(query) {
   const lowerQuery = query.toLowerCase();
+  const loaded = [...allSightings, ...recentSightings.filter(r => !allSightings.some(s => s.id === r.id))];
   
-  filteredSightings = allSightings.filter(sighting => {
+  filteredSightings = loaded.filter(sighting => {
     const species = (sighting.species || '').toLowerCase();
     const location = (sighting.location || '').toLowerCase();
     const description = (sighting.description || '').toLowerCase();
@@ -14,37 +14,29 @@ async function loadProfile() {
   try {
     const userId = getCurrentUserId();
     
-    // Fetch user info
-    const userResponse = await fetch(`${API_BASE}/users/${userId}`);
-    if (!userResponse.ok) {
-      throw new Error('Failed to load user info');
+    // User, stats, rank and recent sightings in one request
+    const response = await fetch(`${API_BASE}/profile/${userId}/view`);
+    if (!response.ok) {
+      throw new Error('Failed to load profile');
     }
-    const userData = await userResponse.json();
-    
-    // Fetch user's sightings
-    const sightingsResponse = await fetch(`${API_BASE}/sightings/user/${userId}`);
-    if (!sightingsResponse.ok) {
-      throw new Error('Failed to load sightings');
-    }
-    const sightings = await sightingsResponse.json();
+    const view = await response.json();
+    const userData = view.user;
     
     // Combine data for display
     const profileData = {
       displayName: userData.displayName || 'Wildlife Observer',
       bio: userData.bio || 'No bio yet. Add a description in settings!',
       profilePictureUrl: userData.profilePictureUrl,
-      recentSightings: sightings,
+      recentSightings: view.recentSightings || [],
+      speciesCounts: view.speciesCounts || {},
       statistics: {
         totalSightings: userData.totalAnimalsLogged || 0,
-        uniqueSpecies: userData.uniqueSpeciesCount || 0
+        uniqueSpecies: userData.uniqueSpeciesCount || 0,
+        favoriteSpecies: view.favoriteSpecies,
+        favoriteSpeciesCount: view.favoriteSpeciesCount
       }
     };
     
-    console.log('Sightings received:', sightings);
-    sightings.forEach((s, i) => {
-      console.log(`Sighting ${i}:`, s.species, 'ImageUrl:', s.imageUrl);
-    });
-    
     displayProfile(profileData);
   } catch (error) {
     console.error('Error loading profile:', error);
@@ -59,7 +51,8 @@ async function loadProfile() {
         favoriteSpecies: null,
         favoriteSpeciesCount: 0
       },
-      recentSightings: []
+      recentSightings: [],
+      speciesCounts: {}
     });
   }
 }
@@ -99,9 +92,9 @@ function displayProfile(data) {
     favoriteSpeciesCountEl.textContent = '0 sightings';
   }
   
-  // Species list - calculate from sightings
+  // Species list - counts across all of the user's sightings
   const sightings = data.recentSightings || [];
-  displaySpeciesList(sightings);
+  displaySpeciesList(data.speciesCounts || {});
   
   // Recent sightings
   displayRecentSightings(sightings);
@@ -111,22 +104,16 @@ function displayProfile(data) {
 }
 
 // Display species list
-function displaySpeciesList(sightings) {
+function displaySpeciesList(speciesCounts) {
   const container = document.getElementById('speciesList');
+  const entries = Object.entries(speciesCounts);
   
-  if (sightings.length === 0) {
+  if (entries.length === 0) {
     container.innerHTML = '<p class="empty-message">No sightings yet. Start exploring campus!</p>';
     return;
   }
   
-  // Count species from sightings
-  const speciesMap = {};
-  sightings.forEach(s => {
-    const species = s.species || 'Unknown Species';
-    speciesMap[species] = (speciesMap[species] || 0) + 1;
-  });
-  
-  container.innerHTML = Object.entries(speciesMap).map(([species, count]) => 
+  container.innerHTML = entries.map(([species, count]) => 
     `<div class="species-item">${species} (${count})</div>`
   ).join('');
 }
@@ -142,8 +129,10 @@ function displayRecentSightings(sightings) {
   
   container.innerHTML = sightings.map(sighting => {
     const date = new Date(sighting.timestamp).toLocaleDateString();
+    // Thumbnails are generated after upload, so fall back to the original until one exists
+    const cardUrl = sighting.thumbnailUrl || sighting.imageUrl;
     // Ensure imageUrl is absolute URL
-    const imageUrl = sighting.imageUrl ? (sighting.imageUrl.startsWith('http') ? sighting.imageUrl : `http://localhost:8080${sighting.imageUrl}`) : null;
+    const imageUrl = cardUrl ? (cardUrl.startsWith('http') ? cardUrl : `http://localhost:8080${cardUrl}`) : null;
     const imageHtml = imageUrl 
       ? `<img src="${imageUrl}" alt="${sighting.species}" class="sighting-image" />`
       : `<div class="sighting-image" style="background: #e0e0e0; display: flex; align-items: center; justify-content: center; color: #999;">No Image</div>`;